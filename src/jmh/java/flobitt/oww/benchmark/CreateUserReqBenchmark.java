@@ -0,0 +1,78 @@
+package flobitt.oww.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flobitt.oww.domain.user.dto.req.CreateUserReq;
+import flobitt.oww.domain.user.entity.User;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CreateUserReqBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ObjectMapper objectMapper;
+
+    private CreateUserReq validReq;
+    // 비밀번호 @Pattern 전방탐색이 끝까지 실패하는 경우 (특수문자 없음)
+    private CreateUserReq invalidPasswordReq;
+    private String json;
+
+    @Setup
+    public void setUp() throws Exception {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        validReq = CreateUserReq.builder()
+                .userLoginId("benchmark_user")
+                .email("benchmark@oww.test")
+                .password("Passw0rd!Passw0rd!")
+                .build();
+        invalidPasswordReq = CreateUserReq.builder()
+                .userLoginId("benchmark_user")
+                .email("benchmark@oww.test")
+                .password("Passw0rdPassw0rdPassw0rdPassw0rd")
+                .build();
+        json = objectMapper.writeValueAsString(validReq);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateUserReq>> validateValid() {
+        return validator.validate(validReq);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateUserReq>> validateInvalidPassword() {
+        return validator.validate(invalidPasswordReq);
+    }
+
+    @Benchmark
+    public User toEntity() {
+        return CreateUserReq.toEntity(validReq, "$2a$10$benchmarkEncodedPasswordHashValue", "ko");
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return objectMapper.writeValueAsString(validReq);
+    }
+
+    @Benchmark
+    public CreateUserReq deserialize() throws Exception {
+        return objectMapper.readValue(json, CreateUserReq.class);
+    }
+}
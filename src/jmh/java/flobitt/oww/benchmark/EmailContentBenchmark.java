@@ -0,0 +1,31 @@
+package flobitt.oww.benchmark;
+
+import flobitt.oww.global.mail.MailTemplate;
+import flobitt.oww.global.mail.MailTemplateRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmailContentBenchmark {
+
+    private MailTemplate template;
+    private Map<String, String> values;
+
+    @Setup
+    public void setUp() {
+        template = new MailTemplateRegistry().get("verification", Locale.KOREAN);
+        values = Map.of(
+                "verificationUrl", "https://oww.example.com/email-verifications/eyJhbGciOiJIUzI1NiJ9.benchmark.token",
+                "expiryHours", "24");
+    }
+
+    @Benchmark
+    public String renderVerificationEmail() {
+        return template.render(values);
+    }
+}
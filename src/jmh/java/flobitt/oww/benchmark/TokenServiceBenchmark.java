@@ -0,0 +1,43 @@
+package flobitt.oww.benchmark;
+
+import flobitt.oww.domain.user.entity.VerificationType;
+import flobitt.oww.domain.user.service.TokenService;
+import flobitt.oww.global.jwt.VerificationKeyRing;
+import flobitt.oww.global.properties.AppProperties;
+import flobitt.oww.global.properties.JwtProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenServiceBenchmark {
+
+    private TokenService tokenService;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setVerificationKey("benchmark-verification-key-0123456789-abcdefghijklmnopqrstuvwxyz");
+        AppProperties appProperties = new AppProperties();
+        appProperties.setVerificationTokenExpiry(24);
+
+        tokenService = new TokenService(new VerificationKeyRing(jwtProperties), appProperties);
+        userId = UUID.randomUUID();
+        token = tokenService.generateVerificationToken(userId, "user@oww.test", VerificationType.SIGNUP);
+    }
+
+    @Benchmark
+    public String generateVerificationToken() {
+        return tokenService.generateVerificationToken(userId, "user@oww.test", VerificationType.SIGNUP);
+    }
+
+    @Benchmark
+    public Object validateToken() {
+        return tokenService.validateToken(token, VerificationType.SIGNUP);
+    }
+}
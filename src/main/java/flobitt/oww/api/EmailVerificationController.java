@@ -1,14 +1,16 @@
 package flobitt.oww.api;
 
+import flobitt.oww.domain.user.dto.req.ResendEmailReq;
 import flobitt.oww.domain.user.service.AuthFacade;
+import flobitt.oww.global.ratelimit.AuthRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.OK;
 
 @Slf4j
@@ -18,11 +20,21 @@ import static org.springframework.http.HttpStatus.OK;
 public class EmailVerificationController {
 
     private final AuthFacade authFacade;
+    private final AuthRateLimiter authRateLimiter;
 
     @GetMapping("/{token}")
-    public ResponseEntity<Void> verifyEmail(@PathVariable String token) {
+    public ResponseEntity<Void> verifyEmail(@PathVariable String token, HttpServletRequest request) {
         log.info("@@@@@@@@이메일 인증 = {}", token);
+        authRateLimiter.checkVerifyEmail(request.getRemoteAddr());
         authFacade.verifyEmail(token);
         return  ResponseEntity.status(OK).build();
     }
+
+    // 인증 메일 재발송 (발송은 아웃박스에서 비동기로)
+    @PostMapping("/resend")
+    public ResponseEntity<Void> resendVerificationEmail(@Valid @RequestBody ResendEmailReq req, HttpServletRequest request) {
+        authRateLimiter.checkResend(request.getRemoteAddr(), req.getEmail());
+        authFacade.resendVerificationEmail(req);
+        return ResponseEntity.status(ACCEPTED).build();
+    }
 }
@@ -0,0 +1,59 @@
+package flobitt.oww.api;
+
+import flobitt.oww.api.in.GroupAPI;
+import flobitt.oww.domain.group.dto.req.JoinGroupReq;
+import flobitt.oww.domain.group.dto.res.GroupCalendarDayRes;
+import flobitt.oww.domain.group.dto.res.MemberGoalStatusRes;
+import flobitt.oww.domain.group.service.GroupCalendarService;
+import flobitt.oww.domain.group.service.GroupMemberService;
+import flobitt.oww.domain.group.service.MemberStreakService;
+import flobitt.oww.domain.workout.dto.res.GroupFeedItemRes;
+import flobitt.oww.domain.workout.service.WorkoutHistoryService;
+import flobitt.oww.global.pagination.CursorPageRes;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping("/groups")
+@RequiredArgsConstructor
+public class GroupController implements GroupAPI {
+
+    private final GroupCalendarService groupCalendarService;
+    private final MemberStreakService memberStreakService;
+    private final GroupMemberService groupMemberService;
+    private final WorkoutHistoryService workoutHistoryService;
+
+    @GetMapping("/{groupId}/calendar")
+    public ResponseEntity<List<GroupCalendarDayRes>> getMonthlyCalendar(@PathVariable UUID groupId,
+                                                                        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.status(OK).body(groupCalendarService.getMonthlyCalendar(groupId, month));
+    }
+
+    @GetMapping("/{groupId}/feed")
+    public ResponseEntity<CursorPageRes<GroupFeedItemRes>> getGroupFeed(@PathVariable UUID groupId,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(OK).body(workoutHistoryService.getGroupFeed(groupId, cursor, size));
+    }
+
+    @GetMapping("/members/{memberId}/goal-status")
+    public ResponseEntity<MemberGoalStatusRes> getMemberGoalStatus(@PathVariable UUID memberId) {
+        return ResponseEntity.status(OK).body(memberStreakService.getGoalStatus(memberId));
+    }
+
+    @PostMapping("/invites/{inviteCode}/members")
+    public ResponseEntity<UUID> joinByInviteCode(@PathVariable String inviteCode,
+                                                 @Valid @RequestBody JoinGroupReq req) {
+        return ResponseEntity.status(CREATED).body(groupMemberService.joinByInviteCode(inviteCode, req));
+    }
+}
@@ -0,0 +1,26 @@
+package flobitt.oww.api;
+
+import flobitt.oww.api.in.NotificationAPI;
+import flobitt.oww.domain.notification.service.NotificationStreamRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/users/{userId}/notifications")
+@RequiredArgsConstructor
+public class NotificationController implements NotificationAPI {
+
+    private final NotificationStreamRegistry notificationStreamRegistry;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable UUID userId) {
+        return notificationStreamRegistry.connect(userId);
+    }
+}
@@ -0,0 +1,64 @@
+package flobitt.oww.api;
+
+import flobitt.oww.api.in.PhotoAPI;
+import flobitt.oww.domain.workout.service.WorkoutPhotoService;
+import flobitt.oww.global.storage.StoredFileResponder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.CREATED;
+
+@RestController
+@RequiredArgsConstructor
+public class PhotoController implements PhotoAPI {
+
+    private final WorkoutPhotoService workoutPhotoService;
+    private final StoredFileResponder storedFileResponder;
+
+    // multipart 파싱(임시 파일/메모리 버퍼) 없이 요청 스트림을 바로 저장소로 넘긴다.
+    @PutMapping(value = "/users/{userId}/workout-records/{recordId}/photo",
+            consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
+    public ResponseEntity<String> uploadPhoto(@PathVariable UUID userId,
+                                              @PathVariable UUID recordId,
+                                              HttpServletRequest request) throws IOException {
+        String imageUrl = workoutPhotoService.uploadPhoto(userId, recordId,
+                request.getContentType(), request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.status(CREATED).body(imageUrl);
+    }
+
+    @GetMapping("/photos/{hash}")
+    public void getPhoto(@PathVariable String hash,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        respond(workoutPhotoService.findPhoto(hash), hash, true, request, response);
+    }
+
+    @GetMapping("/photos/{hash}/thumbnail")
+    public void getThumbnail(@PathVariable String hash,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        Optional<Path> file = workoutPhotoService.findThumbnail(hash);
+        // 썸네일 대신 원본이 나가는 동안은 캐시하지 않는다. (썸네일이 생기면 바로 바뀌도록)
+        boolean thumbnail = file.map(path -> path.getFileName().toString().endsWith(".jpg")).orElse(false);
+        respond(file, thumbnail ? hash + "-thumbnail" : hash, thumbnail, request, response);
+    }
+
+    private void respond(Optional<Path> file, String etag, boolean immutable,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (file.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path path = file.get();
+        storedFileResponder.write(request, response, path, etag, workoutPhotoService.contentTypeOf(path), immutable);
+    }
+}
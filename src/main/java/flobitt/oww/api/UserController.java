@@ -2,13 +2,19 @@ package flobitt.oww.api;
 
 import flobitt.oww.api.in.UserAPI;
 import flobitt.oww.domain.user.dto.req.CreateUserReq;
+import flobitt.oww.domain.user.dto.res.UserAvailabilityRes;
 import flobitt.oww.domain.user.service.AuthFacade;
+import flobitt.oww.domain.user.service.UserAvailabilityService;
 import flobitt.oww.domain.user.service.UserService;
+import flobitt.oww.global.ratelimit.AuthRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Locale;
+
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -18,10 +24,20 @@ import static org.springframework.http.HttpStatus.OK;
 public class UserController implements UserAPI {
 
     private final AuthFacade authFacade;
+    private final UserAvailabilityService userAvailabilityService;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping
-    public ResponseEntity<Void> createUser(@Valid @RequestBody CreateUserReq req) {
-        authFacade.signUp(req);
+    public ResponseEntity<Void> createUser(@Valid @RequestBody CreateUserReq req, HttpServletRequest request, Locale locale) {
+        // 빈도 제한 초과면 해싱/DB 접근 전에 429
+        authRateLimiter.checkSignUp(request.getRemoteAddr(), req.getUserLoginId(), req.getEmail());
+        authFacade.signUp(req, locale);
         return  ResponseEntity.status(CREATED).build();
     }
+
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityRes> checkAvailability(@RequestParam(required = false) String userLoginId,
+                                                                 @RequestParam(required = false) String email) {
+        return ResponseEntity.status(OK).body(userAvailabilityService.checkAvailability(userLoginId, email));
+    }
 }
@@ -0,0 +1,40 @@
+package flobitt.oww.api;
+
+import flobitt.oww.api.in.WorkoutRecordAPI;
+import flobitt.oww.domain.workout.dto.req.CreateWorkoutRecordsReq;
+import flobitt.oww.domain.workout.dto.res.WorkoutRecordRes;
+import flobitt.oww.domain.workout.service.WorkoutHistoryService;
+import flobitt.oww.domain.workout.service.WorkoutRecordService;
+import flobitt.oww.global.pagination.CursorPageRes;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping("/users/{userId}/workout-records")
+@RequiredArgsConstructor
+public class WorkoutRecordController implements WorkoutRecordAPI {
+
+    private final WorkoutRecordService workoutRecordService;
+    private final WorkoutHistoryService workoutHistoryService;
+
+    @PostMapping
+    public ResponseEntity<List<UUID>> createWorkoutRecords(@PathVariable UUID userId,
+                                                           @Valid @RequestBody CreateWorkoutRecordsReq req) {
+        return ResponseEntity.status(CREATED).body(workoutRecordService.createWorkoutRecords(userId, req));
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPageRes<WorkoutRecordRes>> getWorkoutHistory(@PathVariable UUID userId,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(OK).body(workoutHistoryService.getHistory(userId, cursor, size));
+    }
+}
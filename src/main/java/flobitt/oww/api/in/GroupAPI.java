@@ -0,0 +1,29 @@
+package flobitt.oww.api.in;
+
+import flobitt.oww.domain.group.dto.req.JoinGroupReq;
+import flobitt.oww.domain.group.dto.res.GroupCalendarDayRes;
+import flobitt.oww.domain.group.dto.res.MemberGoalStatusRes;
+import flobitt.oww.domain.workout.dto.res.GroupFeedItemRes;
+import flobitt.oww.global.pagination.CursorPageRes;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "groups", description = "group API")
+public interface GroupAPI {
+    @Operation(summary = "그룹 캘린더", description = "그룹의 월간 운동 현황을 조회한다.")
+    public ResponseEntity<List<GroupCalendarDayRes>> getMonthlyCalendar(UUID groupId, YearMonth month);
+
+    @Operation(summary = "그룹 피드", description = "그룹 운동 로그를 최신순으로 조회한다. 다음 페이지는 응답의 nextCursor를 cursor로 전달한다.")
+    public ResponseEntity<CursorPageRes<GroupFeedItemRes>> getGroupFeed(UUID groupId, String cursor, int size);
+
+    @Operation(summary = "멤버 목표 달성 현황", description = "이번 주 달성률과 연속 달성 주 수를 조회한다.")
+    public ResponseEntity<MemberGoalStatusRes> getMemberGoalStatus(UUID memberId);
+
+    @Operation(summary = "초대 코드 가입", description = "초대 코드로 그룹에 가입한다. 정원이 찼으면 409를 반환한다.")
+    public ResponseEntity<UUID> joinByInviteCode(String inviteCode, JoinGroupReq req);
+}
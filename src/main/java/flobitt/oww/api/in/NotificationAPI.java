@@ -0,0 +1,13 @@
+package flobitt.oww.api.in;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@Tag(name = "notifications", description = "notification API")
+public interface NotificationAPI {
+    @Operation(summary = "알림 구독", description = "그룹 멤버 운동 알림을 SSE로 받는다. (workout 이벤트, 몇 초 단위로 묶여서 전달)")
+    public SseEmitter subscribe(UUID userId);
+}
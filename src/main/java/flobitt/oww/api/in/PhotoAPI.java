@@ -0,0 +1,22 @@
+package flobitt.oww.api.in;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@Tag(name = "photos", description = "workout photo API")
+public interface PhotoAPI {
+    @Operation(summary = "운동 사진 업로드", description = "요청 본문(image/jpeg, image/png)을 그대로 저장하고 사진 URL을 반환한다. multipart가 아닌 raw body로 보낸다.")
+    public ResponseEntity<String> uploadPhoto(UUID userId, UUID recordId, HttpServletRequest request) throws IOException;
+
+    @Operation(summary = "운동 사진 조회", description = "Range 요청을 지원한다.")
+    public void getPhoto(String hash, HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    @Operation(summary = "운동 사진 썸네일 조회", description = "썸네일이 아직 생성되지 않았으면 원본을 반환한다.")
+    public void getThumbnail(String hash, HttpServletRequest request, HttpServletResponse response) throws IOException;
+}
@@ -1,12 +1,21 @@
 package flobitt.oww.api.in;
 
 import flobitt.oww.domain.user.dto.req.CreateUserReq;
+import flobitt.oww.domain.user.dto.res.UserAvailabilityRes;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Locale;
+
 @Tag(name = "users", description = "user API")
 public interface UserAPI {
-    @Operation(summary = "회원가입", description = "회원을 가입한다.")
-    public ResponseEntity<Void> createUser(CreateUserReq dto);
+    @Operation(summary = "회원가입", description = "회원을 가입한다. IP/로그인 ID/이메일별 요청 빈도를 넘으면 429를 반환한다.")
+    public ResponseEntity<Void> createUser(CreateUserReq dto, @Parameter(hidden = true) HttpServletRequest request,
+                                           @Parameter(hidden = true) Locale locale);
+
+    @Operation(summary = "아이디/이메일 중복 확인", description = "로그인 ID와 이메일의 사용 가능 여부를 확인한다.")
+    public ResponseEntity<UserAvailabilityRes> checkAvailability(String userLoginId, String email);
 }
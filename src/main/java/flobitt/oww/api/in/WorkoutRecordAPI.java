@@ -0,0 +1,20 @@
+package flobitt.oww.api.in;
+
+import flobitt.oww.domain.workout.dto.req.CreateWorkoutRecordsReq;
+import flobitt.oww.domain.workout.dto.res.WorkoutRecordRes;
+import flobitt.oww.global.pagination.CursorPageRes;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "workout-records", description = "workout record API")
+public interface WorkoutRecordAPI {
+    @Operation(summary = "운동 기록", description = "운동 기록을 여러 건 저장하고, 사용자가 속한 그룹에 공유한다.")
+    public ResponseEntity<List<UUID>> createWorkoutRecords(UUID userId, CreateWorkoutRecordsReq req);
+
+    @Operation(summary = "운동 기록 조회", description = "내 운동 기록을 최신순으로 조회한다. 다음 페이지는 응답의 nextCursor를 cursor로 전달한다.")
+    public ResponseEntity<CursorPageRes<WorkoutRecordRes>> getWorkoutHistory(UUID userId, String cursor, int size);
+}
@@ -0,0 +1,15 @@
+package flobitt.oww.domain.base.dto.internal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 보관 대상 행 (deleted_at, id 키셋 커서로도 쓴다)
+@Getter
+@AllArgsConstructor
+public class ArchiveCandidateDto {
+    private final UUID id;
+    private final LocalDateTime deletedAt;
+}
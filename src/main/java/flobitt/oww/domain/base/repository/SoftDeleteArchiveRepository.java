@@ -0,0 +1,141 @@
+package flobitt.oww.domain.base.repository;
+
+import flobitt.oww.domain.base.dto.internal.ArchiveCandidateDto;
+import flobitt.oww.global.id.UuidBytes;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * soft delete 된 행을 *_ARCHIVE 테이블로 옮기는 JDBC 전용 저장소
+ * 후보는 idx_is_deleted_deleted_at 순서((deleted_at, id) 키셋)로 읽고, 옮기기는 INSERT ... SELECT 후 PK 목록으로 DELETE 한다.
+ * 아직 다른 테이블이 참조하는 행은 후보 조회 단계에서 NOT EXISTS 로 제외한다.
+ */
+@Repository
+public class SoftDeleteArchiveRepository {
+
+    private static final String MEMBER_GUARD = "";
+
+    // 탈퇴 멤버(보관 전 포함)나 운동 로그가 남아 있는 그룹은 옮기지 않는다.
+    private static final String GROUP_GUARD = """
+               AND NOT EXISTS (SELECT 1 FROM GROUP_MEMBERS m WHERE m.group_id = t.group_id)
+               AND NOT EXISTS (SELECT 1 FROM GROUP_WORKOUT_LOGS l WHERE l.group_id = t.group_id)
+            """;
+
+    // 그룹 멤버십이나 운동 기록이 남아 있는 사용자는 옮기지 않는다.
+    private static final String USER_GUARD = """
+               AND NOT EXISTS (SELECT 1 FROM GROUP_MEMBERS m WHERE m.user_id = t.user_id)
+               AND NOT EXISTS (SELECT 1 FROM WORKOUT_RECORDS r WHERE r.user_id = t.user_id)
+               AND NOT EXISTS (SELECT 1 FROM GROUP_WORKOUT_LOGS l WHERE l.user_id = t.user_id)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SoftDeleteArchiveRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<ArchiveCandidateDto> findMemberCandidates(ArchiveCandidateDto after, LocalDateTime cutoff, int limit) {
+        return findCandidates("GROUP_MEMBERS", "member_id", MEMBER_GUARD, after, cutoff, limit);
+    }
+
+    public List<ArchiveCandidateDto> findGroupCandidates(ArchiveCandidateDto after, LocalDateTime cutoff, int limit) {
+        return findCandidates("GROUPS", "group_id", GROUP_GUARD, after, cutoff, limit);
+    }
+
+    public List<ArchiveCandidateDto> findUserCandidates(ArchiveCandidateDto after, LocalDateTime cutoff, int limit) {
+        return findCandidates("USERS", "user_id", USER_GUARD, after, cutoff, limit);
+    }
+
+    // 목표 이력은 같이 보관하고, 연속 기록(MEMBER_STREAKS)은 운동 로그로 다시 계산할 수 있으므로 지운다.
+    public void archiveMembers(Collection<UUID> memberIds) {
+        MapSqlParameterSource params = idsParam(memberIds);
+        jdbcTemplate.update("""
+                INSERT INTO MEMBER_GOAL_HISTORY_ARCHIVE
+                       (goal_id, workout_days, start_date, end_date, created_at, updated_at, member_id)
+                SELECT goal_id, workout_days, start_date, end_date, created_at, updated_at, member_id
+                  FROM MEMBER_GOAL_HISTORY
+                 WHERE member_id IN (:ids)
+                """, params);
+        jdbcTemplate.update("DELETE FROM MEMBER_GOAL_HISTORY WHERE member_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM MEMBER_STREAKS WHERE member_id IN (:ids)", params);
+        jdbcTemplate.update("""
+                INSERT INTO GROUP_MEMBERS_ARCHIVE
+                       (member_id, member_color, nickname, role, created_at, updated_at, is_deleted, deleted_at, group_id, user_id)
+                SELECT member_id, member_color, nickname, role, created_at, updated_at, is_deleted, deleted_at, group_id, user_id
+                  FROM GROUP_MEMBERS
+                 WHERE member_id IN (:ids)
+                """, params);
+        jdbcTemplate.update("DELETE FROM GROUP_MEMBERS WHERE member_id IN (:ids)", params);
+    }
+
+    // 알림 설정과 캘린더 읽기 모델은 그룹 없이는 의미가 없으므로 같이 지운다.
+    public void archiveGroups(Collection<UUID> groupIds) {
+        MapSqlParameterSource params = idsParam(groupIds);
+        jdbcTemplate.update("""
+                INSERT INTO GROUPS_ARCHIVE
+                       (group_id, group_name, description, invite_code, max_members, member_count,
+                        created_at, updated_at, is_deleted, deleted_at, is_active)
+                SELECT group_id, group_name, description, invite_code, max_members, member_count,
+                       created_at, updated_at, is_deleted, deleted_at, is_active
+                  FROM GROUPS
+                 WHERE group_id IN (:ids)
+                """, params);
+        jdbcTemplate.update("DELETE FROM NOTIFICATION_SETTINGS WHERE group_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM GROUP_DAILY_ACTIVITY WHERE group_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM GROUPS WHERE group_id IN (:ids)", params);
+    }
+
+    // 이메일 인증 이력과 알림 설정은 탈퇴 사용자에게 필요 없으므로 같이 지운다.
+    public void archiveUsers(Collection<UUID> userIds) {
+        MapSqlParameterSource params = idsParam(userIds);
+        jdbcTemplate.update("""
+                INSERT INTO USERS_ARCHIVE
+                       (user_id, user_login_id, email, password, user_status, email_verified_at, language,
+                        is_deleted, deleted_at, created_at, updated_at)
+                SELECT user_id, user_login_id, email, password, user_status, email_verified_at, language,
+                       is_deleted, deleted_at, created_at, updated_at
+                  FROM USERS
+                 WHERE user_id IN (:ids)
+                """, params);
+        jdbcTemplate.update("DELETE FROM EMAIL_VERIFICATIONS WHERE user_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM NOTIFICATION_SETTINGS WHERE user_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM USERS WHERE user_id IN (:ids)", params);
+    }
+
+    private List<ArchiveCandidateDto> findCandidates(String table, String idColumn, String guard,
+                                                     ArchiveCandidateDto after, LocalDateTime cutoff, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT t.").append(idColumn).append(", t.deleted_at\n")
+                .append("  FROM ").append(table).append(" t\n")
+                .append(" WHERE t.is_deleted = TRUE\n")
+                .append("   AND t.deleted_at < :cutoff\n");
+        if (after != null) {
+            sql.append("   AND (t.deleted_at > :lastDeletedAt OR (t.deleted_at = :lastDeletedAt AND t.")
+                    .append(idColumn).append(" > :lastId))\n");
+            params.addValue("lastDeletedAt", Timestamp.valueOf(after.getDeletedAt()))
+                    .addValue("lastId", UuidBytes.toBytes(after.getId()));
+        }
+        sql.append(guard)
+                .append(" ORDER BY t.deleted_at, t.").append(idColumn).append('\n')
+                .append(" LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new ArchiveCandidateDto(
+                UuidBytes.fromBytes(rs.getBytes(1)),
+                rs.getTimestamp(2).toLocalDateTime()));
+    }
+
+    private MapSqlParameterSource idsParam(Collection<UUID> ids) {
+        return new MapSqlParameterSource("ids", ids.stream().map(UuidBytes::toBytes).toList());
+    }
+}
@@ -0,0 +1,96 @@
+package flobitt.oww.domain.base.scheduler;
+
+import flobitt.oww.domain.base.dto.internal.ArchiveCandidateDto;
+import flobitt.oww.domain.base.service.SoftDeleteArchiveService;
+import flobitt.oww.global.properties.SoftDeleteArchiveProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 보관 기간이 지난 soft delete 행(GROUP_MEMBERS → GROUPS → USERS 순서)을 *_ARCHIVE 테이블로 옮긴다.
+ * 원본 테이블과 인덱스를 살아 있는 행 위주로 작게 유지하기 위한 작업으로,
+ * 인증 정리 작업처럼 작은 배치 + 배치 사이 대기로 잠금 시간과 복제 지연을 짧게 유지한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.soft-delete-archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SoftDeleteArchiveJob {
+
+    private final SoftDeleteArchiveService softDeleteArchiveService;
+    private final SoftDeleteArchiveProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer batchTimer;
+
+    public SoftDeleteArchiveJob(SoftDeleteArchiveService softDeleteArchiveService,
+                                SoftDeleteArchiveProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.softDeleteArchiveService = softDeleteArchiveService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = meterRegistry.timer("archive.batch");
+    }
+
+    // GROUP_MEMBERS -> GROUPS -> USERS 를 차례로 옮기며 배치마다 쉬어서, 밀린 행이 많으면 max-runtime 예산을 다 쓴다.
+    // 그동안 다른 @Scheduled 작업이 밀리지 않도록 maintenanceExecutor에서 실행
+    @Async("maintenanceExecutor")
+    @Scheduled(cron = "${app.soft-delete-archive.cron:0 30 4 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getRetentionDays());
+        long deadline = System.nanoTime() + properties.getMaxRuntime().toNanos();
+
+        long members = run("GROUP_MEMBERS", deadline,
+                after -> softDeleteArchiveService.archiveMemberBatch(after, cutoff, properties.getBatchSize()),
+                softDeleteArchiveService::evictMembers);
+        long groups = run("GROUPS", deadline,
+                after -> softDeleteArchiveService.archiveGroupBatch(after, cutoff, properties.getBatchSize()),
+                softDeleteArchiveService::evictGroups);
+        long users = run("USERS", deadline,
+                after -> softDeleteArchiveService.archiveUserBatch(after, cutoff, properties.getBatchSize()),
+                archived -> softDeleteArchiveService.evictUsers());
+
+        log.info("soft delete 보관 완료: 그룹 멤버 {}건, 그룹 {}건, 사용자 {}건 (cutoff={})", members, groups, users, cutoff);
+    }
+
+    private long run(String table, long deadline, BatchArchiver archiver, Consumer<List<ArchiveCandidateDto>> evictor) {
+        ArchiveCandidateDto last = null;
+        long total = 0;
+        while (System.nanoTime() < deadline) {
+            ArchiveCandidateDto after = last;
+            List<ArchiveCandidateDto> archived = batchTimer.record(() -> archiver.archive(after));
+            if (archived.isEmpty()) break;
+
+            evictor.accept(archived);
+            total += archived.size();
+            meterRegistry.counter("archive.moved", "table", table).increment(archived.size());
+            last = archived.get(archived.size() - 1);
+
+            if (archived.size() < properties.getBatchSize() || !pause()) break;
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchArchiver {
+        List<ArchiveCandidateDto> archive(ArchiveCandidateDto after);
+    }
+}
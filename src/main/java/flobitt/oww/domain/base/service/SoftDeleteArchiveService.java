@@ -0,0 +1,75 @@
+package flobitt.oww.domain.base.service;
+
+import flobitt.oww.domain.base.dto.internal.ArchiveCandidateDto;
+import flobitt.oww.domain.base.repository.SoftDeleteArchiveRepository;
+import flobitt.oww.domain.group.entity.Group;
+import flobitt.oww.domain.group.entity.GroupMember;
+import flobitt.oww.domain.notification.entity.NotificationSetting;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SoftDeleteArchiveService {
+
+    private final SoftDeleteArchiveRepository softDeleteArchiveRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 탈퇴한 그룹 멤버 보관 (그룹/사용자보다 먼저 옮겨야 참조가 풀린다)
+    @Transactional
+    public List<ArchiveCandidateDto> archiveMemberBatch(ArchiveCandidateDto after, LocalDateTime cutoff, int batchSize) {
+        List<ArchiveCandidateDto> candidates = softDeleteArchiveRepository.findMemberCandidates(after, cutoff, batchSize);
+        if (!candidates.isEmpty()) softDeleteArchiveRepository.archiveMembers(idsOf(candidates));
+        return candidates;
+    }
+
+    @Transactional
+    public List<ArchiveCandidateDto> archiveGroupBatch(ArchiveCandidateDto after, LocalDateTime cutoff, int batchSize) {
+        List<ArchiveCandidateDto> candidates = softDeleteArchiveRepository.findGroupCandidates(after, cutoff, batchSize);
+        if (!candidates.isEmpty()) softDeleteArchiveRepository.archiveGroups(idsOf(candidates));
+        return candidates;
+    }
+
+    @Transactional
+    public List<ArchiveCandidateDto> archiveUserBatch(ArchiveCandidateDto after, LocalDateTime cutoff, int batchSize) {
+        List<ArchiveCandidateDto> candidates = softDeleteArchiveRepository.findUserCandidates(after, cutoff, batchSize);
+        if (!candidates.isEmpty()) softDeleteArchiveRepository.archiveUsers(idsOf(candidates));
+        return candidates;
+    }
+
+    /**
+     * JDBC로 지운 행은 Hibernate가 모르므로 커밋 후 2차 캐시에서 직접 뺀다.
+     * 알림 설정은 ID를 따로 읽지 않고 지웠으므로 리전 전체를 비운다.
+     */
+    public void evictMembers(Collection<ArchiveCandidateDto> members) {
+        Cache cache = secondLevelCache();
+        members.forEach(member -> cache.evictEntityData(GroupMember.class, member.getId()));
+    }
+
+    public void evictGroups(Collection<ArchiveCandidateDto> groups) {
+        Cache cache = secondLevelCache();
+        groups.forEach(group -> cache.evictEntityData(Group.class, group.getId()));
+        cache.evictEntityData(NotificationSetting.class);
+    }
+
+    public void evictUsers() {
+        secondLevelCache().evictEntityData(NotificationSetting.class);
+    }
+
+    private Cache secondLevelCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private List<UUID> idsOf(List<ArchiveCandidateDto> candidates) {
+        return candidates.stream().map(ArchiveCandidateDto::getId).toList();
+    }
+}
@@ -0,0 +1,41 @@
+package flobitt.oww.domain.group.dto.req;
+
+import flobitt.oww.domain.group.entity.Group;
+import flobitt.oww.domain.group.entity.GroupMember;
+import flobitt.oww.domain.group.entity.MemberRole;
+import flobitt.oww.domain.user.entity.User;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class JoinGroupReq {
+
+    @NotNull(message = "사용자 ID는 필수입니다.")
+    private UUID userId;
+
+    @NotBlank(message = "닉네임은 필수입니다.")
+    @Size(max = 50, message = "닉네임은 50자를 초과할 수 없습니다.")
+    private String nickname;
+
+    @NotBlank(message = "색상은 필수입니다.")
+    @Pattern(regexp = "^#[0-9A-Fa-f]{6}$", message = "색상은 #RRGGBB 형식이어야 합니다.")
+    private String color;
+
+    public static GroupMember toEntity(JoinGroupReq req, Group group, User user) {
+        return GroupMember.builder()
+                .nickname(req.getNickname())
+                .color(req.getColor())
+                .role(MemberRole.MEMBER)
+                .group(group)
+                .user(user)
+                .build();
+    }
+}
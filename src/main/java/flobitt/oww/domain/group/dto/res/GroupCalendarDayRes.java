@@ -0,0 +1,27 @@
+package flobitt.oww.domain.group.dto.res;
+
+import flobitt.oww.domain.group.entity.GroupDailyActivity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class GroupCalendarDayRes {
+    private LocalDate date;
+    private int memberCount;
+    private List<UUID> userIds;
+
+    public static GroupCalendarDayRes from(GroupDailyActivity activity) {
+        return GroupCalendarDayRes.builder()
+                .date(activity.getId().getActivityDate())
+                .memberCount(activity.getMemberCount())
+                .userIds(activity.getMemberIds().stream().map(UUID::fromString).toList())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package flobitt.oww.domain.group.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class MemberGoalStatusRes {
+    private UUID memberId;
+    private Set<DayOfWeek> goalDays;
+    private Set<DayOfWeek> doneDays;
+    private double weeklyAchievementRate;
+    private int currentStreak;
+    private int longestStreak;
+    private double recentAchievementRate;
+}
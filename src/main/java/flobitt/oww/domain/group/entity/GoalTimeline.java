@@ -0,0 +1,35 @@
+package flobitt.oww.domain.group.entity;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 멤버 한 명의 목표 이력 (시작일 순)
+ * 주 단위 판정 시 매번 DB를 조회하지 않도록 한 번 읽어서 메모리에서 찾는다.
+ */
+public class GoalTimeline {
+
+    private final List<MemberGoalHistory> histories;
+
+    public GoalTimeline(List<MemberGoalHistory> histories) {
+        this.histories = histories.stream()
+                .sorted(Comparator.comparing(MemberGoalHistory::getStartDate))
+                .toList();
+    }
+
+    // date에 유효한 목표 (없으면 NONE)
+    public WeekdayMask maskAt(LocalDate date) {
+        WeekdayMask mask = WeekdayMask.NONE;
+        for (MemberGoalHistory history : histories) {
+            if (history.getStartDate().isAfter(date)) break;
+            if (history.isEffectiveOn(date)) mask = history.getWorkoutDays();
+        }
+        return mask;
+    }
+
+    // 주 마지막 날(일요일)에 유효한 목표로 그 주를 판정한다.
+    public WeekdayMask maskForWeek(LocalDate weekStart) {
+        return maskAt(weekStart.plusDays(6));
+    }
+}
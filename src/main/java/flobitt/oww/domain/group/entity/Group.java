@@ -1,14 +1,14 @@
 package flobitt.oww.domain.group.entity;
 
 import flobitt.oww.domain.base.entity.SoftDeleteBaseEntity;
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
+import flobitt.oww.global.id.UuidV7Id;
+import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
@@ -16,6 +16,9 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "GROUPS")
+@SQLRestriction("is_deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "group")
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -24,9 +27,9 @@ public class Group extends SoftDeleteBaseEntity {
 
     @Id
     @EqualsAndHashCode.Include
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "group_id", columnDefinition = "VARCHAR(36)")
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "group_id", columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Column(name = "group_name")
@@ -38,8 +41,12 @@ public class Group extends SoftDeleteBaseEntity {
     @Column(name = "invite_code")
     private String inviteCode;
 
-    @Column(name = "max_members")
-    private int maxMembers;
+    @Column(name = "max_members") // NULL이면 제한 없음
+    private Integer maxMembers;
+
+    // 현재 인원 : 가입/탈퇴 시 조건부 UPDATE로만 변경한다. (COUNT 조회 없이 정원 확인)
+    @Column(name = "member_count")
+    private int memberCount;
 
     @Column(name = "is_active")
     private boolean isActive;
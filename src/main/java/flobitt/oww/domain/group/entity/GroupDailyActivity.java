@@ -0,0 +1,34 @@
+package flobitt.oww.domain.group.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.List;
+
+/**
+ * 그룹 캘린더 읽기 모델 : 그룹별 하루 한 행 (운동한 멤버 수 + 멤버 목록)
+ * GroupWorkoutLog 저장과 같은 트랜잭션에서 upsert로 갱신되므로 엔티티로는 조회만 한다.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "GROUP_DAILY_ACTIVITY")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupDailyActivity {
+
+    @EmbeddedId
+    private GroupDailyActivityId id;
+
+    @Column(name = "member_count")
+    private int memberCount;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    // JSON Type : 운동한 user_id 목록 (MariaDB의 JSON은 LONGTEXT 별칭이라 스키마 검증용 타입은 longtext)
+    @Column(name = "member_ids", columnDefinition = "longtext")
+    private List<String> memberIds;
+}
@@ -0,0 +1,26 @@
+package flobitt.oww.domain.group.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+public class GroupDailyActivityId implements Serializable {
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "group_id", columnDefinition = "BINARY(16)")
+    private UUID groupId;
+
+    @Column(name = "activity_date")
+    private LocalDate activityDate;
+}
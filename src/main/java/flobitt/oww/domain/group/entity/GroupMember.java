@@ -2,11 +2,14 @@ package flobitt.oww.domain.group.entity;
 
 import flobitt.oww.domain.base.entity.SoftDeleteBaseEntity;
 import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.global.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
@@ -14,6 +17,9 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "GROUP_MEMBERS")
+@SQLRestriction("is_deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "groupMember")
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -22,9 +28,9 @@ public class GroupMember extends SoftDeleteBaseEntity {
 
     @Id
     @EqualsAndHashCode.Include
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "member_id", columnDefinition = "VARCHAR(36)")
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Column(name = "member_color")
@@ -44,4 +50,9 @@ public class GroupMember extends SoftDeleteBaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
+
+    // 그룹 탈퇴 (soft delete)
+    public void leave() {
+        delete();
+    }
 }
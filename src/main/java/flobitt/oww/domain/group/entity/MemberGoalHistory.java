@@ -1,11 +1,11 @@
 package flobitt.oww.domain.group.entity;
 
 import flobitt.oww.domain.base.entity.BaseEntity;
+import flobitt.oww.global.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
@@ -22,13 +22,13 @@ public class MemberGoalHistory extends BaseEntity {
 
     @Id
     @EqualsAndHashCode.Include
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "goal_id", columnDefinition = "VARCHAR(36)")
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "goal_id", columnDefinition = "BINARY(16)")
     private UUID id;
 
-    @Column(name = "workout_days") // JSON Type
-    private String workoutDays;
+    @Column(name = "workout_days", columnDefinition = "TINYINT") // 요일 비트마스크 (bit0 = 월 ... bit6 = 일)
+    private WeekdayMask workoutDays;
 
     @Column(name = "start_date")
     private LocalDate startDate;
@@ -39,4 +39,8 @@ public class MemberGoalHistory extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private GroupMember groupMember;
+
+    public boolean isEffectiveOn(LocalDate date) {
+        return !startDate.isAfter(date) && (endDate == null || !endDate.isBefore(date));
+    }
 }
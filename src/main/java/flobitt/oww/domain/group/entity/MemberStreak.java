@@ -0,0 +1,166 @@
+package flobitt.oww.domain.group.entity;
+
+import flobitt.oww.domain.base.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 멤버별 주간 목표 달성/연속 기록 상태
+ * - weekMask    : 진행 중인 주(weekStart ~ +6일)에 운동한 요일 비트
+ * - weekHistory : 마감된 주의 달성 여부 비트 (bit0 = 직전 주, 최대 64주)
+ * GroupWorkoutLog가 저장될 때마다 해당 날짜의 비트만 켜고, 주가 바뀌면 이전 주를 마감한다.
+ */
+@Getter
+@Entity
+@Table(name = "MEMBER_STREAKS")
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+public class MemberStreak extends BaseEntity {
+
+    public static final int HISTORY_WEEKS = Long.SIZE;
+
+    @Id
+    @EqualsAndHashCode.Include
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private UUID memberId;
+
+    @Column(name = "week_start")
+    private LocalDate weekStart;
+
+    @Column(name = "week_mask", columnDefinition = "TINYINT")
+    private byte weekMask;
+
+    @Column(name = "week_history")
+    private long weekHistory;
+
+    @Column(name = "current_streak")
+    private int currentStreak;
+
+    @Column(name = "longest_streak")
+    private int longestStreak;
+
+    @Column(name = "tracked_weeks")
+    private int trackedWeeks;
+
+    @Column(name = "achieved_weeks")
+    private int achievedWeeks;
+
+    public static MemberStreak start(UUID memberId, LocalDate date) {
+        return MemberStreak.builder()
+                .memberId(memberId)
+                .weekStart(weekStartOf(date))
+                .build();
+    }
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * 운동한 날짜 반영
+     * @return 이미 마감된 주의 날짜라면 false (호출 측에서 rebuild 필요)
+     */
+    public boolean recordWorkout(LocalDate date, GoalTimeline goals) {
+        if (weekStartOf(date).isBefore(weekStart)) return false;
+
+        advanceTo(date, goals);
+        weekMask |= (byte) WeekdayMask.bit(date.getDayOfWeek());
+        return true;
+    }
+
+    // date가 속한 주까지 지나간 주를 차례로 마감 (운동하지 않은 주는 미달성으로 마감)
+    public void advanceTo(LocalDate date, GoalTimeline goals) {
+        LocalDate target = weekStartOf(date);
+        while (weekStart.isBefore(target)) {
+            closeWeek(goals.maskForWeek(weekStart));
+        }
+    }
+
+    // 목표가 없는 주는 판정하지 않는다. (연속 기록을 끊지도, 늘리지도 않음)
+    private void closeWeek(WeekdayMask goal) {
+        if (!goal.isEmpty()) {
+            boolean achieved = goal.isCoveredBy(weekMask);
+            weekHistory = (weekHistory << 1) | (achieved ? 1L : 0L);
+            trackedWeeks++;
+            if (achieved) {
+                achievedWeeks++;
+                currentStreak++;
+                longestStreak = Math.max(longestStreak, currentStreak);
+            } else {
+                currentStreak = 0;
+            }
+        }
+        weekStart = weekStart.plusWeeks(1);
+        weekMask = 0;
+    }
+
+    /**
+     * 전체 운동 날짜로 처음부터 다시 계산 (지난 주 기록 추가/목표 변경 시)
+     * 날짜를 첫 주 월요일 기준 오프셋 비트셋으로 만든 뒤 7비트씩 잘라 주간 마스크로 쓴다.
+     */
+    public void rebuild(Collection<LocalDate> dates, GoalTimeline goals, LocalDate today) {
+        weekHistory = 0;
+        currentStreak = 0;
+        longestStreak = 0;
+        trackedWeeks = 0;
+        achievedWeeks = 0;
+        weekMask = 0;
+        if (dates.isEmpty()) {
+            weekStart = weekStartOf(today);
+            return;
+        }
+
+        LocalDate origin = weekStartOf(dates.stream().min(LocalDate::compareTo).orElseThrow());
+        BitSet days = new BitSet();
+        for (LocalDate date : dates) {
+            days.set((int) ChronoUnit.DAYS.between(origin, date));
+        }
+
+        weekStart = origin;
+        LocalDate last = weekStartOf(today.isAfter(origin) ? today : origin);
+        for (int offset = 0; !weekStart.isAfter(last); offset += 7) {
+            long[] week = days.get(offset, offset + 7).toLongArray();
+            weekMask = week.length == 0 ? 0 : (byte) week[0];
+            if (weekStart.equals(last)) break;
+            closeWeek(goals.maskForWeek(weekStart));
+        }
+    }
+
+    // 조회 시점까지 마감하지 않은 주를 반영한 복사본 (저장하지 않는다)
+    public MemberStreak projectedTo(LocalDate today, GoalTimeline goals) {
+        MemberStreak copy = MemberStreak.builder()
+                .memberId(memberId)
+                .weekStart(weekStart)
+                .weekMask(weekMask)
+                .weekHistory(weekHistory)
+                .currentStreak(currentStreak)
+                .longestStreak(longestStreak)
+                .trackedWeeks(trackedWeeks)
+                .achievedWeeks(achievedWeeks)
+                .build();
+        copy.advanceTo(today, goals);
+        return copy;
+    }
+
+    // 최근 n주(최대 64주) 달성률
+    public double recentAchievementRate(int weeks) {
+        int window = Math.min(Math.min(weeks, HISTORY_WEEKS), trackedWeeks);
+        if (window == 0) return 0;
+        long mask = window == HISTORY_WEEKS ? -1L : (1L << window) - 1;
+        return (double) Long.bitCount(weekHistory & mask) / window;
+    }
+}
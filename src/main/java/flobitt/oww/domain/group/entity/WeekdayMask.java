@@ -0,0 +1,59 @@
+package flobitt.oww.domain.group.entity;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 목표 요일 7비트 마스크 (bit0 = 월 ... bit6 = 일)
+ * 요일 비교/달성 판정을 JSON 파싱 없이 비트 연산으로 처리한다.
+ */
+public record WeekdayMask(int bits) {
+
+    public static final int ALL_DAYS = 0b111_1111;
+    public static final WeekdayMask NONE = new WeekdayMask(0);
+
+    public WeekdayMask {
+        if ((bits & ~ALL_DAYS) != 0) throw new IllegalArgumentException("요일 마스크는 7비트를 넘을 수 없습니다: " + bits);
+    }
+
+    public static WeekdayMask of(DayOfWeek... days) {
+        int bits = 0;
+        for (DayOfWeek day : days) bits |= bit(day);
+        return new WeekdayMask(bits);
+    }
+
+    public static int bit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    public int size() {
+        return Integer.bitCount(bits);
+    }
+
+    public boolean contains(DayOfWeek day) {
+        return (bits & bit(day)) != 0;
+    }
+
+    // 운동한 요일 마스크가 목표 요일을 모두 포함하는지
+    public boolean isCoveredBy(int doneBits) {
+        return (doneBits & bits) == bits;
+    }
+
+    // 목표 요일 중 운동한 요일 수
+    public int matched(int doneBits) {
+        return Integer.bitCount(doneBits & bits);
+    }
+
+    public Set<DayOfWeek> days() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (contains(day)) days.add(day);
+        }
+        return days;
+    }
+}
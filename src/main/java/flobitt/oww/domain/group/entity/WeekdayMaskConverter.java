@@ -0,0 +1,19 @@
+package flobitt.oww.domain.group.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// WeekdayMask <-> TINYINT
+@Converter(autoApply = true)
+public class WeekdayMaskConverter implements AttributeConverter<WeekdayMask, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(WeekdayMask mask) {
+        return mask == null ? null : (byte) mask.bits();
+    }
+
+    @Override
+    public WeekdayMask convertToEntityAttribute(Byte bits) {
+        return bits == null ? null : new WeekdayMask(bits);
+    }
+}
@@ -0,0 +1,13 @@
+package flobitt.oww.domain.group.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class JoinGroupEvent {
+    private UUID groupId;
+    private UUID userId;
+}
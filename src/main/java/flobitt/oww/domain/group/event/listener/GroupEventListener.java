@@ -0,0 +1,21 @@
+package flobitt.oww.domain.group.event.listener;
+
+import flobitt.oww.domain.group.event.JoinGroupEvent;
+import flobitt.oww.domain.notification.service.GroupSubscriberCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class GroupEventListener {
+    private final GroupSubscriberCache groupSubscriberCache;
+
+    // 가입이 커밋된 후 알림 수신자 캐시 무효화 (새 멤버도 바로 알림을 받도록)
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleJoinGroup(JoinGroupEvent event) {
+        groupSubscriberCache.evict(event.getGroupId());
+    }
+}
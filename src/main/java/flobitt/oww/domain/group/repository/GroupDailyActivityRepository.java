@@ -0,0 +1,27 @@
+package flobitt.oww.domain.group.repository;
+
+import flobitt.oww.domain.group.entity.GroupDailyActivity;
+import flobitt.oww.domain.group.entity.GroupDailyActivityId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface GroupDailyActivityRepository extends JpaRepository<GroupDailyActivity, GroupDailyActivityId>, GroupDailyActivityRepositoryCustom {
+
+    // PK (group_id, activity_date) 범위 조회 : 한 달이면 최대 31행
+    @Query("""
+            select a from GroupDailyActivity a
+             where a.id.groupId = :groupId
+               and a.id.activityDate between :from and :to
+             order by a.id.activityDate
+            """)
+    List<GroupDailyActivity> findByGroupIdAndDateRange(@Param("groupId") UUID groupId,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to);
+}
@@ -0,0 +1,11 @@
+package flobitt.oww.domain.group.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface GroupDailyActivityRepositoryCustom {
+    void upsertAll(UUID userId, Collection<UUID> groupIds, Collection<LocalDate> dates);
+    int rebuild(UUID groupId);
+    int rebuildAll();
+}
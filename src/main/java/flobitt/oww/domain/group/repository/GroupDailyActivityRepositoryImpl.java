@@ -0,0 +1,83 @@
+package flobitt.oww.domain.group.repository;
+
+import flobitt.oww.global.id.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class GroupDailyActivityRepositoryImpl implements GroupDailyActivityRepositoryCustom {
+
+    // 같은 날 같은 멤버가 여러 번 기록해도 한 번만 센다. (member_count를 member_ids보다 먼저 계산해야 한다)
+    private static final String UPSERT_SQL = """
+            INSERT INTO GROUP_DAILY_ACTIVITY (group_id, activity_date, member_count, member_ids, created_at, updated_at)
+            VALUES (?, ?, 1, JSON_ARRAY(?), NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                member_count = IF(JSON_CONTAINS(member_ids, JSON_QUOTE(?)), member_count, member_count + 1),
+                member_ids = IF(JSON_CONTAINS(member_ids, JSON_QUOTE(?)), member_ids, JSON_ARRAY_APPEND(member_ids, '$', ?)),
+                updated_at = NOW()
+            """;
+
+    // BINARY(16) user_id -> UUID 문자열
+    private static final String USER_ID_TEXT = """
+            LOWER(CONCAT_WS('-', SUBSTR(HEX(user_id), 1, 8), SUBSTR(HEX(user_id), 9, 4), SUBSTR(HEX(user_id), 13, 4),
+                                 SUBSTR(HEX(user_id), 17, 4), SUBSTR(HEX(user_id), 21)))""";
+
+    private static final String REBUILD_SELECT = """
+            SELECT group_id, workout_date, COUNT(DISTINCT user_id), JSON_ARRAYAGG(DISTINCT %s), NOW(), NOW()
+              FROM GROUP_WORKOUT_LOGS
+            """.formatted(USER_ID_TEXT);
+
+    private static final String INSERT_INTO = """
+            INSERT INTO GROUP_DAILY_ACTIVITY (group_id, activity_date, member_count, member_ids, created_at, updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (그룹 x 날짜) 조합을 하나의 JDBC 배치로 upsert
+     * 행 잠금을 항상 PK(group_id, activity_date) 순서로 잡도록 정렬해서 보낸다.
+     * (겹치는 행을 건드리는 동시 기록이 서로 다른 순서로 잠가 데드락이 나지 않도록, group_id는 BINARY 비교와 같은 부호 없는 바이트 순서)
+     */
+    @Override
+    public void upsertAll(UUID userId, Collection<UUID> groupIds, Collection<LocalDate> dates) {
+        if (groupIds.isEmpty() || dates.isEmpty()) return;
+
+        List<byte[]> sortedGroupIds = groupIds.stream()
+                .distinct()
+                .map(UuidBytes::toBytes)
+                .sorted(Arrays::compareUnsigned)
+                .toList();
+        List<LocalDate> sortedDates = dates.stream().distinct().sorted().toList();
+
+        String userIdText = userId.toString();
+        List<Object[]> params = new ArrayList<>(sortedGroupIds.size() * sortedDates.size());
+        for (byte[] groupIdBytes : sortedGroupIds) {
+            for (LocalDate date : sortedDates) {
+                params.add(new Object[]{groupIdBytes, Date.valueOf(date), userIdText, userIdText, userIdText, userIdText});
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, params);
+    }
+
+    @Override
+    public int rebuild(UUID groupId) {
+        byte[] groupIdBytes = UuidBytes.toBytes(groupId);
+        jdbcTemplate.update("DELETE FROM GROUP_DAILY_ACTIVITY WHERE group_id = ?", (Object) groupIdBytes);
+        return jdbcTemplate.update(INSERT_INTO + REBUILD_SELECT + " WHERE group_id = ? GROUP BY group_id, workout_date",
+                (Object) groupIdBytes);
+    }
+
+    @Override
+    public int rebuildAll() {
+        jdbcTemplate.update("DELETE FROM GROUP_DAILY_ACTIVITY");
+        return jdbcTemplate.update(INSERT_INTO + REBUILD_SELECT + " GROUP BY group_id, workout_date");
+    }
+}
@@ -0,0 +1,22 @@
+package flobitt.oww.domain.group.repository;
+
+import flobitt.oww.domain.group.entity.GroupMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface GroupMemberRepository extends JpaRepository<GroupMember, UUID> {
+
+    // 사용자가 속한 그룹 ID (탈퇴하지 않은 그룹만)
+    @Query("select gm.group.id from GroupMember gm where gm.user.id = :userId and gm.isDeleted = false")
+    List<UUID> findActiveGroupIdsByUserId(@Param("userId") UUID userId);
+
+    // 사용자의 그룹 멤버십 (탈퇴하지 않은 그룹만)
+    @Query("select gm from GroupMember gm where gm.user.id = :userId and gm.isDeleted = false")
+    List<GroupMember> findActiveByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,35 @@
+package flobitt.oww.domain.group.repository;
+
+import flobitt.oww.domain.group.entity.Group;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface GroupRepository extends JpaRepository<Group, UUID> {
+
+    // 초대 코드 -> 그룹 ID (uk_invite_code 한 건 조회)
+    @Query("select g.id from Group g where g.inviteCode = :inviteCode and g.isDeleted = false and g.isActive = true")
+    Optional<UUID> findActiveIdByInviteCode(@Param("inviteCode") String inviteCode);
+
+    /**
+     * 정원이 남아 있을 때만 인원 +1 (변경된 행 수 반환, 0이면 정원 초과 또는 비활성 그룹)
+     * 조건 확인과 증가가 한 문장이라 COUNT 조회나 잠금 읽기가 없다.
+     * UPDATE가 잡은 그룹 행 잠금은 커밋까지 유지되므로 트랜잭션의 마지막 문장으로 호출한다. (잠금이 커밋 동안만 잡히도록)
+     */
+    @Modifying
+    @Query("""
+            update Group g
+               set g.memberCount = g.memberCount + 1
+             where g.id = :groupId
+               and g.isDeleted = false
+               and g.isActive = true
+               and (g.maxMembers is null or g.memberCount < g.maxMembers)
+            """)
+    int reserveSeat(@Param("groupId") UUID groupId);
+}
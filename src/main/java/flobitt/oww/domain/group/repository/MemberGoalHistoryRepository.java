@@ -0,0 +1,21 @@
+package flobitt.oww.domain.group.repository;
+
+import flobitt.oww.domain.group.entity.MemberGoalHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MemberGoalHistoryRepository extends JpaRepository<MemberGoalHistory, UUID> {
+
+    @Query("select h from MemberGoalHistory h where h.groupMember.id = :memberId order by h.startDate")
+    List<MemberGoalHistory> findAllByMemberId(@Param("memberId") UUID memberId);
+
+    @Query("select h from MemberGoalHistory h where h.groupMember.id in :memberIds order by h.startDate")
+    List<MemberGoalHistory> findAllByMemberIdIn(@Param("memberIds") Collection<UUID> memberIds);
+}
@@ -0,0 +1,26 @@
+package flobitt.oww.domain.group.repository;
+
+import flobitt.oww.domain.group.entity.MemberStreak;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MemberStreakRepository extends JpaRepository<MemberStreak, UUID>, MemberStreakRepositoryCustom {
+
+    // 잠금 없이 이미 있는 행만 확인 (없는 키를 FOR UPDATE로 찾으면 갭 락이 걸려 동시 INSERT끼리 데드락이 난다)
+    @Query("select s.memberId from MemberStreak s where s.memberId in :memberIds")
+    List<UUID> findExistingIds(@Param("memberIds") Collection<UUID> memberIds);
+
+    // 같은 멤버의 기록이 동시에 들어와도 비트가 유실되지 않도록 행 잠금 (항상 PK 순서로 잠가 데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from MemberStreak s where s.memberId in :memberIds order by s.memberId")
+    List<MemberStreak> findAllByIdsForUpdate(@Param("memberIds") Collection<UUID> memberIds);
+}
@@ -0,0 +1,9 @@
+package flobitt.oww.domain.group.repository;
+
+import flobitt.oww.domain.group.entity.MemberStreak;
+
+import java.util.Collection;
+
+public interface MemberStreakRepositoryCustom {
+    void insertIgnoreAll(Collection<MemberStreak> streaks);
+}
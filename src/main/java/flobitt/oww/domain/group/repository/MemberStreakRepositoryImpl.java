@@ -0,0 +1,37 @@
+package flobitt.oww.domain.group.repository;
+
+import flobitt.oww.domain.group.entity.MemberStreak;
+import flobitt.oww.global.id.UuidBytes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MemberStreakRepositoryImpl implements MemberStreakRepositoryCustom {
+
+    // 같은 멤버의 첫 기록이 동시에 들어오면 먼저 들어간 행을 그대로 쓴다. (save()의 SELECT 후 INSERT는 중복 키로 실패)
+    private static final String INSERT_IGNORE_SQL = """
+            INSERT IGNORE INTO MEMBER_STREAKS (member_id, week_start, week_mask, week_history, current_streak,
+                                               longest_streak, tracked_weeks, achieved_weeks, created_at, updated_at)
+            VALUES (?, ?, 0, 0, 0, 0, 0, 0, NOW(), NOW())
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 빈 상태의 행만 만든다. 잠금을 PK 순서로 잡도록 member_id(부호 없는 바이트) 순으로 정렬해서 하나의 배치로 보낸다.
+    @Override
+    public void insertIgnoreAll(Collection<MemberStreak> streaks) {
+        if (streaks.isEmpty()) return;
+
+        List<Object[]> params = streaks.stream()
+                .map(streak -> new Object[]{UuidBytes.toBytes(streak.getMemberId()), Date.valueOf(streak.getWeekStart())})
+                .sorted(Comparator.comparing(row -> (byte[]) row[0], Arrays::compareUnsigned))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, params);
+    }
+}
@@ -0,0 +1,36 @@
+package flobitt.oww.domain.group.runner;
+
+import flobitt.oww.domain.group.service.GroupCalendarService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 그룹 캘린더 재집계 명령
+ * java -jar oww.jar --rebuild-group-calendar           : 전체 그룹
+ * java -jar oww.jar --rebuild-group-calendar={groupId} : 특정 그룹
+ */
+@Component
+@RequiredArgsConstructor
+public class GroupCalendarRebuildRunner implements ApplicationRunner {
+
+    private static final String OPTION = "rebuild-group-calendar";
+
+    private final GroupCalendarService groupCalendarService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) return;
+
+        List<String> groupIds = args.getOptionValues(OPTION);
+        if (groupIds.isEmpty()) {
+            groupCalendarService.rebuild(null);
+            return;
+        }
+        groupIds.forEach(groupId -> groupCalendarService.rebuild(UUID.fromString(groupId)));
+    }
+}
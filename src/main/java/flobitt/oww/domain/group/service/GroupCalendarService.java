@@ -0,0 +1,45 @@
+package flobitt.oww.domain.group.service;
+
+import flobitt.oww.domain.group.dto.res.GroupCalendarDayRes;
+import flobitt.oww.domain.group.repository.GroupDailyActivityRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupCalendarService {
+
+    private final GroupDailyActivityRepository groupDailyActivityRepository;
+
+    // 월간 캘린더 : 운동 기록이 있는 날만 반환
+    public List<GroupCalendarDayRes> getMonthlyCalendar(UUID groupId, YearMonth month) {
+        return groupDailyActivityRepository.findByGroupIdAndDateRange(groupId, month.atDay(1), month.atEndOfMonth())
+                .stream()
+                .map(GroupCalendarDayRes::from)
+                .toList();
+    }
+
+    // 운동 로그 저장과 같은 트랜잭션에서 호출
+    public void recordActivity(UUID userId, Collection<UUID> groupIds, Collection<LocalDate> dates) {
+        groupDailyActivityRepository.upsertAll(userId, groupIds, dates);
+    }
+
+    // GROUP_WORKOUT_LOGS 기준으로 다시 집계 (groupId가 null이면 전체)
+    @Transactional
+    public int rebuild(UUID groupId) {
+        int rows = groupId == null
+                ? groupDailyActivityRepository.rebuildAll()
+                : groupDailyActivityRepository.rebuild(groupId);
+        log.info("그룹 캘린더 재집계 완료: groupId={}, rows={}", groupId == null ? "ALL" : groupId, rows);
+        return rows;
+    }
+}
@@ -0,0 +1,64 @@
+package flobitt.oww.domain.group.service;
+
+import flobitt.oww.domain.group.dto.req.JoinGroupReq;
+import flobitt.oww.domain.group.entity.GroupMember;
+import flobitt.oww.domain.group.event.JoinGroupEvent;
+import flobitt.oww.domain.group.repository.GroupMemberRepository;
+import flobitt.oww.domain.group.repository.GroupRepository;
+import flobitt.oww.domain.user.repository.UserRepository;
+import flobitt.oww.global.exception.AlreadyJoinedGroupException;
+import flobitt.oww.global.exception.GroupFullException;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupMemberService {
+
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final UserRepository userRepository;
+    private final InviteCodeCache inviteCodeCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * 초대 코드로 그룹 가입
+     *  1. 멤버 INSERT : 중복 가입은 uk_group_active_user 로 막는다. (잠금 조회 없음, 동시에 들어온 같은 사용자의 가입도 여기서 409)
+     *  2. 정원 확인 : member_count 조건부 UPDATE 한 번 (COUNT ... FOR UPDATE 없음)
+     * 2의 그룹 행 잠금은 커밋까지 유지되므로 마지막 문장으로 두어, 같은 그룹 가입끼리는 커밋 동안만 기다린다.
+     * 정원이 차서 실패하면 롤백으로 1의 INSERT도 취소된다.
+     */
+    @Transactional
+    public UUID joinByInviteCode(String inviteCode, JoinGroupReq req) {
+        // TODO Exception 설정
+        UUID groupId = inviteCodeCache.resolve(inviteCode)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 초대 코드입니다."));
+        if (!userRepository.existsById(req.getUserId())) throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+
+        GroupMember member = JoinGroupReq.toEntity(req,
+                groupRepository.getReferenceById(groupId),
+                userRepository.getReferenceById(req.getUserId()));
+        try {
+            groupMemberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new AlreadyJoinedGroupException("이미 가입한 그룹입니다.");
+        }
+
+        if (groupRepository.reserveSeat(groupId) == 0) {
+            // 캐시된 코드의 그룹이 그 사이 삭제/비활성화되었을 수도 있다.
+            inviteCodeCache.evict(inviteCode);
+            throw new GroupFullException("그룹 정원이 가득 찼거나 가입할 수 없는 그룹입니다.");
+        }
+
+        applicationEventPublisher.publishEvent(new JoinGroupEvent(groupId, req.getUserId()));
+        log.info("그룹 가입: groupId={}, userId={}", groupId, req.getUserId());
+        return member.getId();
+    }
+}
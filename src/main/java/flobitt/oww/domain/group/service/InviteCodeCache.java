@@ -0,0 +1,42 @@
+package flobitt.oww.domain.group.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import flobitt.oww.domain.group.repository.GroupRepository;
+import flobitt.oww.global.properties.InviteCodeCacheProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 초대 코드 -> 그룹 ID TTL 캐시
+ * 초대 링크가 퍼지면 같은 코드 조회가 몰리므로 DB 조회는 TTL마다 한 번으로 줄인다.
+ * 없는 코드는 캐시하지 않는다. (임의 코드로 캐시를 채울 수 없도록)
+ * 최대 건수를 넘으면 Caffeine이 자주 쓰지 않는 코드부터 내보낸다.
+ */
+@Component
+public class InviteCodeCache {
+
+    private final GroupRepository groupRepository;
+    private final Cache<String, UUID> cache;
+
+    public InviteCodeCache(GroupRepository groupRepository, InviteCodeCacheProperties properties) {
+        this.groupRepository = groupRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    // 로더가 null을 돌려주면 Caffeine은 저장하지 않는다. 같은 코드의 동시 미스는 조회 한 번으로 합쳐진다.
+    public Optional<UUID> resolve(String inviteCode) {
+        return Optional.ofNullable(cache.get(inviteCode,
+                code -> groupRepository.findActiveIdByInviteCode(code).orElse(null)));
+    }
+
+    // 코드 재발급, 그룹 삭제/비활성화 시
+    public void evict(String inviteCode) {
+        cache.invalidate(inviteCode);
+    }
+}
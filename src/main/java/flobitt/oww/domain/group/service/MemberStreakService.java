@@ -0,0 +1,125 @@
+package flobitt.oww.domain.group.service;
+
+import flobitt.oww.domain.group.dto.res.MemberGoalStatusRes;
+import flobitt.oww.domain.group.entity.GoalTimeline;
+import flobitt.oww.domain.group.entity.GroupMember;
+import flobitt.oww.domain.group.entity.MemberGoalHistory;
+import flobitt.oww.domain.group.entity.MemberStreak;
+import flobitt.oww.domain.group.entity.WeekdayMask;
+import flobitt.oww.domain.group.repository.GroupMemberRepository;
+import flobitt.oww.domain.group.repository.MemberGoalHistoryRepository;
+import flobitt.oww.domain.group.repository.MemberStreakRepository;
+import flobitt.oww.domain.workout.repository.GroupWorkoutLogRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberStreakService {
+
+    private static final int RECENT_WEEKS = 12;
+
+    private final MemberStreakRepository memberStreakRepository;
+    private final MemberGoalHistoryRepository memberGoalHistoryRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final GroupWorkoutLogRepository groupWorkoutLogRepository;
+
+    /**
+     * GroupWorkoutLog 저장과 같은 트랜잭션에서 호출 : 운동한 요일 비트만 켠다.
+     * 그룹 수와 상관없이 목표 이력 1번, 기존 행 확인 1번, 잠금 조회 1번, UPDATE 배치 1번으로 끝난다.
+     * 이미 마감된 주의 날짜가 섞여 있으면 그 멤버만 로그 기준으로 다시 계산한다.
+     */
+    public void recordWorkouts(Collection<GroupMember> members, Collection<LocalDate> dates) {
+        if (members.isEmpty() || dates.isEmpty()) return;
+
+        LocalDate first = dates.stream().min(LocalDate::compareTo).orElseThrow();
+        List<LocalDate> sortedDates = dates.stream().sorted().toList();
+        Map<UUID, GroupMember> memberById = members.stream()
+                .collect(Collectors.toMap(GroupMember::getId, Function.identity(), (a, b) -> a));
+        Map<UUID, GoalTimeline> goalsById = loadGoals(memberById.keySet());
+
+        for (MemberStreak streak : lockStreaks(memberById.keySet(), first)) {
+            GoalTimeline goals = goalsById.get(streak.getMemberId());
+            boolean incremental = sortedDates.stream().allMatch(date -> streak.recordWorkout(date, goals));
+            if (!incremental) {
+                rebuild(memberById.get(streak.getMemberId()), streak, goals);
+            }
+        }
+    }
+
+    public MemberGoalStatusRes getGoalStatus(UUID memberId) {
+        LocalDate today = LocalDate.now();
+        GoalTimeline goals = new GoalTimeline(memberGoalHistoryRepository.findAllByMemberId(memberId));
+        WeekdayMask goal = goals.maskAt(today);
+
+        MemberStreak streak = memberStreakRepository.findById(memberId)
+                .map(s -> s.projectedTo(today, goals))
+                .orElseGet(() -> MemberStreak.start(memberId, today));
+
+        // 진행 중인 주도 이미 목표를 채웠다면 연속 기록에 포함
+        boolean weekAchieved = !goal.isEmpty() && goal.isCoveredBy(streak.getWeekMask());
+        int currentStreak = streak.getCurrentStreak() + (weekAchieved ? 1 : 0);
+
+        return MemberGoalStatusRes.builder()
+                .memberId(memberId)
+                .goalDays(goal.days())
+                .doneDays(new WeekdayMask(streak.getWeekMask()).days())
+                .weeklyAchievementRate(goal.isEmpty() ? 0 : (double) goal.matched(streak.getWeekMask()) / goal.size())
+                .currentStreak(currentStreak)
+                .longestStreak(Math.max(streak.getLongestStreak(), currentStreak))
+                .recentAchievementRate(streak.recentAchievementRate(RECENT_WEEKS))
+                .build();
+    }
+
+    // 목표 변경 등으로 전체 재계산이 필요할 때
+    @Transactional
+    public void rebuild(UUID memberId) {
+        GroupMember member = groupMemberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 그룹 멤버입니다."));
+        GoalTimeline goals = new GoalTimeline(memberGoalHistoryRepository.findAllByMemberId(memberId));
+        MemberStreak streak = lockStreaks(List.of(memberId), LocalDate.now()).getFirst();
+
+        rebuild(member, streak, goals);
+    }
+
+    private Map<UUID, GoalTimeline> loadGoals(Collection<UUID> memberIds) {
+        Map<UUID, List<MemberGoalHistory>> historiesById = memberGoalHistoryRepository.findAllByMemberIdIn(memberIds).stream()
+                .collect(Collectors.groupingBy(history -> history.getGroupMember().getId()));
+        return memberIds.stream().collect(Collectors.toMap(Function.identity(),
+                id -> new GoalTimeline(historiesById.getOrDefault(id, List.of()))));
+    }
+
+    /**
+     * 멤버들의 연속 기록 행을 PK 순서로 잠가서 반환 (영속 상태라 변경 감지로 UPDATE 된다)
+     * 없는 행은 잠그기 전에 INSERT IGNORE로 먼저 만들어 둔다. (동시에 만든 행이 있으면 그 행을 쓴다)
+     */
+    private List<MemberStreak> lockStreaks(Collection<UUID> memberIds, LocalDate first) {
+        Set<UUID> existing = new HashSet<>(memberStreakRepository.findExistingIds(memberIds));
+        List<MemberStreak> missing = memberIds.stream()
+                .filter(id -> !existing.contains(id))
+                .map(id -> MemberStreak.start(id, first))
+                .toList();
+        memberStreakRepository.insertIgnoreAll(missing);
+        return memberStreakRepository.findAllByIdsForUpdate(memberIds);
+    }
+
+    private void rebuild(GroupMember member, MemberStreak streak, GoalTimeline goals) {
+        streak.rebuild(groupWorkoutLogRepository.findWorkoutDates(member.getGroup().getId(), member.getUser().getId()),
+                goals, LocalDate.now());
+        log.info("멤버 연속 기록 재계산: memberId={}, currentStreak={}, longestStreak={}",
+                member.getId(), streak.getCurrentStreak(), streak.getLongestStreak());
+    }
+}
@@ -0,0 +1,15 @@
+package flobitt.oww.domain.notification.dto.internal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class GroupSubscriberDto {
+    private final UUID groupId;
+    private final UUID userId;
+    private final String nickname;
+    private final Boolean groupMemberWorkout;
+}
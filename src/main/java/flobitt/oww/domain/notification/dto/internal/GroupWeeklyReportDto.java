@@ -0,0 +1,24 @@
+package flobitt.oww.domain.notification.dto.internal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class GroupWeeklyReportDto {
+    private final UUID groupId;
+    private final String groupName;
+    private final LocalDate weekStart;
+    private final LocalDate weekEnd;
+    private final int totalSessions;
+    private final long totalMinutes;
+    private final long scannedRows;
+    private final List<MemberWeeklySummaryDto> members;
+    private final List<WeeklyReportRecipientDto> recipients;
+}
@@ -0,0 +1,13 @@
+package flobitt.oww.domain.notification.dto.internal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberWeeklySummaryDto {
+    private final String nickname;
+    private final int workoutDays;
+    private final int sessions;
+    private final long minutes;
+}
@@ -0,0 +1,16 @@
+package flobitt.oww.domain.notification.dto.internal;
+
+import jakarta.mail.internet.MimeMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 수신자 한 명에게 보낼 리포트 메일 (발송 성공 시 (그룹, 수신자, 주) 발송 기록을 남긴다)
+@Getter
+@AllArgsConstructor
+public class WeeklyReportMailDto {
+    private final UUID groupId;
+    private final UUID userId;
+    private final MimeMessage message;
+}
@@ -0,0 +1,14 @@
+package flobitt.oww.domain.notification.dto.internal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class WeeklyReportRecipientDto {
+    private final UUID userId;
+    private final String email;
+    private final String language;
+}
@@ -0,0 +1,25 @@
+package flobitt.oww.domain.notification.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class WorkoutNotificationRes {
+    private List<Item> items;
+    // 묶음 크기를 넘겨 목록에서 빠진 알림 수
+    private int omitted;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private UUID groupId;
+        private UUID userId;
+        private String nickname;
+        private LocalDate workoutDate;
+    }
+}
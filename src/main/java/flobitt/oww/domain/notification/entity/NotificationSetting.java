@@ -3,11 +3,13 @@ package flobitt.oww.domain.notification.entity;
 import flobitt.oww.domain.base.entity.BaseEntity;
 import flobitt.oww.domain.group.entity.Group;
 import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.global.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.util.UUID;
@@ -15,6 +17,8 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "NOTIFICATION_SETTINGS")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "notificationSetting")
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -23,9 +27,9 @@ public class NotificationSetting extends BaseEntity {
 
     @Id
     @EqualsAndHashCode.Include
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "setting_id", columnDefinition = "VARCHAR(36)")
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "setting_id", columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Column(name = "workout_reminder")
@@ -0,0 +1,23 @@
+package flobitt.oww.domain.notification.event.listener;
+
+import flobitt.oww.domain.notification.service.NotificationFanOutService;
+import flobitt.oww.domain.workout.event.CreateWorkoutRecordEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class WorkoutNotificationListener {
+    private final NotificationFanOutService notificationFanOutService;
+
+    // 운동 기록이 커밋된 후 그룹 멤버에게 알림 (수신자 캐시 미스 시 DB 조회가 있으므로 요청 스레드 밖에서)
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleCreateWorkoutRecord(CreateWorkoutRecordEvent event) {
+        notificationFanOutService.publish(event);
+    }
+}
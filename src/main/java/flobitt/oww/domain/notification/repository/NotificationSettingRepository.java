@@ -0,0 +1,27 @@
+package flobitt.oww.domain.notification.repository;
+
+import flobitt.oww.domain.notification.dto.internal.GroupSubscriberDto;
+import flobitt.oww.domain.notification.entity.NotificationSetting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface NotificationSettingRepository extends JpaRepository<NotificationSetting, UUID> {
+
+    // 그룹 멤버 + 멤버 운동 알림 설정 (설정 행이 없으면 기본값 TRUE), 캐시에 없는 그룹을 한 번에 조회
+    @Query("""
+            select new flobitt.oww.domain.notification.dto.internal.GroupSubscriberDto(
+                       gm.group.id, gm.user.id, gm.nickname, coalesce(s.groupMemberWorkout, true))
+              from GroupMember gm
+              left join NotificationSetting s on s.group.id = gm.group.id and s.user.id = gm.user.id
+             where gm.group.id in :groupIds
+               and gm.isDeleted = false
+            """)
+    List<GroupSubscriberDto> findGroupSubscribers(@Param("groupIds") Collection<UUID> groupIds);
+}
@@ -0,0 +1,127 @@
+package flobitt.oww.domain.notification.repository;
+
+import flobitt.oww.domain.notification.dto.internal.WeeklyReportMailDto;
+import flobitt.oww.domain.notification.dto.internal.WeeklyReportRecipientDto;
+import flobitt.oww.global.id.UuidBytes;
+import flobitt.oww.global.properties.WeeklyReportProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 주간 리포트 조회 전용 (엔티티를 만들지 않고 JDBC로 바로 읽는다)
+ * 로그는 forward-only 커서 + fetchSize 로 스트리밍해서 그룹 하나의 로그 전체를 메모리에 올리지 않는다.
+ */
+@Repository
+public class WeeklyReportQueryRepository {
+
+    private static final String REPORT_GROUP_IDS_SQL = """
+            SELECT DISTINCT s.group_id
+              FROM NOTIFICATION_SETTINGS s
+              JOIN GROUPS g ON g.group_id = s.group_id
+             WHERE s.weekly_report = TRUE
+               AND g.is_deleted = FALSE
+               AND s.group_id > ?
+             ORDER BY s.group_id
+             LIMIT ?
+            """;
+
+    private static final String GROUP_LOGS_SQL = """
+            SELECT l.user_id, l.workout_date, r.duration_minutes
+              FROM GROUP_WORKOUT_LOGS l
+              JOIN WORKOUT_RECORDS r ON r.record_id = l.record_id
+             WHERE l.group_id = ?
+               AND l.workout_date BETWEEN ? AND ?
+            """;
+
+    private static final String MEMBERS_SQL = """
+            SELECT user_id, nickname
+              FROM GROUP_MEMBERS
+             WHERE group_id = ? AND is_deleted = FALSE
+            """;
+
+    // 이미 이번 주 리포트를 받은 수신자는 제외 (재실행/재시도 시 중복 발송 방지)
+    // 탈퇴한 멤버는 알림 설정 행이 남아 있어도 받지 않는다. (활성 멤버십은 uk_group_active_user 로 사용자당 1개라 행이 늘지 않는다)
+    private static final String RECIPIENTS_SQL = """
+            SELECT u.user_id, u.email, u.language
+              FROM NOTIFICATION_SETTINGS s
+              JOIN USERS u ON u.user_id = s.user_id
+              JOIN GROUP_MEMBERS m ON m.group_id = s.group_id AND m.user_id = s.user_id AND m.is_deleted = FALSE
+             WHERE s.group_id = ?
+               AND s.weekly_report = TRUE
+               AND u.is_deleted = FALSE
+               AND u.user_status = 'ACTIVE'
+               AND NOT EXISTS (SELECT 1
+                                 FROM WEEKLY_REPORT_DELIVERIES d
+                                WHERE d.week_start = ? AND d.group_id = s.group_id AND d.user_id = s.user_id)
+            """;
+
+    private static final String MARK_DELIVERED_SQL = """
+            INSERT IGNORE INTO WEEKLY_REPORT_DELIVERIES (week_start, group_id, user_id, sent_at)
+            VALUES (?, ?, ?, NOW())
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public WeeklyReportQueryRepository(JdbcTemplate jdbcTemplate, DataSource dataSource, WeeklyReportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        // JdbcTemplate 기본 ResultSet은 TYPE_FORWARD_ONLY / CONCUR_READ_ONLY, fetchSize를 주면 드라이버가 나눠서 가져온다.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(properties.getFetchSize());
+    }
+
+    // 주간 리포트를 받는 사용자가 있는 그룹 (group_id 키셋 페이지)
+    public List<UUID> findReportGroupIds(UUID lastGroupId, int limit) {
+        return jdbcTemplate.query(REPORT_GROUP_IDS_SQL,
+                (rs, rowNum) -> UuidBytes.fromBytes(rs.getBytes(1)),
+                UuidBytes.toBytes(lastGroupId), limit);
+    }
+
+    public Optional<String> findGroupName(UUID groupId) {
+        return jdbcTemplate.query("SELECT group_name FROM GROUPS WHERE group_id = ?",
+                        (rs, rowNum) -> rs.getString(1), (Object) UuidBytes.toBytes(groupId))
+                .stream().findFirst();
+    }
+
+    // user_id -> nickname
+    public Map<UUID, String> findMemberNicknames(UUID groupId) {
+        Map<UUID, String> nicknames = new LinkedHashMap<>();
+        jdbcTemplate.query(MEMBERS_SQL,
+                (RowCallbackHandler) rs -> nicknames.put(UuidBytes.fromBytes(rs.getBytes(1)), rs.getString(2)),
+                (Object) UuidBytes.toBytes(groupId));
+        return nicknames;
+    }
+
+    // 아직 weekStart 주 리포트를 받지 않은 수신자
+    public List<WeeklyReportRecipientDto> findRecipients(UUID groupId, LocalDate weekStart) {
+        return jdbcTemplate.query(RECIPIENTS_SQL,
+                (rs, rowNum) -> new WeeklyReportRecipientDto(UuidBytes.fromBytes(rs.getBytes(1)), rs.getString(2), rs.getString(3)),
+                UuidBytes.toBytes(groupId), Date.valueOf(weekStart));
+    }
+
+    // 발송에 성공한 수신자 기록 (하나의 배치)
+    public void markDelivered(LocalDate weekStart, Collection<WeeklyReportMailDto> mails) {
+        if (mails.isEmpty()) return;
+        Date week = Date.valueOf(weekStart);
+        jdbcTemplate.batchUpdate(MARK_DELIVERED_SQL, mails.stream()
+                .map(mail -> new Object[]{week, UuidBytes.toBytes(mail.getGroupId()), UuidBytes.toBytes(mail.getUserId())})
+                .toList());
+    }
+
+    // 보관 기간이 지난 발송 기록 삭제
+    public int deleteDeliveriesBefore(LocalDate weekStart) {
+        return jdbcTemplate.update("DELETE FROM WEEKLY_REPORT_DELIVERIES WHERE week_start < ?", Date.valueOf(weekStart));
+    }
+
+    // 그룹의 기간 내 로그를 한 행씩 콜백으로 넘긴다. (user_id, workout_date, duration_minutes)
+    public void streamGroupLogs(UUID groupId, LocalDate from, LocalDate to, RowCallbackHandler handler) {
+        streamingJdbcTemplate.query(GROUP_LOGS_SQL, handler,
+                UuidBytes.toBytes(groupId), Date.valueOf(from), Date.valueOf(to));
+    }
+}
@@ -0,0 +1,162 @@
+package flobitt.oww.domain.notification.scheduler;
+
+import flobitt.oww.domain.notification.dto.internal.GroupWeeklyReportDto;
+import flobitt.oww.domain.notification.dto.internal.WeeklyReportMailDto;
+import flobitt.oww.domain.notification.repository.WeeklyReportQueryRepository;
+import flobitt.oww.domain.notification.service.WeeklyReportService;
+import flobitt.oww.global.properties.WeeklyReportProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주간 리포트 발송
+ * 1. 리포트를 받는 그룹을 group_id 키셋으로 한 페이지씩 읽고
+ * 2. 페이지 안의 그룹을 전용 ForkJoinPool에서 병렬로 집계한 뒤 (그룹마다 로그 스트리밍)
+ * 3. 완성된 리포트 메일을 mailBatchSize 단위로 모아 SMTP 연결 하나로 발송한다.
+ * 메모리는 페이지 크기 x 그룹 멤버 수 정도로 고정된다.
+ * 발송에 성공한 수신자는 WEEKLY_REPORT_DELIVERIES에 기록되므로, 같은 주를 다시 실행하면(retry-cron, 수동 재실행) 받지 못한 수신자에게만 보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.weekly-report", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WeeklyReportJob implements DisposableBean {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final WeeklyReportService weeklyReportService;
+    private final WeeklyReportQueryRepository weeklyReportQueryRepository;
+    private final WeeklyReportProperties properties;
+    private final ForkJoinPool aggregatePool;
+
+    private final Timer jobTimer;
+    private final Counter rowCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public WeeklyReportJob(WeeklyReportService weeklyReportService,
+                           WeeklyReportQueryRepository weeklyReportQueryRepository,
+                           WeeklyReportProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.weeklyReportService = weeklyReportService;
+        this.weeklyReportQueryRepository = weeklyReportQueryRepository;
+        this.properties = properties;
+        this.aggregatePool = new ForkJoinPool(properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+        this.jobTimer = meterRegistry.timer("weekly.report.duration");
+        this.rowCounter = meterRegistry.counter("weekly.report.rows");
+        this.sentCounter = meterRegistry.counter("weekly.report.mail.sent");
+        this.failedCounter = meterRegistry.counter("weekly.report.mail.failed");
+    }
+
+    // 배치 사이 대기/SMTP 발송이 길어서 스케줄러 스레드가 아닌 maintenanceExecutor에서 실행
+    @Async("maintenanceExecutor")
+    @Scheduled(cron = "${app.weekly-report.cron:0 0 9 * * MON}")
+    public void sendLastWeekReports() {
+        LocalDate weekStart = lastWeekStart();
+        int purged = weeklyReportQueryRepository.deleteDeliveriesBefore(weekStart.minusWeeks(properties.getDeliveryRetentionWeeks()));
+        if (purged > 0) log.info("주간 리포트 발송 기록 정리: {}건", purged);
+        run(weekStart);
+    }
+
+    // 실패/누락된 수신자 재발송 (이미 받은 수신자는 조회 단계에서 빠지고, 남은 수신자가 없는 그룹은 로그를 읽지 않는다)
+    @Async("maintenanceExecutor")
+    @Scheduled(cron = "${app.weekly-report.retry-cron:0 0 10-18 * * MON}")
+    public void retryLastWeekReports() {
+        run(lastWeekStart());
+    }
+
+    public void run(LocalDate weekStart) {
+        long started = System.nanoTime();
+        long rows = 0;
+        int groups = 0;
+        List<WeeklyReportMailDto> pending = new ArrayList<>(properties.getMailBatchSize());
+
+        UUID lastGroupId = MIN_ID;
+        while (true) {
+            List<UUID> page = weeklyReportQueryRepository.findReportGroupIds(lastGroupId, properties.getGroupPageSize());
+            if (page.isEmpty()) break;
+
+            for (GroupWeeklyReportDto report : aggregate(page, weekStart)) {
+                rows += report.getScannedRows();
+                groups++;
+                for (WeeklyReportMailDto mail : weeklyReportService.createMessages(report)) {
+                    pending.add(mail);
+                    if (pending.size() >= properties.getMailBatchSize()) flush(pending, weekStart);
+                }
+            }
+
+            lastGroupId = page.get(page.size() - 1);
+            if (page.size() < properties.getGroupPageSize()) break;
+        }
+        flush(pending, weekStart);
+
+        long elapsedNanos = System.nanoTime() - started;
+        jobTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        rowCounter.increment(rows);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("주간 리포트 완료: week={}, groups={}, rows={}, {}ms, {} rows/sec",
+                weekStart, groups, rows, elapsedNanos / 1_000_000,
+                seconds > 0 ? String.format("%.0f", rows / seconds) : "-");
+    }
+
+    // 페이지 안의 그룹을 병렬 집계 (실패한 그룹은 건너뛰고 다음 주기에 영향 없음)
+    private List<GroupWeeklyReportDto> aggregate(List<UUID> groupIds, LocalDate weekStart) {
+        try {
+            return aggregatePool.submit(() -> groupIds.parallelStream()
+                            .map(groupId -> aggregateGroup(groupId, weekStart))
+                            .filter(Objects::nonNull)
+                            .toList())
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주간 리포트 집계가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("주간 리포트 집계 실패", e.getCause());
+        }
+    }
+
+    private GroupWeeklyReportDto aggregateGroup(UUID groupId, LocalDate weekStart) {
+        try {
+            return weeklyReportService.aggregate(groupId, weekStart);
+        } catch (RuntimeException e) {
+            log.error("주간 리포트 집계 실패: groupId={} - {}", groupId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void flush(List<WeeklyReportMailDto> pending, LocalDate weekStart) {
+        if (pending.isEmpty()) return;
+        int failed = weeklyReportService.send(List.copyOf(pending), weekStart);
+        sentCounter.increment(pending.size() - failed);
+        failedCounter.increment(failed);
+        pending.clear();
+    }
+
+    private LocalDate lastWeekStart() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+    }
+
+    @Override
+    public void destroy() {
+        aggregatePool.shutdownNow();
+    }
+}
@@ -0,0 +1,69 @@
+package flobitt.oww.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import flobitt.oww.domain.notification.dto.internal.GroupSubscriberDto;
+import flobitt.oww.domain.notification.repository.NotificationSettingRepository;
+import flobitt.oww.global.properties.NotificationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 그룹별 멤버 운동 알림 수신자 캐시
+ * 운동 기록마다 NOTIFICATION_SETTINGS를 조회하지 않도록 TTL 동안 그룹 단위로 보관한다.
+ * 그룹 수가 늘어도 메모리가 계속 늘지 않도록 최대 그룹 수를 넘으면 Caffeine이 자주 쓰지 않는 그룹부터 내보낸다.
+ * 멤버/알림 설정이 바뀌면 evict로 바로 무효화한다.
+ */
+@Component
+public class GroupSubscriberCache {
+
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final Cache<UUID, Subscribers> cache;
+
+    public GroupSubscriberCache(NotificationSettingRepository notificationSettingRepository,
+                                NotificationProperties properties) {
+        this.notificationSettingRepository = notificationSettingRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getSubscriberCacheMaxGroups())
+                .expireAfterWrite(properties.getSubscriberCacheTtl())
+                .build();
+    }
+
+    public Subscribers get(UUID groupId) {
+        return getAll(List.of(groupId)).get(groupId);
+    }
+
+    // 캐시에 없는 그룹은 한 번의 IN 쿼리로 모아서 읽는다. (기록한 사용자가 속한 그룹 수와 무관)
+    public Map<UUID, Subscribers> getAll(Collection<UUID> groupIds) {
+        return cache.getAll(groupIds, this::load);
+    }
+
+    public void evict(UUID groupId) {
+        cache.invalidate(groupId);
+    }
+
+    private Map<UUID, Subscribers> load(Set<? extends UUID> groupIds) {
+        Map<UUID, Map<UUID, String>> nicknames = new HashMap<>();
+        Map<UUID, Set<UUID>> recipients = new HashMap<>();
+        for (GroupSubscriberDto subscriber : notificationSettingRepository.findGroupSubscribers(List.copyOf(groupIds))) {
+            nicknames.computeIfAbsent(subscriber.getGroupId(), id -> new HashMap<>())
+                    .put(subscriber.getUserId(), subscriber.getNickname());
+            if (Boolean.TRUE.equals(subscriber.getGroupMemberWorkout())) {
+                recipients.computeIfAbsent(subscriber.getGroupId(), id -> new HashSet<>()).add(subscriber.getUserId());
+            }
+        }
+
+        // 멤버가 없는 그룹도 빈 값으로 캐시해서 다시 조회하지 않는다.
+        Map<UUID, Subscribers> loaded = new HashMap<>();
+        for (UUID groupId : groupIds) {
+            loaded.put(groupId, new Subscribers(Map.copyOf(nicknames.getOrDefault(groupId, Map.of())),
+                    Set.copyOf(recipients.getOrDefault(groupId, Set.of()))));
+        }
+        return loaded;
+    }
+
+    // nicknames : 그룹 멤버 전체, recipients : 멤버 운동 알림을 켠 멤버
+    public record Subscribers(Map<UUID, String> nicknames, Set<UUID> recipients) {
+    }
+}
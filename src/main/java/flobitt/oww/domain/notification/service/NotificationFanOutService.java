@@ -0,0 +1,118 @@
+package flobitt.oww.domain.notification.service;
+
+import flobitt.oww.domain.notification.dto.res.WorkoutNotificationRes;
+import flobitt.oww.domain.workout.event.CreateWorkoutRecordEvent;
+import flobitt.oww.global.properties.NotificationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹 멤버 운동 알림 fan-out
+ * 수신자별로 첫 알림이 들어온 시점부터 coalesceWindow 동안 모았다가 SSE 이벤트 하나로 보낸다.
+ * 30명 그룹이 같은 시간대에 운동해도 수신자마다 창 하나당 한 번만 전송된다.
+ * flush는 전용 스케줄러에서 실행해서, 공용 스케줄러의 다른 작업이 길어져도 알림이 늦어지지 않게 한다. (실제 전송은 notificationExecutor)
+ */
+@Slf4j
+@Service
+public class NotificationFanOutService implements DisposableBean {
+
+    private final GroupSubscriberCache groupSubscriberCache;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final ThreadPoolTaskScheduler flushScheduler;
+    private final NotificationProperties properties;
+
+    private final Map<UUID, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final Counter eventCounter;
+    private final Counter batchCounter;
+
+    public NotificationFanOutService(GroupSubscriberCache groupSubscriberCache,
+                                     NotificationStreamRegistry notificationStreamRegistry,
+                                     NotificationProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.groupSubscriberCache = groupSubscriberCache;
+        this.notificationStreamRegistry = notificationStreamRegistry;
+        this.flushScheduler = new ThreadPoolTaskScheduler();
+        flushScheduler.setPoolSize(1);
+        flushScheduler.setThreadNamePrefix("notification-flush-");
+        flushScheduler.initialize();
+        this.properties = properties;
+        this.eventCounter = meterRegistry.counter("notification.fanout.events");
+        this.batchCounter = meterRegistry.counter("notification.fanout.batches");
+    }
+
+    public void publish(CreateWorkoutRecordEvent event) {
+        Map<UUID, GroupSubscriberCache.Subscribers> subscribersByGroup = groupSubscriberCache.getAll(event.getGroupIds());
+        for (UUID groupId : event.getGroupIds()) {
+            GroupSubscriberCache.Subscribers subscribers = subscribersByGroup.get(groupId);
+            String nickname = subscribers.nicknames().get(event.getUserId());
+
+            for (UUID recipient : subscribers.recipients()) {
+                // 본인, 이 인스턴스에 연결되어 있지 않은 사용자는 건너뛴다.
+                if (recipient.equals(event.getUserId()) || !notificationStreamRegistry.isConnected(recipient)) continue;
+
+                for (LocalDate workoutDate : event.getWorkoutDates()) {
+                    enqueue(recipient, new WorkoutNotificationRes.Item(groupId, event.getUserId(), nickname, workoutDate));
+                }
+            }
+        }
+    }
+
+    private void enqueue(UUID recipient, WorkoutNotificationRes.Item item) {
+        eventCounter.increment();
+        pending.compute(recipient, (id, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch(properties.getMaxBatchItems());
+                flushScheduler.schedule(() -> flush(id), Instant.now().plus(properties.getCoalesceWindow()));
+            }
+            batch.add(item);
+            return batch;
+        });
+    }
+
+    private void flush(UUID recipient) {
+        PendingBatch batch = pending.remove(recipient);
+        if (batch == null) return;
+
+        batchCounter.increment();
+        notificationStreamRegistry.send(recipient, batch.toRes());
+    }
+
+    @Override
+    public void destroy() {
+        flushScheduler.shutdown();
+    }
+
+    // 한 수신자의 모인 알림 (같은 그룹/멤버/날짜는 한 번만), pending.compute 안에서만 변경된다.
+    private static class PendingBatch {
+        private final int maxItems;
+        private final Map<List<Object>, WorkoutNotificationRes.Item> items = new LinkedHashMap<>();
+        private int omitted;
+
+        PendingBatch(int maxItems) {
+            this.maxItems = maxItems;
+        }
+
+        void add(WorkoutNotificationRes.Item item) {
+            List<Object> key = List.of(item.getGroupId(), item.getUserId(), item.getWorkoutDate());
+            if (items.containsKey(key)) return;
+            if (items.size() >= maxItems) {
+                omitted++;
+                return;
+            }
+            items.put(key, item);
+        }
+
+        WorkoutNotificationRes toRes() {
+            return new WorkoutNotificationRes(List.copyOf(items.values()), omitted);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package flobitt.oww.domain.notification.service;
+
+import flobitt.oww.global.properties.NotificationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자별 SSE 연결 관리 (이 인스턴스에 연결된 사용자에게만 전달)
+@Slf4j
+@Component
+public class NotificationStreamRegistry {
+
+    private final NotificationProperties properties;
+    private final Executor sender;
+    private final Map<UUID, Set<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter droppedCounter;
+
+    public NotificationStreamRegistry(NotificationProperties properties,
+                                      @Qualifier("notificationExecutor") Executor sender,
+                                      MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sender = sender;
+        this.droppedCounter = meterRegistry.counter("notification.sse.dropped");
+        meterRegistry.gauge("notification.sse.connections", connectionCount);
+    }
+
+    public SseEmitter connect(UUID userId) {
+        SseEmitter emitter = new SseEmitter(properties.getSseTimeout().toMillis());
+        SseConnection connection = new SseConnection(emitter, properties.getSseBufferSize(), sender);
+
+        // 추가/초과분 정리를 remove의 computeIfPresent와 같은 키 잠금 안에서 처리한다.
+        // (computeIfAbsent 후 add 사이에 마지막 연결이 끊기면 맵에서 빠진 집합에 추가되어 알림을 받지 못한다)
+        List<SseConnection> evicted = new ArrayList<>();
+        connections.compute(userId, (id, userConnections) -> {
+            if (userConnections == null) userConnections = new CopyOnWriteArraySet<>();
+            userConnections.add(connection);
+            connectionCount.incrementAndGet();
+            evictOldest(userConnections, evicted);
+            return userConnections;
+        });
+        // complete()는 onCompletion -> remove 로 같은 키를 다시 건드리므로 compute 밖에서 호출
+        evicted.forEach(oldest -> oldest.getEmitter().complete());
+
+        emitter.onCompletion(() -> remove(userId, connection));
+        emitter.onTimeout(() -> remove(userId, connection));
+        emitter.onError(e -> remove(userId, connection));
+
+        try {
+            // 응답 헤더를 바로 내려보내서 프록시/브라우저가 연결을 유지하도록
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            remove(userId, connection);
+            emitter.completeWithError(e);
+        } catch (IllegalStateException e) {
+            // 같은 사용자의 동시 연결이 그 사이 이 연결을 초과분으로 내보내고 complete 한 경우 (맵에서는 이미 빠져 있다)
+            remove(userId, connection);
+        }
+        return emitter;
+    }
+
+    public boolean isConnected(UUID userId) {
+        return connections.containsKey(userId);
+    }
+
+    public void send(UUID userId, Object payload) {
+        Set<SseConnection> userConnections = connections.get(userId);
+        if (userConnections == null) return;
+
+        for (SseConnection connection : userConnections) {
+            int dropped = connection.offer(payload);
+            if (dropped > 0) droppedCounter.increment(dropped);
+        }
+    }
+
+    private void evictOldest(Set<SseConnection> userConnections, List<SseConnection> evicted) {
+        while (userConnections.size() > properties.getMaxConnectionsPerUser()) {
+            SseConnection oldest = userConnections.iterator().next();
+            if (userConnections.remove(oldest)) {
+                connectionCount.decrementAndGet();
+                oldest.close();
+                evicted.add(oldest);
+            }
+        }
+    }
+
+    private void remove(UUID userId, SseConnection connection) {
+        connection.close();
+        connections.computeIfPresent(userId, (id, userConnections) -> {
+            if (userConnections.remove(connection)) connectionCount.decrementAndGet();
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+}
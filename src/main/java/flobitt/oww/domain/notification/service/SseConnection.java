@@ -0,0 +1,77 @@
+package flobitt.oww.domain.notification.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나 + 고정 크기 전송 버퍼
+ * 느린 클라이언트가 있어도 메모리가 늘지 않도록 버퍼가 가득 차면 가장 오래된 묶음을 버린다.
+ * 전송은 연결마다 한 번에 한 스레드만 수행한다. (SseEmitter.send는 동시에 호출하면 안 된다)
+ */
+@Slf4j
+public class SseConnection {
+
+    private static final String EVENT_NAME = "workout";
+
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<Object> buffer;
+    private final Executor sender;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    public SseConnection(SseEmitter emitter, int bufferSize, Executor sender) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+    }
+
+    // 버퍼에 넣고 전송 예약, 버린 묶음 수 반환
+    public int offer(Object payload) {
+        if (closed) return 0;
+
+        int dropped = 0;
+        while (!buffer.offer(payload)) {
+            if (buffer.poll() != null) dropped++;
+        }
+        scheduleDrain();
+        return dropped;
+    }
+
+    public void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) sender.execute(this::drain);
+    }
+
+    private void drain() {
+        try {
+            Object payload;
+            while (!closed && (payload = buffer.poll()) != null) {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(payload));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 연결 종료 - {}", e.getMessage());
+            close();
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+        // drain 종료 직후 들어온 묶음 처리
+        if (!closed && !buffer.isEmpty()) scheduleDrain();
+    }
+}
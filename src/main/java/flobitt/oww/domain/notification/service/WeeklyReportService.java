@@ -0,0 +1,166 @@
+package flobitt.oww.domain.notification.service;
+
+import flobitt.oww.domain.group.entity.WeekdayMask;
+import flobitt.oww.domain.notification.dto.internal.GroupWeeklyReportDto;
+import flobitt.oww.domain.notification.dto.internal.MemberWeeklySummaryDto;
+import flobitt.oww.domain.notification.dto.internal.WeeklyReportMailDto;
+import flobitt.oww.domain.notification.dto.internal.WeeklyReportRecipientDto;
+import flobitt.oww.domain.notification.repository.WeeklyReportQueryRepository;
+import flobitt.oww.global.id.UuidBytes;
+import flobitt.oww.global.mail.MailTemplate;
+import flobitt.oww.global.mail.MailTemplateRegistry;
+import flobitt.oww.global.mail.PooledMailSender;
+import flobitt.oww.global.properties.MailProperties;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeeklyReportService {
+
+    private static final String WEEKLY_REPORT_TEMPLATE = "weekly_report";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("M/d");
+
+    private final WeeklyReportQueryRepository weeklyReportQueryRepository;
+    private final PooledMailSender pooledMailSender;
+    private final MailTemplateRegistry mailTemplateRegistry;
+    private final MailProperties mailProperties;
+
+    /**
+     * 그룹 하나의 한 주 집계
+     * 로그를 스트리밍하면서 멤버별 누적값만 갱신하므로 메모리는 로그 수가 아니라 멤버 수에 비례한다.
+     * 아직 리포트를 받지 않은 수신자가 없으면 (재시도 시 대부분의 그룹) 로그를 읽지 않는다.
+     */
+    public GroupWeeklyReportDto aggregate(UUID groupId, LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        List<WeeklyReportRecipientDto> recipients = weeklyReportQueryRepository.findRecipients(groupId, weekStart);
+        if (recipients.isEmpty()) {
+            return GroupWeeklyReportDto.builder()
+                    .groupId(groupId)
+                    .weekStart(weekStart)
+                    .weekEnd(weekEnd)
+                    .members(List.of())
+                    .recipients(List.of())
+                    .build();
+        }
+
+        Map<UUID, MemberAccumulator> accumulators = new HashMap<>();
+        long[] rows = new long[1];
+
+        weeklyReportQueryRepository.streamGroupLogs(groupId, weekStart, weekEnd, rs -> {
+            MemberAccumulator acc = accumulators.computeIfAbsent(UuidBytes.fromBytes(rs.getBytes(1)), id -> new MemberAccumulator());
+            acc.add(rs.getDate(2).toLocalDate(), rs.getInt(3));
+            rows[0]++;
+        });
+
+        Map<UUID, String> nicknames = weeklyReportQueryRepository.findMemberNicknames(groupId);
+        List<MemberWeeklySummaryDto> members = new ArrayList<>(nicknames.size());
+        int totalSessions = 0;
+        long totalMinutes = 0;
+        for (Map.Entry<UUID, String> member : nicknames.entrySet()) {
+            MemberAccumulator acc = accumulators.getOrDefault(member.getKey(), MemberAccumulator.EMPTY);
+            members.add(new MemberWeeklySummaryDto(member.getValue(), Integer.bitCount(acc.dayMask), acc.sessions, acc.minutes));
+            totalSessions += acc.sessions;
+            totalMinutes += acc.minutes;
+        }
+        members.sort(Comparator.comparingInt(MemberWeeklySummaryDto::getWorkoutDays).reversed());
+
+        return GroupWeeklyReportDto.builder()
+                .groupId(groupId)
+                .groupName(weeklyReportQueryRepository.findGroupName(groupId).orElse(""))
+                .weekStart(weekStart)
+                .weekEnd(weekEnd)
+                .totalSessions(totalSessions)
+                .totalMinutes(totalMinutes)
+                .scannedRows(rows[0])
+                .members(members)
+                .recipients(recipients)
+                .build();
+    }
+
+    // 수신자별 메일 생성 (수신자 언어의 템플릿으로, 본문은 그룹 x 언어당 한 번만 렌더링)
+    public List<WeeklyReportMailDto> createMessages(GroupWeeklyReportDto report) {
+        if (report.getRecipients().isEmpty()) return List.of();
+
+        Map<String, MailTemplate> templates = new HashMap<>();
+        Map<String, String> bodies = new HashMap<>();
+        List<WeeklyReportMailDto> mails = new ArrayList<>(report.getRecipients().size());
+        for (WeeklyReportRecipientDto recipient : report.getRecipients()) {
+            MailTemplate template = templates.computeIfAbsent(recipient.getLanguage(),
+                    language -> mailTemplateRegistry.get(WEEKLY_REPORT_TEMPLATE, Locale.forLanguageTag(language)));
+            String body = bodies.computeIfAbsent(recipient.getLanguage(), language -> render(template, report));
+            try {
+                MimeMessage message = pooledMailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+                helper.setFrom(mailProperties.getUsername());
+                helper.setTo(recipient.getEmail());
+                helper.setSubject(template.getSubject());
+                helper.setText(body, true);
+                mails.add(new WeeklyReportMailDto(report.getGroupId(), recipient.getUserId(), message));
+            } catch (MessagingException e) {
+                log.warn("주간 리포트 메일 생성 실패: groupId={}, email={} - {}", report.getGroupId(), recipient.getEmail(), e.getMessage());
+            }
+        }
+        return mails;
+    }
+
+    /**
+     * 메일 일괄 발송, 실패 건수 반환
+     * 성공한 수신자만 발송 기록을 남긴다. 실패한 수신자는 기록이 없어서 다음 재시도(retry-cron)에 다시 대상이 된다.
+     * (발송 후 기록 전에 중단되면 그 수신자는 한 번 더 받을 수 있다 - 최소 한 번 발송)
+     */
+    public int send(List<WeeklyReportMailDto> mails, LocalDate weekStart) {
+        Map<MimeMessage, Exception> failures = pooledMailSender.send(mails.stream().map(WeeklyReportMailDto::getMessage).toList());
+        failures.values().forEach(e -> log.warn("주간 리포트 메일 발송 실패 - {}", e.getMessage()));
+
+        weeklyReportQueryRepository.markDelivered(weekStart, mails.stream()
+                .filter(mail -> !failures.containsKey(mail.getMessage()))
+                .toList());
+        return failures.size();
+    }
+
+    private String render(MailTemplate template, GroupWeeklyReportDto report) {
+        return template.render(Map.of(
+                "groupName", HtmlUtils.htmlEscape(report.getGroupName()),
+                "weekRange", report.getWeekStart().format(DATE_FORMAT) + " ~ " + report.getWeekEnd().format(DATE_FORMAT),
+                "totalSessions", String.valueOf(report.getTotalSessions()),
+                "totalMinutes", String.valueOf(report.getTotalMinutes()),
+                "memberRows", memberRows(report.getMembers())));
+    }
+
+    private String memberRows(List<MemberWeeklySummaryDto> members) {
+        StringBuilder sb = new StringBuilder(members.size() * 96);
+        for (MemberWeeklySummaryDto member : members) {
+            sb.append("<tr><td>").append(HtmlUtils.htmlEscape(member.getNickname()))
+                    .append("</td><td>").append(member.getWorkoutDays())
+                    .append("</td><td>").append(member.getSessions())
+                    .append("</td><td>").append(member.getMinutes()).append("</td></tr>");
+        }
+        return sb.toString();
+    }
+
+    // 멤버 한 명의 주간 누적값 (운동한 요일 비트, 횟수, 시간)
+    private static class MemberAccumulator {
+        static final MemberAccumulator EMPTY = new MemberAccumulator();
+
+        int dayMask;
+        int sessions;
+        long minutes;
+
+        void add(LocalDate date, int durationMinutes) {
+            dayMask |= WeekdayMask.bit(date.getDayOfWeek());
+            sessions++;
+            minutes += durationMinutes;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package flobitt.oww.domain.user.dto.internal;
+
+// native 쿼리 결과를 받는 인터페이스 프로젝션 (컬럼 별칭과 getter 이름이 같아야 한다)
+public interface UserIdentifierDto {
+    String getUserLoginId();
+    String getEmail();
+}
@@ -28,11 +28,12 @@ public class CreateUserReq {
             message = "비밀번호는 영문, 숫자, 특수문자를 포함해야 합니다.")
     private String password;
 
-    public static User toEntity(CreateUserReq req, String encodedPassword) {
+    public static User toEntity(CreateUserReq req, String encodedPassword, String language) {
         return User.builder()
                 .userLoginId(req.getUserLoginId())
                 .email(req.getEmail())
                 .password(encodedPassword)
+                .language(language)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package flobitt.oww.domain.user.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserAvailabilityRes {
+    // 요청에 없던 항목은 null
+    private Boolean userLoginIdAvailable;
+    private Boolean emailAvailable;
+}
@@ -0,0 +1,60 @@
+package flobitt.oww.domain.user.entity;
+
+import flobitt.oww.domain.base.entity.BaseEntity;
+import flobitt.oww.global.id.UuidV7Id;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Entity
+@Table(name = "EMAIL_OUTBOX")
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+public class EmailOutbox extends BaseEntity {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "outbox_id", columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "verification_token")
+    private String verificationToken;
+
+    @Column(name = "verification_type")
+    @Enumerated(EnumType.STRING)
+    private VerificationType verificationType;
+
+    @Column(name = "language")
+    @Builder.Default
+    private String language = "ko";
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempt_count")
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
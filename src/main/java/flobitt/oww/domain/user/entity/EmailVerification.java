@@ -1,11 +1,11 @@
 package flobitt.oww.domain.user.entity;
 
 import flobitt.oww.domain.base.entity.BaseEntity;
+import flobitt.oww.global.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
@@ -22,9 +22,9 @@ public class EmailVerification extends BaseEntity {
 
     @Id
     @EqualsAndHashCode.Include
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "verification_id", columnDefinition = "VARCHAR(36)")
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "verification_id", columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Column(name = "verification_token")
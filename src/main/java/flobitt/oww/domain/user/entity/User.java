@@ -1,11 +1,12 @@
 package flobitt.oww.domain.user.entity;
 
 import flobitt.oww.domain.base.entity.SoftDeleteBaseEntity;
+import flobitt.oww.global.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.util.UUID;
 @Getter
 @Entity
 @Table(name = "USERS")
+@SQLRestriction("is_deleted = false")
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -22,9 +24,9 @@ public class User extends SoftDeleteBaseEntity {
 
     @Id
     @EqualsAndHashCode.Include
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "user_id", columnDefinition = "VARCHAR(36)")
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Column(name = "user_login_id")
@@ -44,6 +46,11 @@ public class User extends SoftDeleteBaseEntity {
     @Column(name = "email_verified_at")
     private LocalDateTime emailVerifiedAt;
 
+    // 메일 언어 (템플릿이 없는 언어면 한국어로 보낸다)
+    @Column(name = "language")
+    @Builder.Default
+    private String language = "ko";
+
     public void updateUserStatusActive() {
         this.userStatus = UserStatus.ACTIVE;
         this.emailVerifiedAt = LocalDateTime.now();
@@ -6,6 +6,8 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public class CreateUserEvent {
+    private String userLoginId;
     private String email;
     private String token;
+    private String language;
 }
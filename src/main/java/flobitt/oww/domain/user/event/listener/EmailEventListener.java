@@ -1,22 +1,22 @@
 package flobitt.oww.domain.user.event.listener;
 
+import flobitt.oww.domain.user.entity.VerificationType;
 import flobitt.oww.domain.user.event.CreateUserEvent;
-import flobitt.oww.domain.user.service.EmailVerificationService;
+import flobitt.oww.domain.user.service.EmailOutboxService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static org.springframework.transaction.event.TransactionPhase.BEFORE_COMMIT;
 
 @Component
 @RequiredArgsConstructor
 public class EmailEventListener {
-    private final EmailVerificationService emailService;
+    private final EmailOutboxService emailOutboxService;
 
-    @TransactionalEventListener(phase = AFTER_COMMIT)
-    @Async
+    // 회원가입 트랜잭션 안에서 아웃박스에 기록 -> 실제 발송은 EmailOutboxRelay가 담당
+    @TransactionalEventListener(phase = BEFORE_COMMIT)
     public void handleCreateUser(CreateUserEvent event) {
-        emailService.sendEmail(event.getEmail(), event.getToken());
+        emailOutboxService.enqueue(event.getEmail(), event.getToken(), VerificationType.SIGNUP, event.getLanguage());
     }
 }
@@ -0,0 +1,124 @@
+package flobitt.oww.domain.user.event.listener;
+
+import flobitt.oww.domain.user.entity.EmailOutbox;
+import flobitt.oww.domain.user.service.EmailOutboxService;
+import flobitt.oww.domain.user.service.EmailVerificationService;
+import flobitt.oww.global.properties.MailOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EMAIL_OUTBOX 폴링 발송기
+ * 회원가입 트랜잭션과 분리되어 있어서 SMTP가 느려도 요청 스레드에 영향을 주지 않는다.
+ * 배치 단위로 선점한 뒤 mailOutboxExecutor(고정 크기)로 병렬 발송하고, 배치가 가득 차 있으면 바로 다음 배치를 가져온다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxRelay {
+
+    private final EmailOutboxService outboxService;
+    private final EmailVerificationService emailService;
+    private final Executor mailOutboxExecutor;
+    private final MailOutboxProperties properties;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer sendTimer;
+
+    public EmailOutboxRelay(EmailOutboxService outboxService,
+                            EmailVerificationService emailService,
+                            @Qualifier("mailOutboxExecutor") Executor mailOutboxExecutor,
+                            MailOutboxProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.emailService = emailService;
+        this.mailOutboxExecutor = mailOutboxExecutor;
+        this.properties = properties;
+
+        Gauge.builder("mail.outbox.backlog", backlog, AtomicLong::get)
+                .description("발송 대기 중인 아웃박스 건수 (PENDING + SENDING)")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.retryCounter = meterRegistry.counter("mail.outbox.retried");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+        this.sendTimer = meterRegistry.timer("mail.outbox.send");
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail-outbox.poll-interval-ms:1000}")
+    public void relay() {
+        try {
+            List<EmailOutbox> batch;
+            do {
+                batch = outboxService.claimBatch(LocalDateTime.now());
+                if (!batch.isEmpty()) dispatch(batch);
+            } while (batch.size() == properties.getBatchSize());
+        } finally {
+            backlog.set(outboxService.countBacklog());
+        }
+    }
+
+    // 배치를 동시 연결 수만큼 나눠서, 조각마다 하나의 SMTP 연결로 연속 발송
+    private void dispatch(List<EmailOutbox> batch) {
+        Queue<EmailOutbox> sent = new ConcurrentLinkedQueue<>();
+        int chunkSize = Math.max(1, (batch.size() + properties.getConcurrency() - 1) / properties.getConcurrency());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < batch.size(); from += chunkSize) {
+            List<EmailOutbox> chunk = batch.subList(from, Math.min(from + chunkSize, batch.size()));
+            futures.add(CompletableFuture.runAsync(() -> send(chunk, sent), mailOutboxExecutor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            // 한 조각이 예외로 끝나도 이미 발송된 건은 SENT로 기록한다. (점유 만료 후 다시 발송되지 않도록)
+            outboxService.markSent(sent, LocalDateTime.now());
+            sentCounter.increment(sent.size());
+        }
+    }
+
+    private void send(List<EmailOutbox> chunk, Queue<EmailOutbox> sent) {
+        Map<EmailOutbox, Exception> failures;
+        try {
+            failures = sendTimer.record(() -> emailService.sendEmails(chunk));
+        } catch (RuntimeException e) {
+            // 발송 전 단계에서 실패 : 이 조각만 실패 처리하고 다른 조각은 그대로 진행
+            log.error("인증 메일 조각 발송 실패: {}건", chunk.size(), e);
+            failures = new IdentityHashMap<>();
+            for (EmailOutbox outbox : chunk) failures.put(outbox, e);
+        }
+
+        for (EmailOutbox outbox : chunk) {
+            Exception e = failures.get(outbox);
+            if (e == null) {
+                sent.add(outbox);
+                continue;
+            }
+            try {
+                boolean retry = outboxService.markFailed(outbox, e.getMessage(), LocalDateTime.now());
+                (retry ? retryCounter : failedCounter).increment();
+            } catch (RuntimeException markError) {
+                // 기록 실패 : SENDING으로 남아 점유 만료 후 다시 시도된다.
+                log.error("아웃박스 실패 기록 오류: outboxId={}", outbox.getId(), markError);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package flobitt.oww.domain.user.event.listener;
+
+import flobitt.oww.domain.user.event.CreateUserEvent;
+import flobitt.oww.domain.user.service.UserAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+@Component
+@RequiredArgsConstructor
+public class UserEventListener {
+    private final UserAvailabilityService userAvailabilityService;
+
+    // 가입이 커밋된 후 중복 확인 필터에 반영
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handleCreateUser(CreateUserEvent event) {
+        userAvailabilityService.register(event.getUserLoginId(), event.getEmail());
+    }
+}
@@ -0,0 +1,52 @@
+package flobitt.oww.domain.user.repository;
+
+import flobitt.oww.domain.user.entity.EmailOutbox;
+import flobitt.oww.domain.user.entity.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID>, EmailOutboxRepositoryCustom {
+
+    long countByStatusIn(Collection<OutboxStatus> statuses);
+
+    @Modifying
+    @Query("""
+            update EmailOutbox o
+               set o.status = flobitt.oww.domain.user.entity.OutboxStatus.SENDING,
+                   o.attemptCount = o.attemptCount + 1,
+                   o.nextAttemptAt = :leaseUntil
+             where o.id in :ids
+            """)
+    int markSending(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("""
+            update EmailOutbox o
+               set o.status = flobitt.oww.domain.user.entity.OutboxStatus.SENT,
+                   o.sentAt = :now,
+                   o.lastError = null
+             where o.id in :ids
+            """)
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update EmailOutbox o
+               set o.status = :status,
+                   o.nextAttemptAt = :nextAttemptAt,
+                   o.lastError = :lastError
+             where o.id = :id
+            """)
+    int markFailed(@Param("id") UUID id,
+                   @Param("status") OutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+}
@@ -0,0 +1,10 @@
+package flobitt.oww.domain.user.repository;
+
+import flobitt.oww.domain.user.entity.EmailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepositoryCustom {
+    List<EmailOutbox> findDispatchableForUpdate(LocalDateTime now, int limit);
+}
@@ -0,0 +1,36 @@
+package flobitt.oww.domain.user.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import flobitt.oww.domain.user.entity.EmailOutbox;
+import flobitt.oww.domain.user.entity.OutboxStatus;
+import flobitt.oww.domain.user.entity.QEmailOutbox;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class EmailOutboxRepositoryImpl implements EmailOutboxRepositoryCustom {
+
+    // Hibernate : lock timeout -2 = SKIP LOCKED
+    private static final int SKIP_LOCKED = -2;
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 발송 대상 조회 : 다른 인스턴스가 잡고 있는 행은 건너뛴다 (SELECT ... FOR UPDATE SKIP LOCKED)
+    @Override
+    public List<EmailOutbox> findDispatchableForUpdate(LocalDateTime now, int limit) {
+        QEmailOutbox emailOutbox = QEmailOutbox.emailOutbox;
+
+        return jpaQueryFactory
+                .selectFrom(emailOutbox)
+                .where(emailOutbox.status.in(OutboxStatus.PENDING, OutboxStatus.SENDING),
+                        emailOutbox.nextAttemptAt.loe(now))
+                .orderBy(emailOutbox.nextAttemptAt.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", SKIP_LOCKED)
+                .fetch();
+    }
+}
@@ -1,11 +1,76 @@
 package flobitt.oww.domain.user.repository;
 
 import flobitt.oww.domain.user.entity.EmailVerification;
+import flobitt.oww.domain.user.entity.VerificationType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface EmailVerificationRepository extends JpaRepository<EmailVerification, UUID>, EmailVerificationRepositoryCustom {
+public interface EmailVerificationRepository extends JpaRepository<EmailVerification, UUID> {
+
+    /**
+     * 유효한 인증 건이면 인증 완료 + 사용자 활성화를 한 번의 UPDATE로 처리 (uk_verification_token 사용)
+     * @return 변경된 행 수 (0이면 유효하지 않거나 이미 인증된 토큰)
+     * 동기화 대상 테이블(query space)을 지정하지 않으면 Hibernate가 네이티브 UPDATE마다 2차 캐시 전체를 비운다.
+     * (EMAIL_VERIFICATIONS는 캐시 대상이 아니므로 USERS만 지정)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "USERS"))
+    @Query(value = """
+            UPDATE EMAIL_VERIFICATIONS ev
+              JOIN USERS u ON u.user_id = ev.user_id
+               SET ev.verified_at = :now,
+                   ev.updated_at = :now,
+                   u.user_status = 'ACTIVE',
+                   u.email_verified_at = :now,
+                   u.updated_at = :now
+             WHERE ev.verification_token = :token
+               AND ev.user_id = :userId
+               AND ev.email = :email
+               AND ev.verification_type = :type
+               AND ev.expires_at > :now
+               AND ev.verified_at IS NULL
+            """, nativeQuery = true)
+    int verifyAndActivateUser(@Param("token") String token,
+                              @Param("userId") byte[] userId,
+                              @Param("email") String email,
+                              @Param("type") String type,
+                              @Param("now") LocalDateTime now);
+
+    // 삭제 대상 ID 조회 : PK keyset 페이지네이션 (lastId 이후부터 limit건)
+    @Query("""
+            select e.id from EmailVerification e
+             where e.id > :lastId
+               and (e.expiresAt < :cutoff or e.verifiedAt < :cutoff)
+             order by e.id
+            """)
+    List<UUID> findPurgeableIds(@Param("lastId") UUID lastId, @Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    // 재발송 시 아직 인증되지 않은 이전 링크를 만료시킨다.
+    @Modifying
+    @Query("""
+            update EmailVerification e
+               set e.expiresAt = :now
+             where e.user.id = :userId
+               and e.verificationType = :type
+               and e.verifiedAt is null
+               and e.expiresAt > :now
+            """)
+    int expirePending(@Param("userId") UUID userId, @Param("type") VerificationType type, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from EmailVerification e where e.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
 }
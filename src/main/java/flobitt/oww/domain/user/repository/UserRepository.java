@@ -1,11 +1,20 @@
 package flobitt.oww.domain.user.repository;
 
+import flobitt.oww.domain.user.dto.internal.UserIdentifierDto;
 import flobitt.oww.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -13,4 +22,16 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUserLoginId(String userLoginId);
     Optional<User> findByEmail(String email);
     boolean existsByUserLoginIdOrEmail(String userLoginId, String email);
+
+    // 탈퇴(soft delete)한 사용자도 UNIQUE 키를 점유하므로 중복 확인은 @SQLRestriction을 거치지 않는 native 쿼리로 센다.
+    @Query(value = "SELECT COUNT(*) FROM USERS WHERE user_login_id = :userLoginId", nativeQuery = true)
+    long countIncludingDeletedByUserLoginId(@Param("userLoginId") String userLoginId);
+
+    @Query(value = "SELECT COUNT(*) FROM USERS WHERE email = :email", nativeQuery = true)
+    long countIncludingDeletedByEmail(@Param("email") String email);
+
+    // 전체 로그인 ID/이메일 스트리밍 조회 (탈퇴 사용자 포함, 엔티티를 만들지 않고 fetch size 단위로 읽는다)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query(value = "SELECT user_login_id AS userLoginId, email AS email FROM USERS", nativeQuery = true)
+    Stream<UserIdentifierDto> streamAllIdentifiers();
 }
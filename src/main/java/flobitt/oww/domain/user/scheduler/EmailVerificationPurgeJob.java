@@ -0,0 +1,85 @@
+package flobitt.oww.domain.user.scheduler;
+
+import flobitt.oww.domain.user.service.EmailVerificationService;
+import flobitt.oww.global.properties.AppProperties;
+import flobitt.oww.global.properties.VerificationPurgeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 만료되었거나 인증이 끝난 EMAIL_VERIFICATIONS 정리
+ * PK 순서로 작은 배치씩 삭제하고 배치 사이에 쉬어서 InnoDB 잠금과 복제 지연을 짧게 유지한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.verification-purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EmailVerificationPurgeJob {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final EmailVerificationService emailVerificationService;
+    private final VerificationPurgeProperties properties;
+    private final AppProperties appProperties;
+
+    private final Counter deletedCounter;
+    private final Timer batchTimer;
+
+    public EmailVerificationPurgeJob(EmailVerificationService emailVerificationService,
+                                     VerificationPurgeProperties properties,
+                                     AppProperties appProperties,
+                                     MeterRegistry meterRegistry) {
+        this.emailVerificationService = emailVerificationService;
+        this.properties = properties;
+        this.appProperties = appProperties;
+        this.deletedCounter = meterRegistry.counter("verification.purge.deleted");
+        this.batchTimer = meterRegistry.timer("verification.purge.batch");
+    }
+
+    // 만료 토큰을 batch-size씩 지우고 배치마다 pause만큼 쉬므로 max-runtime(기본 10분)까지 돌 수 있다.
+    // 그동안 스케줄러 스레드를 잡고 있지 않도록 maintenanceExecutor에서 실행
+    @Async("maintenanceExecutor")
+    @Scheduled(cron = "${app.verification-purge.cron:0 0 4 * * *}")
+    public void purge() {
+        int retentionHours = properties.getRetentionHours() > 0
+                ? properties.getRetentionHours()
+                : appProperties.getVerificationTokenExpiry();
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        long deadline = System.nanoTime() + properties.getMaxRuntime().toNanos();
+
+        UUID lastId = MIN_ID;
+        long total = 0;
+        while (System.nanoTime() < deadline) {
+            UUID from = lastId;
+            List<UUID> deleted = batchTimer.record(() -> emailVerificationService.purgeBatch(from, cutoff, properties.getBatchSize()));
+            if (deleted.isEmpty()) break;
+
+            total += deleted.size();
+            deletedCounter.increment(deleted.size());
+            lastId = deleted.get(deleted.size() - 1);
+
+            if (deleted.size() < properties.getBatchSize() || !pause()) break;
+        }
+
+        log.info("이메일 인증 정리 완료: {}건 삭제 (cutoff={})", total, cutoff);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
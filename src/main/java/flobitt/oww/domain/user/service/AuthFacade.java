@@ -2,87 +2,117 @@ package flobitt.oww.domain.user.service;
 
 import flobitt.oww.domain.user.dto.internal.ParseTokenDto;
 import flobitt.oww.domain.user.dto.req.CreateUserReq;
-import flobitt.oww.domain.user.entity.EmailVerification;
+import flobitt.oww.domain.user.dto.req.ResendEmailReq;
 import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.domain.user.entity.UserStatus;
 import flobitt.oww.domain.user.entity.VerificationType;
 import flobitt.oww.domain.user.event.CreateUserEvent;
+import flobitt.oww.global.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthFacade {
 
+    // 단계별 소요 시간 (stage 태그) : 전체 지연 중 어느 구간이 느린지 확인
+    private static final String SIGN_UP_STAGE = "auth.signup.stage";
+    private static final String VERIFY_EMAIL_STAGE = "auth.verify-email.stage";
+
     private final UserService userService;
     private final EmailVerificationService emailVerificationService;
+    private final EmailOutboxService emailOutboxService;
     private final TokenService tokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
-    // 회원가입
-    @Transactional
-    public void signUp(CreateUserReq req) {
-        User user = CreateUserReq.toEntity(req, passwordEncoder.encode(req.getPassword()));
-        userService.create(user);
+    // 회원가입 : 인증 메일은 요청 언어(Accept-Language)로 보낸다.
+    public void signUp(CreateUserReq req, Locale locale) {
+        // BCrypt는 트랜잭션 밖에서 계산 : 해싱하는 동안 DB 커넥션을 잡고 있지 않도록
+        String encodedPassword = timed(SIGN_UP_STAGE, "hash", () -> passwordHasher.encode(req.getPassword()));
+        // transaction : 아래 단계 + 커밋(인증 정보 INSERT, 커밋 전 리스너 포함)
+        timed(SIGN_UP_STAGE, "transaction", () -> transactionTemplate.execute(status -> register(req, encodedPassword, language(locale))));
+    }
 
-        String emailToken = tokenService.generateVerificationToken(user.getId(), user.getEmail(), VerificationType.SIGNUP);
-        emailVerificationService.createEmailVerification(user, emailToken);
+    private User register(CreateUserReq req, String encodedPassword, String language) {
+        User user = CreateUserReq.toEntity(req, encodedPassword, language);
+        // INSERT는 커밋 시점까지 미뤄지므로 단계 시간을 재기 위해 바로 flush 한다.
+        timed(SIGN_UP_STAGE, "insert", () -> userService.createAndFlush(user));
 
-        applicationEventPublisher.publishEvent(new CreateUserEvent(user.getEmail(), emailToken));
+        String emailToken = timed(SIGN_UP_STAGE, "token", () -> {
+            String token = tokenService.generateVerificationToken(user.getId(), user.getEmail(), VerificationType.SIGNUP);
+            emailVerificationService.createEmailVerification(user, token);
+            return token;
+        });
+
+        timed(SIGN_UP_STAGE, "publish", () -> applicationEventPublisher.publishEvent(
+                new CreateUserEvent(user.getUserLoginId(), user.getEmail(), emailToken, user.getLanguage())));
+        return user;
     }
 
     // 이메일 인증
+    @Transactional
     public void verifyEmail(String token) {
         log.info("이메일 인증 시도: token={}", token);
         VerificationType type = VerificationType.SIGNUP;
 
         // 토큰을 풀어서 유효성 검사 필요 : User 이메일, VerificationType 확인 가능
-        ParseTokenDto parseTokenDto = tokenService.validateToken(token, type);
+        ParseTokenDto parseTokenDto = timed(VERIFY_EMAIL_STAGE, "validation", () -> tokenService.validateToken(token, type));
 
-        // 1. 토큰 유효성 검사
-        EmailVerification verification = emailVerificationService
-                .findValidVerificationByParseToken(parseTokenDto, token, LocalDateTime.now())
-                // TODO Exception 설정
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않거나 만료된 인증 링크입니다."));
+        // 토큰 유효성 검사 + 인증 완료 + 사용자 활성화를 조건부 UPDATE 한 번으로 처리
+        // 이미 인증된 토큰(중복 클릭)이면 변경된 행이 없다.
+        int updated = timed(VERIFY_EMAIL_STAGE, "update",
+                () -> emailVerificationService.verifyAndActivateUser(parseTokenDto, token, LocalDateTime.now()));
 
-        User user = verification.getUser();
+        // TODO Exception 설정
+        if (updated == 0) throw new IllegalArgumentException("유효하지 않거나 만료된 인증 링크입니다.");
 
-        // 2. 사용자 상태 업데이트
-        userService.updateUserStatusActive(user);
+        log.info("이메일 인증 완료: userId={}", parseTokenDto.getUserId());
+    }
 
-        // 3. 인증 완료 처리
-        emailVerificationService.updateEmailVerification(verification);
+    /**
+     * 인증 메일 재발송 : 이전 링크를 만료시키고 새 토큰을 아웃박스에 넣는다. (빈도 제한은 컨트롤러에서 먼저 확인)
+     * 가입되지 않았거나 이미 인증된 이메일도 같은 응답으로 끝낸다. (응답으로 가입 여부를 알 수 없도록)
+     */
+    @Transactional
+    public void resendVerificationEmail(ResendEmailReq req) {
+        log.info("인증 이메일 재발송 요청: {}", req.getEmail());
+        User user = userService.findByEmail(req.getEmail()).orElse(null);
+        if (user == null || user.getUserStatus() == UserStatus.ACTIVE) {
+            log.info("인증 이메일 재발송 생략: 대기 중인 계정 없음");
+            return;
+        }
 
-        log.info("이메일 인증 완료: userId={}", user.getUserLoginId());
+        emailVerificationService.expirePendingVerifications(user, VerificationType.SIGNUP);
+        String emailToken = tokenService.generateVerificationToken(user.getId(), user.getEmail(), VerificationType.SIGNUP);
+        emailVerificationService.createEmailVerification(user, emailToken);
+        emailOutboxService.enqueue(user.getEmail(), emailToken, VerificationType.SIGNUP, user.getLanguage());
+
+        log.info("인증 이메일 재발송 완료: userId={}", user.getId());
+    }
+
+    // 언어 코드만 저장 (ko-KR -> ko), Accept-Language가 없으면 spring.web.locale(ko)
+    private String language(Locale locale) {
+        return locale.getLanguage().isEmpty() ? Locale.KOREAN.getLanguage() : locale.getLanguage();
+    }
+
+    private <T> T timed(String name, String stage, Supplier<T> task) {
+        return meterRegistry.timer(name, "stage", stage).record(task);
     }
 
-//    public void resendVerificationEmail(ResendEmailReq req) {
-//        log.info("인증 이메일 재발송 요청: {}", req.getEmail());
-//
-//        // 1. 사용자 확인
-//        User user = userRepository.findByEmail(request.getEmail())
-//                .orElseThrow(() -> new UserNotFoundException("등록되지 않은 이메일입니다."));
-//
-//        if (user.getUserStatus() == UserStatus.ACTIVE) {
-//            throw new IllegalStateException("이미 인증된 계정입니다.");
-//        }
-//
-//        // 2. 기존 인증 토큰 무효화
-//        emailVerificationRepository.invalidatePreviousVerifications(
-//                user.getUserId(), VerificationType.SIGNUP, LocalDateTime.now());
-//
-//        // 3. 새 인증 토큰 생성 및 발송
-//        String verificationToken = generateVerificationToken();
-//        createEmailVerification(user, verificationToken);
-//        sendEmail(user.getEmail(), verificationToken);
-//
-//        log.info("인증 이메일 재발송 완료: userId={}", user.getUserId());
-//    }
+    private void timed(String name, String stage, Runnable task) {
+        meterRegistry.timer(name, "stage", stage).record(task);
+    }
 }
@@ -0,0 +1,89 @@
+package flobitt.oww.domain.user.service;
+
+import flobitt.oww.domain.user.entity.EmailOutbox;
+import flobitt.oww.domain.user.entity.OutboxStatus;
+import flobitt.oww.domain.user.entity.VerificationType;
+import flobitt.oww.domain.user.repository.EmailOutboxRepository;
+import flobitt.oww.global.properties.MailOutboxProperties;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final MailOutboxProperties properties;
+
+    // 발송 요청 저장 (호출한 트랜잭션에 참여)
+    public void enqueue(String email, String token, VerificationType type, String language) {
+        EmailOutbox outbox = EmailOutbox.builder()
+                .email(email)
+                .verificationToken(token)
+                .verificationType(type)
+                .language(language)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        emailOutboxRepository.save(outbox);
+    }
+
+    // 발송 대상 선점 : 조회한 행을 SENDING으로 바꾸고 점유 시간을 설정한다.
+    @Transactional
+    public List<EmailOutbox> claimBatch(LocalDateTime now) {
+        List<EmailOutbox> batch = emailOutboxRepository.findDispatchableForUpdate(now, properties.getBatchSize());
+        if (batch.isEmpty()) return batch;
+
+        emailOutboxRepository.markSending(batch.stream().map(EmailOutbox::getId).toList(),
+                now.plusSeconds(properties.getLeaseSeconds()));
+        return batch;
+    }
+
+    @Transactional
+    public void markSent(Collection<EmailOutbox> sent, LocalDateTime now) {
+        if (sent.isEmpty()) return;
+        emailOutboxRepository.markSent(sent.stream().map(EmailOutbox::getId).toList(), now);
+    }
+
+    // 발송 실패 : 최대 시도 횟수 전까지는 지수 백오프로 재시도
+    @Transactional
+    public boolean markFailed(EmailOutbox outbox, String error, LocalDateTime now) {
+        int attempt = outbox.getAttemptCount() + 1;
+        boolean exhausted = attempt >= properties.getMaxAttempts();
+
+        emailOutboxRepository.markFailed(outbox.getId(),
+                exhausted ? OutboxStatus.FAILED : OutboxStatus.PENDING,
+                now.plusSeconds(backoffSeconds(attempt)),
+                truncate(error));
+
+        if (exhausted) log.error("인증 이메일 발송 최종 실패: outboxId={}, email={}", outbox.getId(), outbox.getEmail());
+        return !exhausted;
+    }
+
+    public long countBacklog() {
+        return emailOutboxRepository.countByStatusIn(EnumSet.of(OutboxStatus.PENDING, OutboxStatus.SENDING));
+    }
+
+    // 지수 백오프 + 지터 (동시에 실패한 메일이 같은 시각에 몰리지 않도록)
+    private long backoffSeconds(int attempt) {
+        long base = properties.getInitialBackoffSeconds() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, properties.getMaxBackoffSeconds());
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private String truncate(String error) {
+        if (error == null) return null;
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
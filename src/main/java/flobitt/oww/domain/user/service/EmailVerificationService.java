@@ -1,10 +1,15 @@
 package flobitt.oww.domain.user.service;
 
 import flobitt.oww.domain.user.dto.internal.ParseTokenDto;
+import flobitt.oww.domain.user.entity.EmailOutbox;
 import flobitt.oww.domain.user.entity.EmailVerification;
 import flobitt.oww.domain.user.entity.User;
 import flobitt.oww.domain.user.entity.VerificationType;
 import flobitt.oww.domain.user.repository.EmailVerificationRepository;
+import flobitt.oww.global.id.UuidBytes;
+import flobitt.oww.global.mail.MailTemplate;
+import flobitt.oww.global.mail.MailTemplateRegistry;
+import flobitt.oww.global.mail.PooledMailSender;
 import flobitt.oww.global.properties.AppProperties;
 import flobitt.oww.global.properties.MailProperties;
 import jakarta.mail.MessagingException;
@@ -12,40 +17,60 @@ import jakarta.mail.internet.MimeMessage;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.data.domain.Limit;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailVerificationService {
 
+    private static final String VERIFICATION_TEMPLATE = "verification";
+
     private final EmailVerificationRepository emailVerificationRepository;
-    private final JavaMailSender mailSender;
+    private final PooledMailSender pooledMailSender;
+    private final MailTemplateRegistry mailTemplateRegistry;
     private final AppProperties appProperties;
     private final MailProperties mailProperties;
 
-    // 이메일 발송
-    public void sendEmail(String email, String emailToken) {
-        try {
-            String verificationUrl = buildVerificationUrl(emailToken);
-            MimeMessage message = createVerificationEmailMessage(email, verificationUrl);
-            sendEmailMessage(message, email);
-        } catch (Exception e) {
-            log.error("인증 이메일 발송 실패: {} - {}", email, e.getMessage());
-            // TODO Exception 정의 필요
-            throw new IllegalArgumentException("이메일 발송에 실패했습니다.");
+    // 이메일 일괄 발송 : 하나의 SMTP 연결로 연속 발송하고 실패한 건만 돌려준다.
+    public Map<EmailOutbox, Exception> sendEmails(List<EmailOutbox> outboxes) {
+        Map<EmailOutbox, Exception> failures = new IdentityHashMap<>();
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+
+        for (EmailOutbox outbox : outboxes) {
+            try {
+                messages.put(createVerificationEmailMessage(outbox.getEmail(), buildVerificationUrl(outbox.getVerificationToken()),
+                        Locale.forLanguageTag(outbox.getLanguage())), outbox);
+            } catch (MessagingException | RuntimeException e) {
+                // 템플릿 렌더링 오류 등은 해당 건만 실패 처리
+                failures.put(outbox, e);
+            }
         }
+
+        pooledMailSender.send(List.copyOf(messages.keySet()))
+                .forEach((message, e) -> failures.put(messages.get(message), e));
+
+        if (failures.size() < outboxes.size()) log.info("인증 이메일 발송 완료: {}건", outboxes.size() - failures.size());
+        return failures;
+    }
+
+    // 이메일 인증 완료 + 사용자 활성화 (조건부 UPDATE 한 번, 변경된 행 수 반환)
+    public int verifyAndActivateUser(ParseTokenDto parseTokenDto, String token, LocalDateTime now) {
+        return emailVerificationRepository.verifyAndActivateUser(token,
+                UuidBytes.toBytes(UUID.fromString(parseTokenDto.getUserId())),
+                parseTokenDto.getEmail(),
+                parseTokenDto.getTokenType(),
+                now);
     }
 
-    // 이메일 인증 완료
-    public void updateEmailVerification(EmailVerification emailVerification) {
-        emailVerification.updateEmailVerification();
+    // 아직 인증되지 않은 이전 인증 링크 만료
+    public void expirePendingVerifications(User user, VerificationType type) {
+        emailVerificationRepository.expirePending(user.getId(), type, LocalDateTime.now());
     }
 
     // Entity 생성 및 저장
@@ -61,8 +86,12 @@ public class EmailVerificationService {
         emailVerificationRepository.save(verification);
     }
 
-    public Optional<EmailVerification> findValidVerificationByParseToken(ParseTokenDto parseTokenDto, String token, LocalDateTime now) {
-        return emailVerificationRepository.findValidVerificationByParseToken(parseTokenDto, token, now);
+    // 만료/인증된 인증 건 일괄 삭제 (한 배치 = 한 트랜잭션), 삭제한 ID 반환
+    @Transactional
+    public List<UUID> purgeBatch(UUID lastId, LocalDateTime cutoff, int batchSize) {
+        List<UUID> ids = emailVerificationRepository.findPurgeableIds(lastId, cutoff, Limit.of(batchSize));
+        if (!ids.isEmpty()) emailVerificationRepository.deleteAllByIdIn(ids);
+        return ids;
     }
 
     // 이메일 인증 URL 생성
@@ -70,50 +99,20 @@ public class EmailVerificationService {
         return appProperties.getFrontendUrl() + "/email-verifications/" + emailToken;
     }
 
-    // 이메일 생성
-    private MimeMessage createVerificationEmailMessage(String toEmail, String verificationUrl)
+    // 이메일 생성 (아웃박스에 저장된 가입 요청 언어, 템플릿이 없으면 한국어)
+    private MimeMessage createVerificationEmailMessage(String toEmail, String verificationUrl, Locale locale)
             throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        MailTemplate template = mailTemplateRegistry.get(VERIFICATION_TEMPLATE, locale);
+        MimeMessage message = pooledMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
 
         helper.setFrom(mailProperties.getUsername());
         helper.setTo(toEmail);
-        helper.setSubject("[오운완] 이메일 인증을 완료해주세요");
-        helper.setText(buildVerificationEmailContent(verificationUrl), true);
+        helper.setSubject(template.getSubject());
+        helper.setText(template.render(Map.of(
+                "verificationUrl", verificationUrl,
+                "expiryHours", String.valueOf(appProperties.getVerificationTokenExpiry()))), true);
 
         return message;
     }
-
-    // 이메일 발송
-    private void sendEmailMessage(MimeMessage message, String toEmail) {
-        mailSender.send(message);
-        log.info("인증 이메일 발송 완료: {}", toEmail);
-    }
-
-    // 이메일 내용 생성
-    private String buildVerificationEmailContent(String verificationUrl) {
-        return """
-            <div style="max-width: 600px; margin: 0 auto; padding: 20px; font-family: Arial, sans-serif;">
-                <h2 style="color: #333;">오운완 이메일 인증</h2>
-                <p>안녕하세요! 오운완 회원가입을 환영합니다.</p>
-                <p>아래 버튼을 클릭하여 이메일 인증을 완료해주세요:</p>
-                <div style="text-align: center; margin: 30px 0;">
-                    <a href="%s" 
-                       style="background-color: #007bff; color: white; padding: 12px 24px; 
-                              text-decoration: none; border-radius: 5px; display: inline-block;">
-                        이메일 인증하기
-                    </a>
-                </div>
-                <p><strong>주의:</strong> 이 링크는 24시간 후 만료됩니다.</p>
-                <p>링크가 작동하지 않는다면 아래 URL을 복사하여 브라우저에 붙여넣어주세요:</p>
-                <p style="word-break: break-all; background-color: #f8f9fa; padding: 10px; border-radius: 3px;">
-                    %s
-                </p>
-                <hr style="margin: 30px 0; border: none; border-top: 1px solid #eee;">
-                <p style="color: #666; font-size: 12px;">
-                    이 이메일은 오운완 시스템에서 자동으로 발송된 메일입니다.
-                </p>
-            </div>
-            """.formatted(verificationUrl, verificationUrl);
-    }
 }
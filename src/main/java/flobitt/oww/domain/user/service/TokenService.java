@@ -2,18 +2,14 @@ package flobitt.oww.domain.user.service;
 
 import flobitt.oww.domain.user.dto.internal.ParseTokenDto;
 import flobitt.oww.domain.user.entity.VerificationType;
+import flobitt.oww.global.jwt.VerificationKeyRing;
 import flobitt.oww.global.properties.AppProperties;
-import flobitt.oww.global.properties.JwtProperties;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
@@ -23,21 +19,20 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TokenService {
 
-    private final JwtProperties jwtProperties;
+    private final VerificationKeyRing keyRing;
     private final AppProperties appProperties;
 
-    // 인증 토큰 생성
+    // 인증 토큰 생성 (jti : 같은 초에 재발송해도 토큰이 겹치지 않도록, verification_token은 UNIQUE)
     public String generateVerificationToken(UUID userId, String email, VerificationType type) {
-        log.info("VerificationKey = {}", jwtProperties.getVerificationKey());
-        SecretKey secretKey = getSecretKey(jwtProperties.getVerificationKey());
-
         return Jwts.builder()
+                .setHeaderParam("kid", keyRing.getActiveKeyId())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userId.toString())
                 .claim("email", email)
                 .claim("type", type.toString())
                 .setIssuedAt(new Date())
                 .setExpiration(Date.from(Instant.now().plusSeconds(appProperties.getVerificationTokenExpiry() * 3600)))
-                .signWith(secretKey)
+                .signWith(keyRing.getActiveKey())
                 .compact();
     }
 
@@ -61,18 +56,8 @@ public class TokenService {
 
     // JWT 토큰 파싱
     private Claims parseToken(String token) {
-        log.info("VerificationKey = {}", jwtProperties.getVerificationKey());
-        SecretKey secretKey = getSecretKey(jwtProperties.getVerificationKey());
-
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
+        return keyRing.getParser()
                 .parseClaimsJws(token)
                 .getBody();
     }
-
-    private SecretKey getSecretKey(String secretKey) {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,81 @@
+package flobitt.oww.domain.user.service;
+
+import flobitt.oww.domain.user.dto.internal.UserIdentifierDto;
+import flobitt.oww.domain.user.dto.res.UserAvailabilityRes;
+import flobitt.oww.domain.user.repository.UserRepository;
+import flobitt.oww.global.properties.AvailabilityFilterProperties;
+import flobitt.oww.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 로그인 ID/이메일 사용 가능 여부 확인
+ * Bloom filter가 "없음"이라고 하면 DB 조회 없이 사용 가능으로 응답하고, "있을 수도 있음"일 때만 DB로 확인한다.
+ * USERS 컬럼은 대소문자를 구분하지 않는 collation이라서 소문자로 정규화해서 넣는다.
+ */
+@Slf4j
+@Service
+public class UserAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final BloomFilter loginIdFilter;
+    private final BloomFilter emailFilter;
+
+    // 워밍업 전에는 필터를 신뢰하지 않고 DB로 확인
+    private volatile boolean ready = false;
+
+    public UserAvailabilityService(UserRepository userRepository, AvailabilityFilterProperties properties) {
+        this.userRepository = userRepository;
+        this.loginIdFilter = BloomFilter.create(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        this.emailFilter = BloomFilter.create(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+    }
+
+    public UserAvailabilityRes checkAvailability(String userLoginId, String email) {
+        return UserAvailabilityRes.builder()
+                .userLoginIdAvailable(userLoginId == null ? null : isUserLoginIdAvailable(userLoginId))
+                .emailAvailable(email == null ? null : isEmailAvailable(email))
+                .build();
+    }
+
+    // 가입 완료(커밋) 후 필터에 추가
+    public void register(String userLoginId, String email) {
+        loginIdFilter.put(normalize(userLoginId));
+        emailFilter.put(normalize(email));
+    }
+
+    // 기동 후 USERS 전체를 스트리밍으로 읽어서 필터 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        long count = 0;
+        try (Stream<UserIdentifierDto> identifiers = userRepository.streamAllIdentifiers()) {
+            for (UserIdentifierDto identifier : (Iterable<UserIdentifierDto>) identifiers::iterator) {
+                register(identifier.getUserLoginId(), identifier.getEmail());
+                count++;
+            }
+        }
+        ready = true;
+        log.info("사용자 중복 확인 필터 워밍업 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    private boolean isUserLoginIdAvailable(String userLoginId) {
+        if (ready && !loginIdFilter.mightContain(normalize(userLoginId))) return true;
+        return userRepository.countIncludingDeletedByUserLoginId(userLoginId) == 0;
+    }
+
+    private boolean isEmailAvailable(String email) {
+        if (ready && !emailFilter.mightContain(normalize(email))) return true;
+        return userRepository.countIncludingDeletedByEmail(email) == 0;
+    }
+
+    private String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -11,6 +11,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,6 +32,14 @@ public class UserService {
         userRepository.save(user);
     }
 
+    public void createAndFlush(User user) {
+        userRepository.saveAndFlush(user);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
     public void updateUserStatusActive(User user) {
         user.updateUserStatusActive();
     }
@@ -0,0 +1,40 @@
+package flobitt.oww.domain.workout.dto.req;
+
+import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.domain.workout.entity.WorkoutRecord;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CreateWorkoutRecordReq {
+
+    @NotNull(message = "운동 날짜는 필수입니다.")
+    @PastOrPresent(message = "미래 날짜의 운동은 기록할 수 없습니다.")
+    private LocalDate workoutDate;
+
+    private String workoutMemo;
+
+    @Size(max = 500, message = "이미지 URL은 500자를 초과할 수 없습니다.")
+    private String imageUrl;
+
+    @Min(value = 0, message = "운동 시간은 0분 이상이어야 합니다.")
+    private Integer durationMinutes;
+
+    public static WorkoutRecord toEntity(CreateWorkoutRecordReq req, User user) {
+        return WorkoutRecord.builder()
+                .workoutDate(req.getWorkoutDate())
+                .workoutMemo(req.getWorkoutMemo())
+                .imageUrl(req.getImageUrl())
+                .durationMinutes(req.getDurationMinutes())
+                .user(user)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package flobitt.oww.domain.workout.dto.req;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CreateWorkoutRecordsReq {
+
+    @Valid
+    @NotEmpty(message = "운동 기록은 1건 이상이어야 합니다.")
+    @Size(max = 100, message = "한 번에 100건까지 기록할 수 있습니다.")
+    private List<CreateWorkoutRecordReq> records;
+}
@@ -0,0 +1,19 @@
+package flobitt.oww.domain.workout.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class GroupFeedItemRes {
+    private UUID logId;
+    private UUID recordId;
+    private LocalDate workoutDate;
+    private UUID userId;
+    private String nickname;
+    private String imageUrl;
+    private Integer durationMinutes;
+}
@@ -0,0 +1,17 @@
+package flobitt.oww.domain.workout.dto.res;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class WorkoutRecordRes {
+    private UUID recordId;
+    private LocalDate workoutDate;
+    private String workoutMemo;
+    private String imageUrl;
+    private Integer durationMinutes;
+}
@@ -3,11 +3,11 @@ package flobitt.oww.domain.workout.entity;
 import flobitt.oww.domain.base.entity.BaseEntity;
 import flobitt.oww.domain.group.entity.Group;
 import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.global.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
@@ -24,9 +24,9 @@ public class GroupWorkoutLog extends BaseEntity {
 
     @Id
     @EqualsAndHashCode.Include
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "log_id", columnDefinition = "VARCHAR(36)")
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "log_id", columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Column(name = "workout_date") // JSON Type
@@ -2,11 +2,11 @@ package flobitt.oww.domain.workout.entity;
 
 import flobitt.oww.domain.base.entity.BaseEntity;
 import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.global.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
@@ -23,9 +23,9 @@ public class WorkoutRecord extends BaseEntity {
 
     @Id
     @EqualsAndHashCode.Include
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "record_id", columnDefinition = "VARCHAR(36)")
+    @UuidV7Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "record_id", columnDefinition = "BINARY(16)")
     private UUID id;
 
     @Column(name = "workout_date")
@@ -38,7 +38,7 @@ public class WorkoutRecord extends BaseEntity {
     private String imageUrl;
 
     @Column(name = "duration_minutes")
-    private int durationMinutes;
+    private Integer durationMinutes;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
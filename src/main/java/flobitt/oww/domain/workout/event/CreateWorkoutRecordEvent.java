@@ -0,0 +1,17 @@
+package flobitt.oww.domain.workout.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CreateWorkoutRecordEvent {
+    private UUID userId;
+    private List<UUID> groupIds;
+    private Set<LocalDate> workoutDates;
+}
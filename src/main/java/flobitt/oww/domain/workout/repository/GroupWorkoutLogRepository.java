@@ -0,0 +1,22 @@
+package flobitt.oww.domain.workout.repository;
+
+import flobitt.oww.domain.workout.entity.GroupWorkoutLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface GroupWorkoutLogRepository extends JpaRepository<GroupWorkoutLog, UUID>, GroupWorkoutLogRepositoryCustom {
+
+    // 멤버 연속 기록 재계산용 : 그룹 안에서 운동한 날짜 (중복 제거)
+    @Query("""
+            select distinct l.workoutDate from GroupWorkoutLog l
+             where l.group.id = :groupId and l.user.id = :userId
+            """)
+    List<LocalDate> findWorkoutDates(@Param("groupId") UUID groupId, @Param("userId") UUID userId);
+}
@@ -0,0 +1,11 @@
+package flobitt.oww.domain.workout.repository;
+
+import flobitt.oww.domain.workout.dto.res.GroupFeedItemRes;
+import flobitt.oww.global.pagination.DateIdCursor;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface GroupWorkoutLogRepositoryCustom {
+    List<GroupFeedItemRes> findFeed(UUID groupId, DateIdCursor cursor, int limit);
+}
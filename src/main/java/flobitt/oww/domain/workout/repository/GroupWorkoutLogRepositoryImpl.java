@@ -0,0 +1,58 @@
+package flobitt.oww.domain.workout.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import flobitt.oww.domain.group.entity.QGroupMember;
+import flobitt.oww.domain.workout.dto.res.GroupFeedItemRes;
+import flobitt.oww.domain.workout.entity.QGroupWorkoutLog;
+import flobitt.oww.domain.workout.entity.QWorkoutRecord;
+import flobitt.oww.global.pagination.DateIdCursor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class GroupWorkoutLogRepositoryImpl implements GroupWorkoutLogRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 그룹 피드 (최신순) : idx_group_id_workout_date_log_id 범위 스캔으로 limit건만 읽고,
+     * 기록/닉네임은 읽은 행마다 PK·인덱스 조회로 붙인다. 페이지 깊이와 관계없이 비용이 같다.
+     */
+    @Override
+    public List<GroupFeedItemRes> findFeed(UUID groupId, DateIdCursor cursor, int limit) {
+        QGroupWorkoutLog groupWorkoutLog = QGroupWorkoutLog.groupWorkoutLog;
+        QWorkoutRecord workoutRecord = QWorkoutRecord.workoutRecord;
+        QGroupMember groupMember = QGroupMember.groupMember;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(GroupFeedItemRes.class,
+                        groupWorkoutLog.id,
+                        workoutRecord.id,
+                        groupWorkoutLog.workoutDate,
+                        groupWorkoutLog.user.id,
+                        groupMember.nickname,
+                        workoutRecord.imageUrl,
+                        workoutRecord.durationMinutes))
+                .from(groupWorkoutLog)
+                .join(groupWorkoutLog.workoutRecord, workoutRecord)
+                .leftJoin(groupMember).on(groupMember.group.id.eq(groupWorkoutLog.group.id),
+                        groupMember.user.id.eq(groupWorkoutLog.user.id),
+                        groupMember.isDeleted.isFalse())
+                .where(groupWorkoutLog.group.id.eq(groupId),
+                        before(groupWorkoutLog, cursor))
+                .orderBy(groupWorkoutLog.workoutDate.desc(), groupWorkoutLog.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // (workout_date, log_id) < (cursor.date, cursor.id)
+    private BooleanExpression before(QGroupWorkoutLog groupWorkoutLog, DateIdCursor cursor) {
+        if (cursor == null) return null;
+        return groupWorkoutLog.workoutDate.lt(cursor.date())
+                .or(groupWorkoutLog.workoutDate.eq(cursor.date()).and(groupWorkoutLog.id.lt(cursor.id())));
+    }
+}
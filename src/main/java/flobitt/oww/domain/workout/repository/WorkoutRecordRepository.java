@@ -0,0 +1,25 @@
+package flobitt.oww.domain.workout.repository;
+
+import flobitt.oww.domain.workout.entity.WorkoutRecord;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface WorkoutRecordRepository extends JpaRepository<WorkoutRecord, UUID>, WorkoutRecordRepositoryCustom {
+
+    // 본인 기록인지 (PK 조회)
+    @Query("select count(r) > 0 from WorkoutRecord r where r.id = :recordId and r.user.id = :userId")
+    boolean existsOwnedRecord(@Param("recordId") UUID recordId, @Param("userId") UUID userId);
+
+    // 본인 기록일 때만 사진 URL 변경 (변경된 행 수 반환)
+    @Transactional
+    @Modifying
+    @Query("update WorkoutRecord r set r.imageUrl = :imageUrl where r.id = :recordId and r.user.id = :userId")
+    int updateImageUrl(@Param("recordId") UUID recordId, @Param("userId") UUID userId, @Param("imageUrl") String imageUrl);
+}
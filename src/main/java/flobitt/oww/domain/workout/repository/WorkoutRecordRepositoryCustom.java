@@ -0,0 +1,11 @@
+package flobitt.oww.domain.workout.repository;
+
+import flobitt.oww.domain.workout.dto.res.WorkoutRecordRes;
+import flobitt.oww.global.pagination.DateIdCursor;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface WorkoutRecordRepositoryCustom {
+    List<WorkoutRecordRes> findHistory(UUID userId, DateIdCursor cursor, int limit);
+}
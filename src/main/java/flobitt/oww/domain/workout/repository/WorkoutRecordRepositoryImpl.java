@@ -0,0 +1,45 @@
+package flobitt.oww.domain.workout.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import flobitt.oww.domain.workout.dto.res.WorkoutRecordRes;
+import flobitt.oww.domain.workout.entity.QWorkoutRecord;
+import flobitt.oww.global.pagination.DateIdCursor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class WorkoutRecordRepositoryImpl implements WorkoutRecordRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 내 운동 기록 (최신순) : idx_user_id_workout_date_record_id 범위 스캔으로 limit건만 읽는다.
+    @Override
+    public List<WorkoutRecordRes> findHistory(UUID userId, DateIdCursor cursor, int limit) {
+        QWorkoutRecord workoutRecord = QWorkoutRecord.workoutRecord;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(WorkoutRecordRes.class,
+                        workoutRecord.id,
+                        workoutRecord.workoutDate,
+                        workoutRecord.workoutMemo,
+                        workoutRecord.imageUrl,
+                        workoutRecord.durationMinutes))
+                .from(workoutRecord)
+                .where(workoutRecord.user.id.eq(userId),
+                        before(workoutRecord, cursor))
+                .orderBy(workoutRecord.workoutDate.desc(), workoutRecord.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // (workout_date, record_id) < (cursor.date, cursor.id)
+    private BooleanExpression before(QWorkoutRecord workoutRecord, DateIdCursor cursor) {
+        if (cursor == null) return null;
+        return workoutRecord.workoutDate.lt(cursor.date())
+                .or(workoutRecord.workoutDate.eq(cursor.date()).and(workoutRecord.id.lt(cursor.id())));
+    }
+}
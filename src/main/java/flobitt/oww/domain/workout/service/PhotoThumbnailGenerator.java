@@ -0,0 +1,127 @@
+package flobitt.oww.domain.workout.service;
+
+import flobitt.oww.global.properties.PhotoStorageProperties;
+import flobitt.oww.global.storage.ContentAddressedStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 피드용 썸네일 생성 (요청 스레드를 막지 않도록 비동기)
+ * 원본이 같으면 썸네일도 같으므로 해시당 한 번만 만들고, 같은 해시의 생성 요청이 겹치면 하나만 실행한다.
+ * 디코딩 전에 헤더의 가로/세로만 읽어서 너무 큰 이미지는 거절하고, 나머지는 썸네일 크기 근처로 건너뛰며(subsampling) 읽는다.
+ * (작은 파일이 거대한 크기를 주장하는 압축 폭탄이 힙 전체를 할당하지 않도록)
+ */
+@Slf4j
+@Component
+public class PhotoThumbnailGenerator {
+
+    private final ContentAddressedStore contentAddressedStore;
+    private final PhotoStorageProperties properties;
+    private final Executor executor;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public PhotoThumbnailGenerator(ContentAddressedStore contentAddressedStore,
+                                   PhotoStorageProperties properties,
+                                   @Qualifier("taskExecutor") Executor executor) {
+        this.contentAddressedStore = contentAddressedStore;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    public void generate(String hash) {
+        if (!inFlight.add(hash)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    generateNow(hash);
+                } finally {
+                    inFlight.remove(hash);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(hash);
+            throw e;
+        }
+    }
+
+    private void generateNow(String hash) {
+        if (contentAddressedStore.findThumbnail(hash).isPresent()) return;
+
+        Path original = contentAddressedStore.find(hash).orElse(null);
+        if (original == null) return;
+
+        try {
+            BufferedImage source = read(hash, original);
+            if (source == null) return;
+            BufferedImage thumbnail = resize(source, properties.getThumbnailSize());
+            contentAddressedStore.writeThumbnail(hash, out -> ImageIO.write(thumbnail, "jpg", out));
+            log.debug("썸네일 생성 완료: hash={}, {}x{}", hash, thumbnail.getWidth(), thumbnail.getHeight());
+        } catch (IOException e) {
+            log.error("썸네일 생성 실패: hash={} - {}", hash, e.getMessage());
+        }
+    }
+
+    // 헤더의 크기를 먼저 확인하고, 긴 변이 썸네일의 2배 정도가 되도록 픽셀을 건너뛰며 디코딩
+    private BufferedImage read(String hash, Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                log.warn("썸네일 생성 불가 (지원하지 않는 이미지): hash={}", hash);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long width = reader.getWidth(0);
+                long height = reader.getHeight(0);
+                if (width * height > properties.getMaxImagePixels()) {
+                    log.warn("썸네일 생성 불가 (이미지가 너무 큼): hash={}, {}x{}", hash, width, height);
+                    return null;
+                }
+
+                int step = (int) Math.max(1, Math.max(width, height) / (properties.getThumbnailSize() * 2L));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변 기준으로 비율 유지 축소 (작은 이미지는 그대로), JPEG라 알파 채널은 버린다.
+    private BufferedImage resize(BufferedImage source, int maxSide) {
+        double scale = Math.min(1.0, (double) maxSide / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,46 @@
+package flobitt.oww.domain.workout.service;
+
+import flobitt.oww.domain.workout.dto.res.GroupFeedItemRes;
+import flobitt.oww.domain.workout.dto.res.WorkoutRecordRes;
+import flobitt.oww.domain.workout.repository.GroupWorkoutLogRepository;
+import flobitt.oww.domain.workout.repository.WorkoutRecordRepository;
+import flobitt.oww.global.pagination.CursorPageRes;
+import flobitt.oww.global.pagination.DateIdCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class WorkoutHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final WorkoutRecordRepository workoutRecordRepository;
+    private final GroupWorkoutLogRepository groupWorkoutLogRepository;
+
+    // 내 운동 기록 (커서 기반, 최신순)
+    public CursorPageRes<WorkoutRecordRes> getHistory(UUID userId, String cursor, int size) {
+        int pageSize = normalize(size);
+        return CursorPageRes.of(
+                workoutRecordRepository.findHistory(userId, DateIdCursor.decode(cursor), pageSize + 1),
+                pageSize,
+                record -> new DateIdCursor(record.getWorkoutDate(), record.getRecordId()));
+    }
+
+    // 그룹 피드 (커서 기반, 최신순)
+    public CursorPageRes<GroupFeedItemRes> getGroupFeed(UUID groupId, String cursor, int size) {
+        int pageSize = normalize(size);
+        return CursorPageRes.of(
+                groupWorkoutLogRepository.findFeed(groupId, DateIdCursor.decode(cursor), pageSize + 1),
+                pageSize,
+                item -> new DateIdCursor(item.getWorkoutDate(), item.getLogId()));
+    }
+
+    private int normalize(int size) {
+        if (size <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
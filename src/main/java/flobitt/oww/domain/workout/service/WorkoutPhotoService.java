@@ -0,0 +1,85 @@
+package flobitt.oww.domain.workout.service;
+
+import flobitt.oww.domain.workout.repository.WorkoutRecordRepository;
+import flobitt.oww.global.exception.FileTooLargeException;
+import flobitt.oww.global.properties.PhotoStorageProperties;
+import flobitt.oww.global.storage.ContentAddressedStore;
+import flobitt.oww.global.storage.StoredFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkoutPhotoService {
+
+    public static final String PHOTO_URL_PREFIX = "/photos/";
+
+    private final WorkoutRecordRepository workoutRecordRepository;
+    private final ContentAddressedStore contentAddressedStore;
+    private final PhotoThumbnailGenerator photoThumbnailGenerator;
+    private final PhotoStorageProperties properties;
+
+    /**
+     * 운동 인증 사진 업로드 : 요청 본문을 그대로 저장소로 흘려보낸 뒤 image_url만 갱신한다.
+     * 파일 쓰기 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 저장하고, UPDATE 한 문장만 트랜잭션으로 실행한다.
+     * 남의 기록이나 없는 기록으로 파일만 쌓이지 않도록 저장 전에 본인 기록인지 먼저 확인한다.
+     */
+    public String uploadPhoto(UUID userId, UUID recordId, String contentType, long contentLength, InputStream body) throws IOException {
+        // TODO Exception 설정
+        if (contentType == null || !properties.getAllowedContentTypes().contains(contentType.toLowerCase())) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + contentType);
+        }
+        long maxBytes = properties.getMaxSize().toBytes();
+        if (contentLength > maxBytes) throw new FileTooLargeException(maxBytes);
+        if (!workoutRecordRepository.existsOwnedRecord(recordId, userId)) {
+            throw new IllegalArgumentException("존재하지 않는 운동 기록입니다.");
+        }
+
+        StoredFile stored = contentAddressedStore.store(body, maxBytes);
+        String imageUrl = PHOTO_URL_PREFIX + stored.hash();
+
+        if (workoutRecordRepository.updateImageUrl(recordId, userId, imageUrl) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 운동 기록입니다.");
+        }
+
+        if (stored.created()) photoThumbnailGenerator.generate(stored.hash());
+        log.info("운동 사진 업로드: recordId={}, hash={}, size={}, deduplicated={}",
+                recordId, stored.hash(), stored.size(), !stored.created());
+        return imageUrl;
+    }
+
+    public Optional<Path> findPhoto(String hash) {
+        return contentAddressedStore.find(hash);
+    }
+
+    // 썸네일이 아직 없으면 원본으로 대체하고 생성을 다시 요청 (같은 해시가 생성 중이면 요청하지 않는다)
+    public Optional<Path> findThumbnail(String hash) {
+        Optional<Path> thumbnail = contentAddressedStore.findThumbnail(hash);
+        if (thumbnail.isPresent()) return thumbnail;
+
+        Optional<Path> original = contentAddressedStore.find(hash);
+        original.ifPresent(path -> photoThumbnailGenerator.generate(hash));
+        return original;
+    }
+
+    // 저장 시 Content-Type을 따로 보관하지 않으므로 파일 앞부분(매직 넘버)으로 판별
+    public String contentTypeOf(Path path) throws IOException {
+        byte[] header = new byte[4];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read = in.readNBytes(header, 0, header.length);
+            if (read >= 2 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8) return MediaType.IMAGE_JPEG_VALUE;
+            if (read >= 4 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') return MediaType.IMAGE_PNG_VALUE;
+        }
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+}
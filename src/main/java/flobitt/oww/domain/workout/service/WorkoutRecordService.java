@@ -0,0 +1,93 @@
+package flobitt.oww.domain.workout.service;
+
+import flobitt.oww.domain.group.entity.Group;
+import flobitt.oww.domain.group.entity.GroupMember;
+import flobitt.oww.domain.group.repository.GroupMemberRepository;
+import flobitt.oww.domain.group.repository.GroupRepository;
+import flobitt.oww.domain.group.service.GroupCalendarService;
+import flobitt.oww.domain.group.service.MemberStreakService;
+import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.domain.user.repository.UserRepository;
+import flobitt.oww.domain.workout.dto.req.CreateWorkoutRecordReq;
+import flobitt.oww.domain.workout.dto.req.CreateWorkoutRecordsReq;
+import flobitt.oww.domain.workout.entity.GroupWorkoutLog;
+import flobitt.oww.domain.workout.entity.WorkoutRecord;
+import flobitt.oww.domain.workout.event.CreateWorkoutRecordEvent;
+import flobitt.oww.domain.workout.repository.GroupWorkoutLogRepository;
+import flobitt.oww.domain.workout.repository.WorkoutRecordRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkoutRecordService {
+
+    private final WorkoutRecordRepository workoutRecordRepository;
+    private final GroupWorkoutLogRepository groupWorkoutLogRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+    private final GroupCalendarService groupCalendarService;
+    private final MemberStreakService memberStreakService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * 운동 기록 저장 + 사용자가 속한 모든 그룹으로 로그 fan-out
+     * ID는 persist 시점에 UUIDv7로 미리 할당되므로 INSERT가 flush 때까지 모였다가
+     * hibernate.jdbc.batch_size 단위의 배치 INSERT(기록 1번, 그룹 로그 1번)로 나간다.
+     */
+    @Transactional
+    public List<UUID> createWorkoutRecords(UUID userId, CreateWorkoutRecordsReq req) {
+        // TODO Exception 설정
+        if (!userRepository.existsById(userId)) throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+
+        // 프록시 참조만 사용 : 사용자/그룹 SELECT 없이 FK 값만 채운다.
+        User user = userRepository.getReferenceById(userId);
+        List<GroupMember> members = groupMemberRepository.findActiveByUserId(userId);
+        List<UUID> groupIds = members.stream().map(member -> member.getGroup().getId()).toList();
+        List<Group> groups = groupIds.stream()
+                .map(groupRepository::getReferenceById)
+                .toList();
+
+        List<WorkoutRecord> records = new ArrayList<>(req.getRecords().size());
+        List<GroupWorkoutLog> logs = new ArrayList<>(req.getRecords().size() * groups.size());
+        for (CreateWorkoutRecordReq recordReq : req.getRecords()) {
+            WorkoutRecord record = CreateWorkoutRecordReq.toEntity(recordReq, user);
+            records.add(record);
+
+            for (Group group : groups) {
+                logs.add(GroupWorkoutLog.builder()
+                        .workoutDate(record.getWorkoutDate())
+                        .workoutRecord(record)
+                        .group(group)
+                        .user(user)
+                        .build());
+            }
+        }
+
+        workoutRecordRepository.saveAll(records);
+        groupWorkoutLogRepository.saveAll(logs);
+
+        // 그룹 캘린더 읽기 모델, 멤버 연속 기록 갱신 (같은 트랜잭션)
+        Set<LocalDate> workoutDates = records.stream().map(WorkoutRecord::getWorkoutDate).collect(Collectors.toSet());
+        groupCalendarService.recordActivity(userId, groupIds, workoutDates);
+        memberStreakService.recordWorkouts(members, workoutDates);
+
+        // 커밋 후 그룹 멤버 알림
+        applicationEventPublisher.publishEvent(new CreateWorkoutRecordEvent(userId, groupIds, workoutDates));
+
+        log.info("운동 기록 저장: userId={}, records={}, groupLogs={}", userId, records.size(), logs.size());
+        return records.stream().map(WorkoutRecord::getId).toList();
+    }
+}
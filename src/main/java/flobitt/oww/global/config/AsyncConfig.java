@@ -1,33 +1,138 @@
 package flobitt.oww.global.config;
 
+import flobitt.oww.global.properties.MailOutboxProperties;
+import flobitt.oww.global.properties.NotificationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 @Slf4j
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final MailOutboxProperties mailOutboxProperties;
+    private final NotificationProperties notificationProperties;
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            log.info("Async Executor 초기화 완료: virtual threads");
+            return virtualThreadExecutor("async-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("async-email-");
+        executor.setThreadNamePrefix("async-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
+        bindGauges("taskExecutor", executor);
+
+        log.info("Async Executor 초기화 완료: platform threads");
+        return executor;
+    }
+
+    // 아웃박스 발송 전용 : 동시 SMTP 연결 수를 concurrency로 제한 (배치 크기만큼만 큐에 쌓인다)
+    @Bean(name = "mailOutboxExecutor")
+    public Executor mailOutboxExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            log.info("Mail Outbox Executor 초기화 완료: virtual threads, concurrency={}", mailOutboxProperties.getConcurrency());
+            return virtualThreadExecutor("mail-outbox-", mailOutboxProperties.getConcurrency());
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailOutboxProperties.getConcurrency());
+        executor.setMaxPoolSize(mailOutboxProperties.getConcurrency());
+        executor.setQueueCapacity(mailOutboxProperties.getBatchSize());
+        executor.setThreadNamePrefix("mail-outbox-");
+        executor.initialize();
+        bindGauges("mailOutboxExecutor", executor);
+
+        log.info("Mail Outbox Executor 초기화 완료: concurrency={}", mailOutboxProperties.getConcurrency());
+        return executor;
+    }
+
+    // SSE 알림 전송 + 커밋 후 알림 fan-out : 연결마다 한 번에 하나의 전송 작업만 큐에 들어가므로 큐 크기는 연결 수 정도면 된다.
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            log.info("Notification Executor 초기화 완료: virtual threads");
+            return virtualThreadExecutor("notification-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationProperties.getSenderThreads());
+        executor.setMaxPoolSize(notificationProperties.getSenderThreads());
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        bindGauges("notificationExecutor", executor);
+
+        log.info("Notification Executor 초기화 완료: threads={}", notificationProperties.getSenderThreads());
+        return executor;
+    }
+
+    // 정리/보관/주간 리포트 등 오래 걸리는 정기 작업 전용 : 스케줄러 스레드는 트리거만 하고 바로 돌아간다.
+    // 스레드 하나로 순서대로 실행해서 배치 작업끼리 DB/SMTP 부하가 겹치지 않게 한다.
+    @Bean(name = "maintenanceExecutor")
+    public Executor maintenanceExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            log.info("Maintenance Executor 초기화 완료: virtual threads");
+            return virtualThreadExecutor("maintenance-", 1);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("maintenance-");
+        executor.initialize();
+        bindGauges("maintenanceExecutor", executor);
+
+        log.info("Maintenance Executor 초기화 완료");
+        return executor;
+    }
+
+    // 실행 중인 스레드 수와 대기열 길이 게이지 (가상 스레드 모드는 풀/대기열이 없어 제외)
+    private void bindGauges(String name, ThreadPoolTaskExecutor executor) {
+        meterRegistry.ifAvailable(registry -> {
+            registry.gauge("async.executor.active", List.of(Tag.of("name", name)), executor, ThreadPoolTaskExecutor::getActiveCount);
+            registry.gauge("async.executor.queue.size", List.of(Tag.of("name", name)), executor, ThreadPoolTaskExecutor::getQueueSize);
+        });
+    }
+
+    // spring.threads.virtual.enabled=true 이면 Tomcat, 스케줄러와 함께 비동기 작업도 가상 스레드로 실행
+    private boolean isVirtualThreadsEnabled() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
 
-        log.info("Async Email Executor 초기화 완료");
+    // 가상 스레드는 풀링하지 않고 작업마다 생성, 동시 실행 수만 제한한다.
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
         return executor;
     }
 
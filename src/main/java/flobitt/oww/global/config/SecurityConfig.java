@@ -1,5 +1,7 @@
 package flobitt.oww.global.config;
 
+import flobitt.oww.global.properties.PasswordHashingProperties;
+import flobitt.oww.global.security.BCryptStrengthCalibrator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,9 +19,16 @@ import org.springframework.security.web.SecurityFilterChain;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final PasswordHashingProperties passwordHashingProperties;
+
+    // 기동 시 목표 해싱 시간에 맞춰 BCrypt cost 보정
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = passwordHashingProperties.isCalibrate()
+                ? BCryptStrengthCalibrator.calibrate(passwordHashingProperties.getTargetLatency(),
+                        passwordHashingProperties.getMinStrength(), passwordHashingProperties.getMaxStrength())
+                : passwordHashingProperties.getStrength();
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -0,0 +1,33 @@
+package flobitt.oww.global.config;
+
+import flobitt.oww.global.diagnostics.SlowQueryDataSource;
+import flobitt.oww.global.properties.SlowQueryLogProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// 느린 쿼리 로그 : Hikari DataSource를 SlowQueryDataSource로 감싼다. (false면 래핑하지 않아 오버헤드 없음)
+@Configuration
+@ConditionalOnProperty(prefix = "app.slow-query-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLogConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static + ObjectProvider로 의존성을 늦게 가져온다.
+    @Bean
+    static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLogProperties> properties,
+                                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+                    return new SlowQueryDataSource(dataSource, properties.getObject(), meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package flobitt.oww.global.config;
+
+import flobitt.oww.global.properties.StartupProperties;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+// 기동 시간 : 요청 처리에 필요 없는 빈(Swagger 등)은 처음 쓰일 때 만든다. (app.startup.lazy-packages, 기본은 없음)
+// spring.main.lazy-initialization 은 스케줄러/이벤트 리스너 빈까지 늦춰서 등록이 안 되므로 패키지 단위로만 지연한다.
+@Configuration
+public class StartupConfig {
+
+    // BeanFactoryPostProcessor는 다른 빈보다 먼저 만들어지므로 static + Binder로 설정을 직접 읽는다.
+    @Bean
+    static BeanFactoryPostProcessor lazyPackagesPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("app.startup", StartupProperties.class)
+                .map(StartupProperties::getLazyPackages)
+                .orElse(List.of());
+        return beanFactory -> {
+            if (packages.isEmpty()) return;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                Class<?> type = beanFactory.getType(name, false);
+                if (type != null && packages.stream().anyMatch(type.getName()::startsWith)) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                }
+            }
+        };
+    }
+}
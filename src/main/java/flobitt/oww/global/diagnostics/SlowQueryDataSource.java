@@ -0,0 +1,109 @@
+package flobitt.oww.global.diagnostics;
+
+import flobitt.oww.global.properties.SlowQueryLogProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 임계값 이상 걸린 SQL만 남기는 DataSource 래퍼 (p6spy 대체)
+ * 모든 문장을 포맷/로그하지 않고 execute* 호출 시간만 재서, 느린 문장만 메트릭으로 세고 sample-rate 비율만 로그로 남긴다.
+ * JPA/QueryDSL과 JdbcTemplate 쿼리를 모두 같은 기준으로 본다.
+ * MeterRegistry는 DataSource 메트릭 바인더가 이 DataSource를 참조하므로 느린 쿼리가 생길 때 지연 조회한다.
+ */
+@Slf4j
+public class SlowQueryDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int maxSqlLength;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryLogProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(target);
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.sampleRate = properties.getSampleRate();
+        this.maxSqlLength = properties.getMaxSqlLength();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    // 빈 종료 시 감싼 커넥션 풀도 닫히도록 (Spring이 추론하는 close 메서드가 래퍼에 있어야 한다)
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) return proxy == args[0];
+                    if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> wrap((Statement) result, CallableStatement.class, (String) args[0]);
+                        case "createStatement" -> wrap((Statement) result, Statement.class, null);
+                        default -> result;
+                    };
+                });
+    }
+
+    private Statement wrap(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) return invoke(statement, method, args);
+
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= thresholdNanos) {
+                    String sql = preparedSql != null ? preparedSql
+                            : args != null && args.length > 0 && args[0] instanceof String s ? s : "(batch)";
+                    report(method.getName(), sql, elapsed);
+                }
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private void report(String method, String sql, long elapsedNanos) {
+        meterRegistry.ifAvailable(registry -> registry.counter("db.query.slow").increment());
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) return;
+
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        if (compact.length() > maxSqlLength) compact = compact.substring(0, maxSqlLength) + "...";
+        log.warn("느린 쿼리: {}ms, {}: {}", elapsedNanos / 1_000_000, method, compact);
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package flobitt.oww.global.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단
+ * synchronized 블록 안에서 블로킹 I/O를 하면 (JDBC 드라이버, Jakarta Mail SMTPTransport 등) 캐리어 스레드가 묶인다.
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 임계값 이상 묶인 호출 위치를 로그와 메트릭으로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "app.virtual-threads", name = "pinning-diagnostics", havingValue = "true")
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+
+    private final RecordingStream recordingStream;
+    private final Counter pinnedCounter;
+
+    public VirtualThreadPinningMonitor(@Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold,
+                                       MeterRegistry meterRegistry) {
+        this.pinnedCounter = meterRegistry.counter("jvm.threads.virtual.pinned");
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+
+        log.info("가상 스레드 pinning 진단 시작: threshold={}", threshold);
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCounter.increment();
+        log.warn("가상 스레드 pinning 감지: duration={}ms, thread={}\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                formatStackTrace(event));
+    }
+
+    private String formatStackTrace(RecordedEvent event) {
+        if (event.getStackTrace() == null) return "\t(stack trace 없음)";
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+}
@@ -0,0 +1,13 @@
+package flobitt.oww.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 이미 가입한 그룹에 다시 가입 요청 (uk_group_active_user 중복)
+@ResponseStatus(HttpStatus.CONFLICT)
+public class AlreadyJoinedGroupException extends RuntimeException {
+
+    public AlreadyJoinedGroupException(String message) {
+        super(message);
+    }
+}
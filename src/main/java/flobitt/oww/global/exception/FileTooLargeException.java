@@ -0,0 +1,13 @@
+package flobitt.oww.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 업로드 크기 초과 (스트리밍 중에 확인하므로 Content-Length 없이 올라와도 중단된다)
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class FileTooLargeException extends RuntimeException {
+
+    public FileTooLargeException(long maxBytes) {
+        super("파일 크기는 " + maxBytes + "바이트를 넘을 수 없습니다.");
+    }
+}
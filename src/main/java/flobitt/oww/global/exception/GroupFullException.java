@@ -0,0 +1,13 @@
+package flobitt.oww.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 정원이 찬 그룹에 가입 요청
+@ResponseStatus(HttpStatus.CONFLICT)
+public class GroupFullException extends RuntimeException {
+
+    public GroupFullException(String message) {
+        super(message);
+    }
+}
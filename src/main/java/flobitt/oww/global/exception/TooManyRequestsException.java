@@ -0,0 +1,13 @@
+package flobitt.oww.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 요청 빈도 제한 초과 : 해싱/DB/메일 발송 전에 바로 429로 응답
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,26 @@
+package flobitt.oww.global.id;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * BINARY(16) 컬럼 바인딩용 변환 (네이티브 쿼리 파라미터)
+ * Hibernate의 UUID -> BINARY 매핑과 같은 big-endian 순서를 사용한다.
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,40 @@
+package flobitt.oww.global.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * RFC 9562 UUID version 7 생성기
+ * 상위 48비트가 밀리초 타임스탬프라서 BINARY(16)으로 저장하면 클러스터드 인덱스에 순차적으로 삽입된다.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    public static UUID generate(long epochMillis) {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+
+        // unix_ts_ms(48) | ver(4) | rand_a(12)
+        long msb = (epochMillis & 0xFFFFFFFFFFFFL) << 16
+                | 0x7000L
+                | ((random[0] & 0x0FL) << 8)
+                | (random[1] & 0xFFL);
+
+        // var(2) | rand_b(62)
+        long lsb = 0;
+        for (int i = 2; i < 10; i++) {
+            lsb = (lsb << 8) | (random[i] & 0xFFL);
+        }
+        lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,93 @@
+package flobitt.oww.global.jwt;
+
+import flobitt.oww.global.properties.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 이메일 인증 토큰 서명 키 보관소
+ * 키와 파서는 기동 시 한 번만 만들고, 검증 시에는 토큰 헤더의 kid로 키를 선택한다.
+ * JwtParser는 불변 객체라서 여러 스레드가 공유해도 안전하다.
+ */
+@Slf4j
+@Component
+public class VerificationKeyRing {
+
+    private static final String LEGACY_KEY_ID = "default";
+
+    private final Map<String, SecretKey> keys;
+
+    @Getter
+    private final String activeKeyId;
+
+    @Getter
+    private final JwtParser parser;
+
+    public VerificationKeyRing(JwtProperties jwtProperties) {
+        Map<String, SecretKey> loaded = new LinkedHashMap<>();
+        if (jwtProperties.getVerificationKey() != null && !jwtProperties.getVerificationKey().isBlank()) {
+            loaded.put(LEGACY_KEY_ID, toSecretKey(jwtProperties.getVerificationKey()));
+        }
+        jwtProperties.getVerificationKeys().forEach((kid, secret) -> loaded.put(kid, toSecretKey(secret)));
+
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("JWT 인증 키가 설정되지 않았습니다.");
+        }
+
+        this.keys = Map.copyOf(loaded);
+        this.activeKeyId = resolveActiveKeyId(jwtProperties.getActiveKeyId(), loaded);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyIdResolver())
+                .build();
+
+        log.info("JWT 인증 키 로드 완료: keyIds={}, activeKeyId={}", loaded.keySet(), activeKeyId);
+    }
+
+    public SecretKey getActiveKey() {
+        return keys.get(activeKeyId);
+    }
+
+    private String resolveActiveKeyId(String configured, Map<String, SecretKey> loaded) {
+        if (configured == null || configured.isBlank()) {
+            // 명시하지 않으면 마지막에 등록된 키로 서명
+            String last = null;
+            for (String kid : loaded.keySet()) last = kid;
+            return last;
+        }
+        if (!loaded.containsKey(configured)) {
+            throw new IllegalStateException("등록되지 않은 JWT 키 ID입니다: " + configured);
+        }
+        return configured;
+    }
+
+    private SecretKey toSecretKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private class KeyIdResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            // kid가 없는 토큰은 키 교체 도입 이전에 발급된 토큰
+            String kid = header.getKeyId() != null ? header.getKeyId() : LEGACY_KEY_ID;
+            SecretKey key = keys.get(kid);
+            if (key == null) {
+                throw new JwtException("알 수 없는 서명 키입니다: kid=" + kid);
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package flobitt.oww.global.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 파싱된 메일 템플릿
+ * 기동 시 {{변수}} 위치로 본문을 잘라 두고, 발송 시에는 조각을 이어 붙이기만 한다. (String.formatted 재파싱 없음)
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String subject;
+    private final String[] literals;   // 변수 사이의 고정 문자열 (variables.length + 1개)
+    private final String[] variables;
+    private final int literalLength;
+
+    private MailTemplate(String subject, String[] literals, String[] variables) {
+        this.subject = subject;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) length += literal.length();
+        this.literalLength = length;
+    }
+
+    public static MailTemplate compile(String subject, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int cursor = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, cursor);
+            if (open < 0) break;
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) throw new IllegalArgumentException("닫히지 않은 템플릿 변수입니다: " + source.substring(open));
+
+            literals.add(source.substring(cursor, open));
+            variables.add(source.substring(open + OPEN.length(), close).trim());
+            cursor = close + CLOSE.length();
+        }
+        literals.add(source.substring(cursor));
+
+        return new MailTemplate(subject, literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder sb = new StringBuilder(literalLength + variables.length * 128);
+        for (int i = 0; i < variables.length; i++) {
+            sb.append(literals[i]);
+            String value = values.get(variables[i]);
+            if (value == null) throw new IllegalArgumentException("템플릿 변수 값이 없습니다: " + variables[i]);
+            sb.append(value);
+        }
+        return sb.append(literals[variables.length]).toString();
+    }
+}
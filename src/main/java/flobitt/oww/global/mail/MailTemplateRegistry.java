@@ -0,0 +1,62 @@
+package flobitt.oww.global.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * templates/mail/{name}_{lang}.html 을 기동 시 한 번만 읽어서 컴파일해 둔다.
+ * 첫 줄의 <!-- subject: ... --> 주석을 메일 제목으로 사용한다.
+ */
+@Slf4j
+@Component
+public class MailTemplateRegistry {
+
+    private static final String LOCATION = "classpath*:templates/mail/*.html";
+    private static final Pattern FILE_NAME = Pattern.compile("(.+)_([a-z]{2})\\.html");
+    private static final Pattern SUBJECT = Pattern.compile("^<!--\\s*subject:(.*?)-->\\R?");
+    private static final Locale DEFAULT_LOCALE = Locale.KOREAN;
+
+    private final Map<String, MailTemplate> templates = new HashMap<>();
+
+    public MailTemplateRegistry() {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                Matcher name = FILE_NAME.matcher(resource.getFilename());
+                if (!name.matches()) continue;
+
+                String source = resource.getContentAsString(StandardCharsets.UTF_8);
+                Matcher subject = SUBJECT.matcher(source);
+                if (!subject.find()) throw new IllegalStateException("메일 템플릿 제목이 없습니다: " + resource.getFilename());
+
+                templates.put(key(name.group(1), name.group(2)),
+                        MailTemplate.compile(subject.group(1).trim(), source.substring(subject.end())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿 로드 실패", e);
+        }
+        log.info("메일 템플릿 로드 완료: {}", templates.keySet());
+    }
+
+    // 요청 언어의 템플릿이 없으면 기본 언어(한국어)로 대체
+    public MailTemplate get(String name, Locale locale) {
+        MailTemplate template = templates.get(key(name, locale.getLanguage()));
+        if (template == null) template = templates.get(key(name, DEFAULT_LOCALE.getLanguage()));
+        if (template == null) throw new IllegalArgumentException("메일 템플릿이 없습니다: " + name);
+        return template;
+    }
+
+    private String key(String name, String language) {
+        return name + "_" + language;
+    }
+}
@@ -0,0 +1,176 @@
+package flobitt.oww.global.mail;
+
+import flobitt.oww.global.properties.MailOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * SMTP 연결 재사용 발송기
+ * JavaMailSender.send()는 호출마다 연결 + STARTTLS + AUTH를 새로 하므로,
+ * 연결된 Transport를 풀에 보관해 두고 여러 메시지를 같은 연결로 연속 발송한다.
+ * 동시 연결 수는 app.mail-outbox.concurrency 로 제한한다.
+ * 모든 메일 발송이 여기를 거치므로 발송 성공/실패 수와 메시지별 발송 시간을 여기서 기록한다.
+ */
+@Slf4j
+@Component
+public class PooledMailSender implements DisposableBean {
+
+    private final JavaMailSenderImpl mailSender;
+    private final Semaphore permits;
+    private final BlockingQueue<Transport> idle = new LinkedBlockingQueue<>();
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Timer sendTimer;
+    private final Timer connectTimer;
+
+    public PooledMailSender(JavaMailSenderImpl mailSender, MailOutboxProperties properties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.permits = new Semaphore(properties.getConcurrency());
+        this.sentCounter = meterRegistry.counter("mail.send.success");
+        this.failedCounter = meterRegistry.counter("mail.send.failure");
+        this.sendTimer = meterRegistry.timer("mail.send.time");
+        this.connectTimer = meterRegistry.timer("mail.send.connect");
+        meterRegistry.gauge("mail.send.idle.connections", idle, BlockingQueue::size);
+    }
+
+    public MimeMessage createMimeMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    /**
+     * 하나의 SMTP 연결로 메시지를 순서대로 발송한다.
+     * 메시지 하나가 실패해도 나머지는 계속 보내고, 연결이 끊겼으면 다음 메시지를 보낼 때 다시 연결한다.
+     * 연결 자체를 맺을 수 없으면 남은 메시지는 모두 실패로 돌려준다.
+     * @return 발송에 실패한 메시지와 원인 (모두 성공하면 빈 Map)
+     */
+    public Map<MimeMessage, Exception> send(List<MimeMessage> messages) {
+        Map<MimeMessage, Exception> failures = new IdentityHashMap<>();
+        if (messages.isEmpty()) return failures;
+
+        permits.acquireUninterruptibly();
+        Transport transport = null;
+        try {
+            for (int i = 0; i < messages.size(); i++) {
+                MimeMessage message = messages.get(i);
+                if (transport == null) {
+                    try {
+                        transport = borrow();
+                    } catch (MessagingException | RuntimeException e) {
+                        // 연결 자체 실패 : 남은 메시지 모두 실패 처리
+                        for (MimeMessage remaining : messages.subList(i, messages.size())) fail(failures, remaining, e);
+                        break;
+                    }
+                }
+
+                long start = System.nanoTime();
+                try {
+                    transport = sendOne(transport, message);
+                    sentCounter.increment();
+                } catch (MessagingException | RuntimeException e) {
+                    fail(failures, message, e);
+                    // 재연결 중 실패했거나 연결이 끊긴 상태면 버리고 다음 메시지에서 새로 연결
+                    if (!transport.isConnected()) {
+                        close(transport);
+                        transport = null;
+                    }
+                } finally {
+                    sendTimer.record(System.nanoTime() - start, NANOSECONDS);
+                }
+            }
+        } finally {
+            release(transport);
+            permits.release();
+        }
+        return failures;
+    }
+
+    private void fail(Map<MimeMessage, Exception> failures, MimeMessage message, Exception e) {
+        if (failures.putIfAbsent(message, e) == null) failedCounter.increment();
+    }
+
+    // 연결이 끊긴 경우에만 한 번 재연결 후 재시도 (수신자 거부는 재시도하지 않음)
+    private Transport sendOne(Transport transport, MimeMessage message) throws MessagingException {
+        if (message.getSentDate() == null) message.setSentDate(new Date());
+        message.saveChanges();
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+            return transport;
+        } catch (SendFailedException e) {
+            throw e;
+        } catch (MessagingException e) {
+            if (transport.isConnected()) throw e;
+            log.warn("SMTP 연결 끊김, 재연결 후 재시도: {}", e.getMessage());
+            close(transport);
+            Transport reconnected = connect();
+            try {
+                reconnected.sendMessage(message, message.getAllRecipients());
+                return reconnected;
+            } catch (MessagingException | RuntimeException retryFailure) {
+                close(reconnected);
+                throw retryFailure;
+            }
+        }
+    }
+
+    private Transport borrow() throws MessagingException {
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            // SMTP isConnected()는 NOOP으로 서버측 타임아웃 여부까지 확인한다.
+            if (transport.isConnected()) return transport;
+            close(transport);
+        }
+        return connect();
+    }
+
+    private void release(Transport transport) {
+        if (transport == null) return;
+        if (transport.isConnected()) idle.offer(transport);
+        else close(transport);
+    }
+
+    // 연결 + STARTTLS + AUTH 시간 (재사용 비율이 낮으면 여기가 커진다)
+    private Transport connect() throws MessagingException {
+        long start = System.nanoTime();
+        try {
+            Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+            transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+            return transport;
+        } finally {
+            connectTimer.record(System.nanoTime() - start, NANOSECONDS);
+        }
+    }
+
+    private void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Transport transport;
+        while ((transport = idle.poll()) != null) close(transport);
+    }
+}
@@ -0,0 +1,26 @@
+package flobitt.oww.global.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CursorPageRes<T> {
+    private List<T> items;
+    // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * size + 1건을 조회한 결과로 페이지 생성 (한 건 더 있으면 다음 페이지 존재)
+     */
+    public static <T> CursorPageRes<T> of(List<T> fetched, int size, Function<T, DateIdCursor> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageRes<>(List.copyOf(items), nextCursor, hasNext);
+    }
+}
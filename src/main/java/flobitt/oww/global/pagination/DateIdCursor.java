@@ -0,0 +1,39 @@
+package flobitt.oww.global.pagination;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * (날짜, ID) 키셋 커서
+ * 클라이언트에는 epochDay(8) + UUID(16) 바이트를 Base64URL로 인코딩한 불투명 문자열로 내려준다.
+ */
+public record DateIdCursor(LocalDate date, UUID id) {
+
+    private static final int LENGTH = Long.BYTES * 3;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .putLong(date.toEpochDay())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    // null/빈 문자열이면 첫 페이지
+    public static DateIdCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != LENGTH) throw new IllegalArgumentException("잘못된 커서입니다.");
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new DateIdCursor(LocalDate.ofEpochDay(buffer.getLong()), new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
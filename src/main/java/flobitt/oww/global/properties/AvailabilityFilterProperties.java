@@ -0,0 +1,16 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.availability-filter")
+public class AvailabilityFilterProperties {
+
+    // 예상 사용자 수 : 넘어서면 오탐률이 올라가므로 여유 있게 설정
+    private long expectedInsertions = 1_000_000;
+    // 오탐률 (오탐이면 DB 조회로 확인)
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,18 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.invite-code-cache")
+public class InviteCodeCacheProperties {
+
+    // 초대 코드 -> 그룹 ID 보관 시간 (코드 재발급/그룹 삭제가 반영되는 최대 지연)
+    private Duration ttl = Duration.ofMinutes(10);
+    // 최대 보관 건수 : 넘으면 Caffeine이 자주 쓰지 않는 코드부터 내보낸다
+    private int maxEntries = 10_000;
+}
@@ -4,9 +4,17 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
+    // 단일 키 설정 (kid 없이 발급된 기존 토큰 검증용)
     private String verificationKey;
+    // 서명에 사용할 키 ID
+    private String activeKeyId;
+    // 키 교체용 : kid -> secret (교체 기간 동안 이전 키와 새 키를 함께 등록)
+    private Map<String, String> verificationKeys = new LinkedHashMap<>();
 }
@@ -0,0 +1,25 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.mail-outbox")
+public class MailOutboxProperties {
+
+    // 폴링 주기 (ms)
+    private long pollIntervalMs = 1000;
+    // 한 번에 가져올 발송 건수
+    private int batchSize = 50;
+    // 동시 SMTP 발송 수
+    private int concurrency = 4;
+    // 최대 발송 시도 횟수 (초과 시 FAILED)
+    private int maxAttempts = 5;
+    // 재시도 대기 시간 (지수 백오프 시작값/상한, 초)
+    private long initialBackoffSeconds = 30;
+    private long maxBackoffSeconds = 3600;
+    // 발송 중(SENDING) 상태 점유 시간 : 인스턴스가 죽으면 이 시간 이후 다시 발송 대상이 된다.
+    private long leaseSeconds = 300;
+}
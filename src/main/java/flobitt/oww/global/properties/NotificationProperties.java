@@ -0,0 +1,30 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.notification")
+public class NotificationProperties {
+
+    // 수신자별로 알림을 모으는 시간 : 첫 알림 이후 이 시간 동안 들어온 알림을 한 번에 보낸다.
+    private Duration coalesceWindow = Duration.ofSeconds(3);
+    // 한 묶음에 담을 최대 알림 수 (넘치면 개수만 센다)
+    private int maxBatchItems = 50;
+    // 그룹별 알림 수신자 캐시 유지 시간
+    private Duration subscriberCacheTtl = Duration.ofMinutes(5);
+    // 수신자 캐시에 보관할 최대 그룹 수 (넘치면 Caffeine이 자주 쓰지 않는 그룹부터 내보낸다)
+    private long subscriberCacheMaxGroups = 10_000;
+    // SSE 연결당 전송 대기 버퍼 (가득 차면 가장 오래된 묶음부터 버린다)
+    private int sseBufferSize = 16;
+    // SSE 연결 유지 시간
+    private Duration sseTimeout = Duration.ofMinutes(30);
+    // 사용자당 최대 SSE 연결 수 (초과 시 가장 오래된 연결을 닫는다)
+    private int maxConnectionsPerUser = 3;
+    // SSE 전송 스레드 수
+    private int senderThreads = 4;
+}
@@ -0,0 +1,28 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    // 해싱 스레드 수 (0이면 CPU 코어 수)
+    private int threads = 0;
+    // 대기열 크기 : 가득 차면 즉시 503
+    private int queueCapacity = 64;
+    // 대기 + 해싱 최대 시간
+    private Duration timeout = Duration.ofSeconds(2);
+
+    // 기동 시 BCrypt cost 보정 여부 (false면 strength 고정값 사용)
+    private boolean calibrate = true;
+    // 보정 목표 해싱 시간
+    private Duration targetLatency = Duration.ofMillis(100);
+    private int strength = 10;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+}
@@ -0,0 +1,27 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.photo-storage")
+public class PhotoStorageProperties {
+
+    // 저장 루트 디렉터리 (원본 : {root}/ab/cd/{sha256}, 썸네일 : {root}/thumbnails/ab/{sha256}.jpg)
+    private String rootDir = "./data/photos";
+    // 업로드 최대 크기
+    private DataSize maxSize = DataSize.ofMegabytes(10);
+    // 허용 Content-Type
+    private List<String> allowedContentTypes = List.of("image/jpeg", "image/png");
+    // 썸네일 긴 변 길이 (px)
+    private int thumbnailSize = 320;
+    // 썸네일을 만들 원본의 최대 픽셀 수 (가로 x 세로) : 넘으면 디코딩하지 않는다.
+    private long maxImagePixels = 50_000_000L;
+    // 스트리밍 버퍼 크기
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+}
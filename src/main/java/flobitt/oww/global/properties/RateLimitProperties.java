@@ -0,0 +1,47 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // 버킷 최대 개수 (스트라이프마다 maxEntries / stripes 개) : 넘으면 가득 찬(유휴) 버킷부터, 없으면 가장 먼저 다시 차는 버킷을 비운다.
+    private int maxEntries = 100_000;
+    // 스트라이프 수 (2의 거듭제곱으로 올림)
+    private int stripes = 64;
+    // 유휴 버킷 정리 주기
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    // 회원가입 : IP / 로그인 ID / 이메일
+    private Rule signupIp = new Rule(10, Duration.ofMinutes(1));
+    private Rule signupLoginId = new Rule(3, Duration.ofMinutes(1));
+    private Rule signupEmail = new Rule(3, Duration.ofMinutes(1));
+    // 인증 메일 재발송 : IP (이메일별 제한은 app.resend-limit-minutes 에 한 번)
+    private Rule resendIp = new Rule(5, Duration.ofMinutes(1));
+    // 이메일 인증 : IP (토큰 대입 방지)
+    private Rule verifyIp = new Rule(30, Duration.ofMinutes(1));
+
+    @Getter
+    @Setter
+    public static class Rule {
+        // 한 번에 허용하는 요청 수
+        private int capacity;
+        // 토큰 하나가 다시 채워지는 시간
+        private Duration period;
+
+        public Rule() {
+        }
+
+        public Rule(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.slow-query-log")
+public class SlowQueryLogProperties {
+
+    private boolean enabled = true;
+    // 이 시간 이상 걸린 SQL만 느린 쿼리로 본다.
+    private Duration threshold = Duration.ofMillis(200);
+    // 느린 쿼리 중 로그로 남길 비율 (0 ~ 1) : 메트릭은 모두 센다.
+    private double sampleRate = 1.0;
+    // 로그에 남길 SQL 최대 길이
+    private int maxSqlLength = 1000;
+}
@@ -0,0 +1,25 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.soft-delete-archive")
+public class SoftDeleteArchiveProperties {
+
+    private boolean enabled = true;
+    // 실행 주기 (기본 : 매일 새벽 4시 30분, 인증 정리 작업 이후)
+    private String cron = "0 30 4 * * *";
+    // 삭제(deleted_at) 후 원본 테이블에 남겨 두는 기간
+    private int retentionDays = 30;
+    // 한 번에 옮길 행 수 : INSERT ... SELECT + DELETE 가 한 트랜잭션이라 작게 유지한다.
+    private int batchSize = 500;
+    // 배치 사이 대기 시간
+    private Duration pause = Duration.ofMillis(200);
+    // 한 번 실행의 최대 시간 : 남은 행은 다음 실행에서 이어서 옮긴다.
+    private Duration maxRuntime = Duration.ofMinutes(10);
+}
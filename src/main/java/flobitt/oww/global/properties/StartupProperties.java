@@ -0,0 +1,17 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.startup")
+public class StartupProperties {
+
+    // 이 패키지의 빈은 처음 쓰일 때 만든다. (예 : org.springdoc)
+    private List<String> lazyPackages = new ArrayList<>();
+}
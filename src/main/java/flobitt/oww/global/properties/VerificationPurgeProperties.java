@@ -0,0 +1,25 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.verification-purge")
+public class VerificationPurgeProperties {
+
+    private boolean enabled = true;
+    // 실행 주기 (기본 : 매일 새벽 4시)
+    private String cron = "0 0 4 * * *";
+    // 만료/인증 후 보관 시간 (0이면 app.verification-token-expiry 시간만큼 보관)
+    private int retentionHours = 0;
+    // 한 번에 삭제할 행 수 : 작게 유지해야 잠금 시간과 복제 지연이 짧다.
+    private int batchSize = 500;
+    // 배치 사이 대기 시간
+    private Duration pause = Duration.ofMillis(200);
+    // 한 번 실행의 최대 시간 : 남은 행은 다음 실행에서 이어서 삭제
+    private Duration maxRuntime = Duration.ofMinutes(10);
+}
@@ -0,0 +1,27 @@
+package flobitt.oww.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.weekly-report")
+public class WeeklyReportProperties {
+
+    private boolean enabled = true;
+    // 실행 주기 (기본 : 매주 월요일 오전 9시, 지난주 리포트)
+    private String cron = "0 0 9 * * MON";
+    // 재시도 주기 (기본 : 월요일 10~18시 매시 정각) - 지난주 리포트를 아직 받지 못한 수신자에게만 다시 보낸다.
+    private String retryCron = "0 0 10-18 * * MON";
+    // 수신자별 발송 기록 보관 주 수
+    private int deliveryRetentionWeeks = 4;
+    // 한 번에 읽어 올 그룹 수 (group_id 키셋 페이지)
+    private int groupPageSize = 200;
+    // 로그 스트리밍 시 드라이버가 한 번에 가져올 행 수
+    private int fetchSize = 1000;
+    // 그룹 집계 병렬도 (0 : CPU 코어 수) - 동시에 커넥션을 이만큼 사용하므로 커넥션 풀보다 작게 유지
+    private int parallelism = 4;
+    // 메일 발송 배치 크기
+    private int mailBatchSize = 50;
+}
@@ -0,0 +1,72 @@
+package flobitt.oww.global.ratelimit;
+
+import flobitt.oww.global.exception.TooManyRequestsException;
+import flobitt.oww.global.properties.AppProperties;
+import flobitt.oww.global.properties.RateLimitProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 / 인증 메일 재발송 / 이메일 인증 요청 빈도 제한
+ * 컨트롤러에서 서비스 호출 전에 확인해서, 초과 요청은 BCrypt 해싱, DB 조회, SMTP 발송 없이 바로 429로 끝낸다.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketRateLimiter limiter;
+    private final boolean enabled;
+
+    private final RateLimitRule signupIp;
+    private final RateLimitRule signupLoginId;
+    private final RateLimitRule signupEmail;
+    private final RateLimitRule resendIp;
+    private final RateLimitRule resendEmail;
+    private final RateLimitRule verifyIp;
+
+    public AuthRateLimiter(TokenBucketRateLimiter limiter, RateLimitProperties properties, AppProperties appProperties) {
+        this.limiter = limiter;
+        this.enabled = properties.isEnabled();
+        this.signupIp = rule("signup-ip", properties.getSignupIp());
+        this.signupLoginId = rule("signup-login-id", properties.getSignupLoginId());
+        this.signupEmail = rule("signup-email", properties.getSignupEmail());
+        this.resendIp = rule("resend-ip", properties.getResendIp());
+        // 이메일별 재발송은 resend-limit-minutes 에 한 번
+        this.resendEmail = new RateLimitRule("resend-email", 1, Duration.ofMinutes(Math.max(1, appProperties.getResendLimitMinutes())));
+        this.verifyIp = rule("verify-ip", properties.getVerifyIp());
+    }
+
+    public void checkSignUp(String clientIp, String userLoginId, String email) {
+        check(signupIp, clientIp);
+        check(signupLoginId, normalize(userLoginId));
+        check(signupEmail, normalize(email));
+    }
+
+    public void checkResend(String clientIp, String email) {
+        check(resendIp, clientIp);
+        check(resendEmail, normalize(email));
+    }
+
+    public void checkVerifyEmail(String clientIp) {
+        check(verifyIp, clientIp);
+    }
+
+    private void check(RateLimitRule rule, String key) {
+        if (!enabled || key == null) return;
+        long waitNanos = limiter.tryAcquire(rule, key);
+        if (waitNanos > 0) {
+            long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new TooManyRequestsException("요청이 너무 많습니다. " + seconds + "초 후에 다시 시도해주세요.");
+        }
+    }
+
+    private RateLimitRule rule(String name, RateLimitProperties.Rule rule) {
+        return new RateLimitRule(name, rule.getCapacity(), rule.getPeriod());
+    }
+
+    private String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,17 @@
+package flobitt.oww.global.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 토큰 버킷 규칙
+ * @param name     규칙 이름 (버킷 키 접두어, 메트릭 태그)
+ * @param capacity 한 번에 허용하는 요청 수 (버킷 크기)
+ * @param period   토큰 하나가 다시 채워지는 시간
+ */
+public record RateLimitRule(String name, int capacity, Duration period) {
+
+    public RateLimitRule {
+        if (capacity < 1) throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + name);
+        if (period.isZero() || period.isNegative()) throw new IllegalArgumentException("period는 0보다 커야 합니다: " + name);
+    }
+}
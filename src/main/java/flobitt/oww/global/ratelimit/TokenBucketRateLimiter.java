@@ -0,0 +1,135 @@
+package flobitt.oww.global.ratelimit;
+
+import flobitt.oww.global.properties.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 토큰 버킷 (인스턴스 단위)
+ * 버킷 상태는 "버킷이 다시 가득 차는 시각"(TAT) long 하나로 표현하고 CAS로만 갱신한다. (GCRA, 버킷 크기 capacity / 토큰당 period)
+ *  - 요청마다 tat = max(tat, now) + period, tat - now 가 capacity * period 를 넘으면 거절
+ *  - tat <= now 인 버킷은 가득 찬 상태라 없는 버킷과 같으므로 언제든 지워도 된다. (유휴 정리)
+ * 키 공간은 스트라이프로 나누고 스트라이프마다 최대 개수를 두어 메모리를 제한한다.
+ * 유휴 버킷을 지워도 자리가 없으면 가장 먼저 다시 차는(TAT가 가장 이른) 버킷을 내보내고 새 키를 받는다.
+ * (가득 찬 스트라이프 때문에 처음 보는 사용자가 429를 받지 않도록, 내보낸 수는 ratelimit.evicted)
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private final Map<String, AtomicLong>[] stripes;
+    private final AtomicInteger[] sizes;
+    private final int mask;
+    private final int stripeCapacity;
+    private final MeterRegistry meterRegistry;
+    private final Counter evictedCounter;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        int count = Integer.highestOneBit(Math.max(1, properties.getStripes() - 1)) << 1;
+        this.stripes = new Map[count];
+        this.sizes = new AtomicInteger[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+            sizes[i] = new AtomicInteger();
+        }
+        this.mask = count - 1;
+        this.stripeCapacity = Math.max(1, properties.getMaxEntries() / count);
+        this.meterRegistry = meterRegistry;
+        this.evictedCounter = meterRegistry.counter("ratelimit.evicted");
+        meterRegistry.gauge("ratelimit.buckets", sizes, s -> {
+            long total = 0;
+            for (AtomicInteger size : s) total += size.get();
+            return total;
+        });
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 0이면 허용, 거절이면 다시 시도할 수 있을 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(RateLimitRule rule, String key) {
+        long now = System.nanoTime();
+        long period = rule.period().toNanos();
+        long tolerance = period * rule.capacity();
+
+        String bucketKey = rule.name() + ':' + key;
+        int index = spread(bucketKey.hashCode()) & mask;
+        AtomicLong bucket = stripes[index].get(bucketKey);
+        if (bucket == null) bucket = create(index, bucketKey, now);
+
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, now) + period;
+            long wait = next - now - tolerance;
+            if (wait > 0) return reject(rule, wait);
+            if (bucket.compareAndSet(tat, next)) return 0;
+        }
+    }
+
+    // 가득 찬 버킷 정리 (지우는 사이 다시 쓰인 버킷은 남긴다)
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval:1m}")
+    public void sweep() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (int i = 0; i < stripes.length; i++) removed += sweep(i, now);
+        if (removed > 0) log.debug("유휴 토큰 버킷 정리: {}개", removed);
+    }
+
+    private AtomicLong create(int index, String bucketKey, long now) {
+        if (sizes[index].get() >= stripeCapacity && sweep(index, now) == 0) evictOldest(index);
+
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = stripes[index].putIfAbsent(bucketKey, created);
+        if (existing != null) return existing;
+        sizes[index].incrementAndGet();
+        return created;
+    }
+
+    private int sweep(int index, long now) {
+        int removed = 0;
+        for (Map.Entry<String, AtomicLong> entry : stripes[index].entrySet()) {
+            long tat = entry.getValue().get();
+            if (tat - now <= 0 && stripes[index].remove(entry.getKey(), entry.getValue())) {
+                sizes[index].decrementAndGet();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    // 스트라이프 안에서 TAT가 가장 이른 버킷 하나를 내보낸다. (스트라이프 크기만큼 순회, 가득 찼을 때만)
+    private void evictOldest(int index) {
+        Map.Entry<String, AtomicLong> oldest = null;
+        long oldestTat = 0;
+        for (Map.Entry<String, AtomicLong> entry : stripes[index].entrySet()) {
+            long tat = entry.getValue().get();
+            if (oldest == null || tat - oldestTat < 0) {
+                oldest = entry;
+                oldestTat = tat;
+            }
+        }
+        if (oldest != null && stripes[index].remove(oldest.getKey(), oldest.getValue())) {
+            sizes[index].decrementAndGet();
+            evictedCounter.increment();
+        }
+    }
+
+    private long reject(RateLimitRule rule, long waitNanos) {
+        meterRegistry.counter("ratelimit.rejected", "rule", rule.name()).increment();
+        return waitNanos;
+    }
+
+    // 상위 비트를 섞어서 스트라이프가 고르게 나뉘도록 (ConcurrentHashMap.spread와 같은 방식)
+    private static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) & 0x7fffffff;
+    }
+}
@@ -0,0 +1,38 @@
+package flobitt.oww.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 장비에서 목표 해싱 시간에 가장 가까운 BCrypt cost를 찾는다.
+ * cost가 1 오를 때마다 계산량이 2배가 되므로 최소 cost만 측정하고 나머지는 계산으로 구한다.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(SAMPLE_PASSWORD); // warm-up
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLES; i++) encoder.encode(SAMPLE_PASSWORD);
+        double minStrengthNanos = (System.nanoTime() - start) / (double) SAMPLES;
+
+        int doublings = (int) Math.floor(Math.log(targetLatency.toNanos() / minStrengthNanos) / Math.log(2));
+        int strength = Math.max(minStrength, Math.min(maxStrength, minStrength + doublings));
+
+        log.info("BCrypt cost 보정 완료: strength={}, cost {} 측정값={}ms, 예상 해싱 시간={}ms (목표 {}ms)",
+                strength, minStrength, Math.round(minStrengthNanos / 1_000_000),
+                Math.round(minStrengthNanos * (1L << (strength - minStrength)) / 1_000_000),
+                targetLatency.toMillis());
+        return strength;
+    }
+}
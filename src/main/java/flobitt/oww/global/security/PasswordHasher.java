@@ -0,0 +1,87 @@
+package flobitt.oww.global.security;
+
+import flobitt.oww.global.exception.ServiceUnavailableException;
+import flobitt.oww.global.properties.PasswordHashingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * BCrypt 전용 실행기
+ * CPU 작업이므로 코어 수만큼만 스레드를 두고, 대기열이 가득 차면 기다리지 않고 503으로 거절한다.
+ * 요청 스레드는 해싱이 끝날 때까지 대기하지만 DB 커넥션은 잡고 있지 않다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer hashTimer;
+    private final Timer queueTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = meterRegistry.timer("password.hash.time");
+        this.queueTimer = meterRegistry.timer("password.hash.queue");
+        this.rejectedCounter = meterRegistry.counter("password.hash.rejected");
+        meterRegistry.gauge("password.hash.queue.size", executor, e -> e.getQueue().size());
+
+        log.info("Password Hasher 초기화 완료: threads={}, queueCapacity={}", threads, properties.getQueueCapacity());
+    }
+
+    public String encode(String rawPassword) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<String> future;
+        try {
+            future = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - enqueuedAt, NANOSECONDS);
+                return hashTimer.record(() -> passwordEncoder.encode(rawPassword));
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 암호화가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 암호화에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,157 @@
+package flobitt.oww.global.storage;
+
+import flobitt.oww.global.exception.FileTooLargeException;
+import flobitt.oww.global.properties.PhotoStorageProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 내용 주소 기반 로컬 파일 저장소
+ * 요청 본문을 고정 크기 버퍼로 임시 파일에 쓰면서 동시에 SHA-256을 계산하고,
+ * 다 쓰면 해시 경로로 옮긴다. 같은 내용은 한 번만 저장된다. (힙에 파일 전체를 올리지 않음)
+ */
+@Slf4j
+@Component
+public class ContentAddressedStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final String TMP_DIR = "tmp";
+    private static final String THUMBNAIL_DIR = "thumbnails";
+
+    private final Path root;
+    private final int bufferSize;
+
+    public ContentAddressedStore(PhotoStorageProperties properties) {
+        this.root = Path.of(properties.getRootDir()).toAbsolutePath().normalize();
+        this.bufferSize = (int) properties.getBufferSize().toBytes();
+        try {
+            Files.createDirectories(root.resolve(TMP_DIR));
+            Files.createDirectories(root.resolve(THUMBNAIL_DIR));
+        } catch (IOException e) {
+            throw new UncheckedIOException("사진 저장소 디렉터리 생성 실패: " + root, e);
+        }
+        log.info("사진 저장소 초기화 완료: {}", root);
+    }
+
+    /**
+     * @throws FileTooLargeException maxBytes를 넘으면 (임시 파일은 삭제)
+     */
+    public StoredFile store(InputStream in, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path tmp = Files.createTempFile(root.resolve(TMP_DIR), "upload-", ".part");
+        long size = 0;
+        try {
+            try (ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(tmp, WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxBytes) throw new FileTooLargeException(maxBytes);
+
+                    // 쓰기 전에 같은 바이트로 해시 갱신 (duplicate로 position 공유 없이 읽기)
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) target.write(buffer);
+                    buffer.clear();
+                }
+                target.force(false);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path path = pathOf(hash);
+            if (Files.exists(path)) {
+                Files.delete(tmp);
+                return new StoredFile(hash, size, false);
+            }
+
+            Files.createDirectories(path.getParent());
+            try {
+                Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용이 동시에 올라온 경우
+                Files.deleteIfExists(tmp);
+                return new StoredFile(hash, size, false);
+            }
+            return new StoredFile(hash, size, true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    public Optional<Path> find(String hash) {
+        if (!isValidHash(hash)) return Optional.empty();
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public Optional<Path> findThumbnail(String hash) {
+        if (!isValidHash(hash)) return Optional.empty();
+        Path path = thumbnailPathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public Path thumbnailPathOf(String hash) {
+        requireValidHash(hash);
+        return root.resolve(THUMBNAIL_DIR).resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+    }
+
+    // 썸네일 쓰기 : 임시 파일에 쓴 뒤 원자적으로 옮긴다. (읽는 쪽이 반쯤 쓴 파일을 보지 않도록)
+    public void writeThumbnail(String hash, ThumbnailWriter writer) throws IOException {
+        Path path = thumbnailPathOf(hash);
+        Files.createDirectories(path.getParent());
+        Path tmp = Files.createTempFile(root.resolve(TMP_DIR), "thumb-", ".part");
+        try {
+            try (var out = Files.newOutputStream(tmp, WRITE)) {
+                writer.write(out);
+            }
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH.matcher(hash).matches();
+    }
+
+    private Path pathOf(String hash) {
+        requireValidHash(hash);
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private void requireValidHash(String hash) {
+        if (!isValidHash(hash)) throw new IllegalArgumentException("잘못된 파일 해시입니다: " + hash);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThumbnailWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
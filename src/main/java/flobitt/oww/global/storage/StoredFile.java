@@ -0,0 +1,10 @@
+package flobitt.oww.global.storage;
+
+/**
+ * 저장 결과
+ * @param hash    SHA-256 (hex) : 파일 이름이자 ETag
+ * @param size    바이트 수
+ * @param created 새로 저장했으면 true, 같은 내용이 이미 있었으면 false
+ */
+public record StoredFile(String hash, long size, boolean created) {
+}
@@ -0,0 +1,113 @@
+package flobitt.oww.global.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 저장된 파일 응답 (단일 Range 지원)
+ * Tomcat이 sendfile을 지원하면 파일 경로만 넘겨서 커널이 직접 소켓으로 보내게 하고 (zero-copy),
+ * 아니면 FileChannel.transferTo로 응답 스트림에 바로 흘려보낸다. 어느 쪽도 힙 버퍼에 파일을 올리지 않는다.
+ * 파일 이름이 내용 해시라 내용이 바뀌지 않으므로 ETag = 해시, 캐시는 immutable. (대체 응답은 no-cache)
+ */
+@Component
+public class StoredFileResponder {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    // org.apache.catalina.Globals 상수
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE_CACHE = "public, max-age=31536000, immutable";
+    private static final String NO_CACHE = "no-cache";
+
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      Path path, String etag, String contentType, boolean immutable) throws IOException {
+        String quotedEtag = "\"" + etag + "\"";
+        response.setHeader(HttpHeaders.ETAG, quotedEtag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE_CACHE : NO_CACHE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (quotedEtag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = file.size();
+            long start = 0;
+            long end = length - 1;
+
+            String range = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            if (range != null && (ifRange == null || ifRange.equals(quotedEtag))) {
+                Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+                // 여러 구간 요청은 전체 응답 (RFC 9110 허용)
+                if (matcher.matches()) {
+                    long[] bounds = parseRange(matcher.group(1), matcher.group(2), length);
+                    if (bounds == null) {
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                        return;
+                    }
+                    start = bounds[0];
+                    end = bounds[1];
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            }
+
+            long count = length == 0 ? 0 : end - start + 1;
+            response.setContentType(contentType);
+            response.setContentLengthLong(count);
+            if ("HEAD".equals(request.getMethod()) || count == 0) return;
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // bytes=a-b, bytes=a-, bytes=-n (마지막 n바이트), 만족할 수 없으면 null
+    private long[] parseRange(String first, String last, long length) {
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) return null;
+                long suffix = Long.parseLong(last);
+                if (suffix == 0 || length == 0) return null;
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) return null;
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
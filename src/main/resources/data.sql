@@ -1,82 +1,113 @@
+DROP TABLE IF EXISTS `MEMBER_GOAL_HISTORY_ARCHIVE`;
+DROP TABLE IF EXISTS `GROUP_MEMBERS_ARCHIVE`;
+DROP TABLE IF EXISTS `GROUPS_ARCHIVE`;
+DROP TABLE IF EXISTS `USERS_ARCHIVE`;
+DROP TABLE IF EXISTS `WEEKLY_REPORT_DELIVERIES`;
+DROP TABLE IF EXISTS `MEMBER_STREAKS`;
 DROP TABLE IF EXISTS `MEMBER_GOAL_HISTORY`;
+DROP TABLE IF EXISTS `GROUP_DAILY_ACTIVITY`;
 DROP TABLE IF EXISTS `GROUP_WORKOUT_LOGS`;
 DROP TABLE IF EXISTS `GROUP_MEMBERS`;
 DROP TABLE IF EXISTS `NOTIFICATION_SETTINGS`;
 DROP TABLE IF EXISTS `WORKOUT_RECORDS`;
 DROP TABLE IF EXISTS `EMAIL_VERIFICATIONS`;
+DROP TABLE IF EXISTS `EMAIL_OUTBOX`;
 DROP TABLE IF EXISTS `GROUPS`;
 DROP TABLE IF EXISTS `USERS`;
 
 CREATE TABLE `USERS` (
-	`user_id`	        VARCHAR(36)	 NOT NULL    PRIMARY KEY,
+	`user_id`	        BINARY(16)	 NOT NULL    PRIMARY KEY,
 	`user_login_id`	    VARCHAR(50)	 NOT NULL    UNIQUE 	            COMMENT '로그인용 ID',
 	`email`	            VARCHAR(255) NOT NULL    UNIQUE 	            COMMENT '이메일',
 	`password`	        VARCHAR(255) NOT NULL	                        COMMENT '암호화된 비밀번호(필요하면 추후에 비밀번호 만료일자도 별도 테이블로 추가)',
 	`user_status`	    VARCHAR(20)	 NOT NULL	 DEFAULT 'NOT_VERIFIED'	COMMENT '계정 활성화 상태(ACTIVE, NOT_VERIFIED)',
 	`email_verified_at`	DATETIME	 NULL	                            COMMENT '이메일 인증 완료 시간',
+	`language`	        VARCHAR(8)	 NOT NULL    DEFAULT 'ko'	        COMMENT '메일 언어 (가입 요청의 Accept-Language)',
 	`is_deleted`	    BOOLEAN	     NOT NULL    DEFAULT FALSE,
     `deleted_at`	    DATETIME	 NULL,
 	`created_at`	    DATETIME	 NOT NULL,
 	`updated_at`	    DATETIME	 NOT NULL    DEFAULT CURRENT_TIMESTAMP,
     INDEX idx_user_login_id (user_login_id),
-    INDEX idx_is_deleted (is_deleted)
+    INDEX idx_is_deleted_deleted_at (is_deleted, deleted_at)
 ) ENGINE=InnoDB COMMENT='사용자 정보';
 
 CREATE TABLE `GROUPS` (
-	`group_id`       VARCHAR(36)    NOT NULL    PRIMARY KEY,
+	`group_id`       BINARY(16)     NOT NULL    PRIMARY KEY,
 	`group_name`     VARCHAR(100)   NOT NULL                                 COMMENT '그룹명',
 	`description`    TEXT           NULL                                     COMMENT '그룹 설명',
-	`invite_code`    VARCHAR(20)    NOT NULL                                 COMMENT '초대 코드',
+	`invite_code`    VARCHAR(20)    NOT NULL    UNIQUE                       COMMENT '초대 코드',
 	`max_members`    INT            NULL                                     COMMENT '최대 인원수 (NULL이면 제한 없음)',
+	`member_count`   INT            NOT NULL    DEFAULT 0                    COMMENT '현재 인원수 (조건부 UPDATE로 정원 확인)',
 	`created_at`     DATETIME       NOT NULL,
 	`updated_at`     DATETIME       NOT NULL    DEFAULT CURRENT_TIMESTAMP,
 	`is_deleted`     BOOLEAN        NOT NULL    DEFAULT FALSE,
     `deleted_at`	 DATETIME	    NULL,
-	`is_active`	     BOOLEAN        NOT NULL    DEFAULT TRUE                 COMMENT '그룹 활성화 상태'
+	`is_active`	     BOOLEAN        NOT NULL    DEFAULT TRUE                 COMMENT '그룹 활성화 상태',
+    INDEX idx_is_deleted_deleted_at (is_deleted, deleted_at)
 ) ENGINE=InnoDB COMMENT='그룹 정보';
 
 CREATE TABLE `EMAIL_VERIFICATIONS` (
-	`verification_id`       VARCHAR(36)     NOT NULL    PRIMARY KEY,
-	`verification_token`    VARCHAR(255)    NOT NULL	                    COMMENT '인증 토큰',
+	`verification_id`       BINARY(16)      NOT NULL    PRIMARY KEY,
+	`verification_token`    VARCHAR(512)    NOT NULL	                    COMMENT '인증 토큰 (JWT, kid 헤더 포함)',
 	`verification_type`     VARCHAR(20)     NOT NULL    DEFAULT 'SIGNUP'    COMMENT '인증 유형 : SIGNUP, PASSWORD_RESET, EMAIL_CHANGE',
 	`email`	                VARCHAR(255)    NOT NULL                        COMMENT '인증할 이메일',
 	`expires_at`	        DATETIME        NOT NULL	                    COMMENT '만료 시간',
 	`verified_at`	        DATETIME        NULL                            COMMENT '인증 완료 시간',
 	`created_at`	        DATETIME        NOT NULL,
 	`updated_at`      DATETIME    NOT NULL    DEFAULT CURRENT_TIMESTAMP,
-	`user_id`	            VARCHAR(36)     NOT NULL,
-	FOREIGN KEY (user_id) REFERENCES USERS(user_id)
+	`user_id`	            BINARY(16)      NOT NULL,
+	FOREIGN KEY (user_id) REFERENCES USERS(user_id),
+	UNIQUE KEY uk_verification_token (verification_token),
+	INDEX idx_user_id_verification_type (user_id, verification_type)
 ) ENGINE=InnoDB COMMENT='이메일 인증 (회원가입, 비밀번호 재설정 등)';
 
 
+CREATE TABLE `EMAIL_OUTBOX` (
+	`outbox_id`             BINARY(16)      NOT NULL    PRIMARY KEY,
+	`email`                 VARCHAR(255)    NOT NULL                        COMMENT '수신 이메일',
+	`verification_token`    VARCHAR(512)    NOT NULL                        COMMENT '인증 토큰 (JWT, kid 헤더 포함)',
+	`verification_type`     VARCHAR(20)     NOT NULL    DEFAULT 'SIGNUP'    COMMENT '인증 유형 : SIGNUP, PASSWORD_RESET, EMAIL_CHANGE',
+	`language`              VARCHAR(8)      NOT NULL    DEFAULT 'ko'        COMMENT '메일 언어',
+	`status`                VARCHAR(10)     NOT NULL    DEFAULT 'PENDING'   COMMENT '발송 상태(PENDING, SENDING, SENT, FAILED)',
+	`attempt_count`         INT             NOT NULL    DEFAULT 0           COMMENT '발송 시도 횟수',
+	`next_attempt_at`       DATETIME        NOT NULL                        COMMENT '다음 발송 시도 시간 (SENDING이면 점유 만료 시간)',
+	`last_error`            VARCHAR(500)    NULL                            COMMENT '마지막 발송 오류',
+	`sent_at`               DATETIME        NULL                            COMMENT '발송 완료 시간',
+	`created_at`            DATETIME        NOT NULL,
+	`updated_at`            DATETIME        NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_status_next_attempt_at (status, next_attempt_at)
+) ENGINE=InnoDB COMMENT='이메일 발송 아웃박스';
+
 CREATE TABLE `WORKOUT_RECORDS` (
-	`record_id`           VARCHAR(36)	  NOT NULL    PRIMARY KEY,
+	`record_id`           BINARY(16)	  NOT NULL    PRIMARY KEY,
 	`workout_date`        DATE	          NOT NULL                                 COMMENT '운동 날짜',
 	`workout_memo`        TEXT	          NULL	                                   COMMENT '운동 메모',
 	`image_url`           VARCHAR(500)    NULL	                                   COMMENT '운동 인증 사진 URL',
 	`duration_minutes`    INT             NULL                                     COMMENT '운동 시간 (분)',
 	`created_at`          DATETIME        NOT NULL,
 	`updated_at`          DATETIME        NOT NULL    DEFAULT CURRENT_TIMESTAMP,
-	`user_id`             VARCHAR(36)     NOT NULL,
+	`user_id`             BINARY(16)      NOT NULL,
 	FOREIGN KEY (user_id) REFERENCES USERS(user_id),
-	INDEX idx_workout_date (workout_date)
+	INDEX idx_workout_date (workout_date),
+	INDEX idx_user_id_workout_date_record_id (user_id, workout_date, record_id)
 ) ENGINE=InnoDB COMMENT='운동 기록';
 
 CREATE TABLE `NOTIFICATION_SETTINGS` (
-	`setting_id`              VARCHAR(36)    NOT NULL    PRIMARY KEY,
+	`setting_id`              BINARY(16)     NOT NULL    PRIMARY KEY,
 	`workout_reminder`        BOOLEAN        NOT NULL    DEFAULT FALSE                COMMENT '운동 리마인더(아직 없는 기능)',
 	`group_member_workout`    BOOLEAN        NOT NULL    DEFAULT TRUE                 COMMENT '그룹 멤버 운동 완료 알림',
-	`weekly_report`           BOOLEAN        NOT NULL    DEFAULT FALSE                COMMENT '주간 리포트(아직 없는 기능)',
+	`weekly_report`           BOOLEAN        NOT NULL    DEFAULT FALSE                COMMENT '주간 리포트 수신',
 	`created_at`              DATETIME       NOT NULL,
 	`updated_at`              DATETIME	     NOT NULL    DEFAULT CURRENT_TIMESTAMP,
-	`group_id`                VARCHAR(36)    NOT NULL                                 COMMENT '그룹별 알림 설정',
-	`user_id`                 VARCHAR(36)    NOT NULL,
+	`group_id`                BINARY(16)     NOT NULL                                 COMMENT '그룹별 알림 설정',
+	`user_id`                 BINARY(16)     NOT NULL,
 	FOREIGN KEY (user_id) REFERENCES USERS(user_id),
-	FOREIGN KEY (group_id) REFERENCES GROUPS(group_id)
+	FOREIGN KEY (group_id) REFERENCES GROUPS(group_id),
+	INDEX idx_group_id_weekly_report (group_id, weekly_report)
 ) ENGINE=InnoDB COMMENT='알림 설정';
 
 CREATE TABLE `GROUP_MEMBERS` (
-	`member_id`       VARCHAR(36)    NOT NULL    PRIMARY KEY,
+	`member_id`       BINARY(16)     NOT NULL    PRIMARY KEY,
 	`member_color`    VARCHAR(7)     NOT NULL                                  COMMENT '그룹 내 고유 색상 (#FF0000)',
 	`nickname`        VARCHAR(50)    NOT NULL                                  COMMENT '그룹 내 닉네임',
 	`role`            VARCHAR(10)    NOT NULL    DEFAULT 'MEMBER'              COMMENT '그룹 내 역할(MEMBER, OWNER, ADMIN)',
@@ -84,35 +115,137 @@ CREATE TABLE `GROUP_MEMBERS` (
 	`updated_at`      DATETIME       NOT NULL    DEFAULT CURRENT_TIMESTAMP,
 	`is_deleted`      BOOLEAN        NOT NULL    DEFAULT FALSE                 COMMENT '그룹 탈퇴 여부(탈퇴 시, 운동 기록 관리 필요)',
     `deleted_at`	  DATETIME	     NULL,
-	`group_id`        VARCHAR(36)    NOT NULL,
-	`user_id`         VARCHAR(36)    NOT NULL,
-	FOREIGN KEY (group_id) REFERENCES GROUPS(group_id),
+	`group_id`        BINARY(16)     NOT NULL,
+	`user_id`         BINARY(16)     NOT NULL,
+	`active_user_id`  BINARY(16)     AS (IF(is_deleted, NULL, user_id)) PERSISTENT COMMENT '탈퇴하지 않은 멤버만 user_id (그룹당 활성 멤버십 1개 보장용)',
+	-- group_id 는 FK를 걸지 않는다. FK 검사가 그룹 행에 공유 잠금을 걸어서 가입 트랜잭션끼리 reserveSeat(배타 잠금)에서 교착된다.
+	-- 삭제/비활성 그룹 가입은 reserveSeat 조건이 막고, 그룹 보관(archive)은 멤버가 남아 있으면 하지 않는다.
     FOREIGN KEY (user_id) REFERENCES USERS(user_id),
-    INDEX idx_is_deleted (is_deleted)
+    UNIQUE KEY uk_group_active_user (group_id, active_user_id),
+    INDEX idx_group_id_is_deleted (group_id, is_deleted),
+    INDEX idx_user_id_is_deleted_group_id (user_id, is_deleted, group_id),
+    INDEX idx_is_deleted_deleted_at (is_deleted, deleted_at)
 ) ENGINE=InnoDB COMMENT='그룹 구성원';
 
 
 CREATE TABLE `GROUP_WORKOUT_LOGS` (
-	`log_id`          VARCHAR(36)        NOT NULL    PRIMARY KEY,
-	`record_id`       VARCHAR(36)        NOT NULL,
+	`log_id`          BINARY(16)         NOT NULL    PRIMARY KEY,
+	`record_id`       BINARY(16)         NOT NULL,
 	`workout_date`    DATE               NOT NULL                    COMMENT '운동 날짜',
 	`created_at`      DATETIME           NOT NULL,
 	`updated_at`      DATETIME           NOT NULL    DEFAULT CURRENT_TIMESTAMP,
-	`group_id`        VARCHAR(36)        NOT NULL,
-	`user_id`         VARCHAR(36)        NOT NULL,
+	`group_id`        BINARY(16)         NOT NULL,
+	`user_id`         BINARY(16)         NOT NULL,
 	FOREIGN KEY (group_id) REFERENCES GROUPS(group_id),
     FOREIGN KEY (user_id) REFERENCES USERS(user_id),
     FOREIGN KEY (record_id) REFERENCES WORKOUT_RECORDS(record_id),
-    INDEX idx_workout_date (workout_date)
+    INDEX idx_workout_date (workout_date),
+    INDEX idx_group_id_workout_date_log_id (group_id, workout_date, log_id)
 ) ENGINE=InnoDB COMMENT='그룹별 운동 로그';
 
+CREATE TABLE `GROUP_DAILY_ACTIVITY` (
+	`group_id`        BINARY(16)    NOT NULL,
+	`activity_date`   DATE          NOT NULL                    COMMENT '운동 날짜',
+	`member_count`    INT           NOT NULL    DEFAULT 0       COMMENT '운동한 멤버 수',
+	`member_ids`      JSON          NOT NULL                    COMMENT '운동한 user_id 목록',
+	`created_at`      DATETIME      NOT NULL,
+	`updated_at`      DATETIME      NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	PRIMARY KEY (group_id, activity_date),
+	FOREIGN KEY (group_id) REFERENCES GROUPS(group_id)
+) ENGINE=InnoDB COMMENT='그룹별 일간 운동 현황 (캘린더 읽기 모델)';
+
 CREATE TABLE `MEMBER_GOAL_HISTORY` (
-	`goal_id`         VARCHAR(36) NOT NULL    PRIMARY KEY,
-	`workout_days`    JSON        NOT NULL                    COMMENT '목표 요일 설정 월, 수, 금',
+	`goal_id`         BINARY(16)  NOT NULL    PRIMARY KEY,
+	`workout_days`    TINYINT     NOT NULL                    COMMENT '목표 요일 비트마스크 (bit0=월 ... bit6=일, 월/수/금 = 21)',
 	`start_date`      DATE        NOT NULL                    COMMENT '목표 시작일',
 	`end_date`        DATE        NULL                        COMMENT '목표 종료일 (NULL이면 현재 진행중)',
 	`created_at`      DATETIME    NOT NULL,
 	`updated_at`      DATETIME    NOT NULL    DEFAULT CURRENT_TIMESTAMP,
-	`member_id`       VARCHAR(36) NOT NULL,
+	`member_id`       BINARY(16)  NOT NULL,
+	FOREIGN KEY (member_id) REFERENCES GROUP_MEMBERS(member_id),
+	INDEX idx_member_id_start_date (member_id, start_date)
+) ENGINE=InnoDB COMMENT='그룹원 개인 목표 이력';
+
+CREATE TABLE `MEMBER_STREAKS` (
+	`member_id`       BINARY(16)  NOT NULL    PRIMARY KEY,
+	`week_start`      DATE        NOT NULL                    COMMENT '진행 중인 주의 월요일',
+	`week_mask`       TINYINT     NOT NULL    DEFAULT 0       COMMENT '진행 중인 주에 운동한 요일 비트',
+	`week_history`    BIGINT      NOT NULL    DEFAULT 0       COMMENT '마감된 주 달성 여부 비트 (bit0=직전 주)',
+	`current_streak`  INT         NOT NULL    DEFAULT 0       COMMENT '연속 달성 주 수',
+	`longest_streak`  INT         NOT NULL    DEFAULT 0       COMMENT '최장 연속 달성 주 수',
+	`tracked_weeks`   INT         NOT NULL    DEFAULT 0       COMMENT '판정한 주 수',
+	`achieved_weeks`  INT         NOT NULL    DEFAULT 0       COMMENT '달성한 주 수',
+	`created_at`      DATETIME    NOT NULL,
+	`updated_at`      DATETIME    NOT NULL    DEFAULT CURRENT_TIMESTAMP,
 	FOREIGN KEY (member_id) REFERENCES GROUP_MEMBERS(member_id)
-) ENGINE=InnoDB COMMENT='그룹원 개인 목표 이력';
\ No newline at end of file
+) ENGINE=InnoDB COMMENT='그룹원 주간 목표 연속 달성 현황';
+
+-- 주간 리포트 수신자별 발송 기록 : 재실행/재시도 시 이미 받은 수신자는 건너뛴다. (보관 주 수가 지나면 삭제, 탈퇴 보관과 무관하게 FK 없음)
+CREATE TABLE `WEEKLY_REPORT_DELIVERIES` (
+	`week_start`    DATE        NOT NULL                    COMMENT '리포트 주의 월요일',
+	`group_id`      BINARY(16)  NOT NULL,
+	`user_id`       BINARY(16)  NOT NULL,
+	`sent_at`       DATETIME    NOT NULL                    COMMENT '발송 완료 시간',
+	PRIMARY KEY (week_start, group_id, user_id)
+) ENGINE=InnoDB COMMENT='주간 리포트 발송 기록';
+
+-- 보관 기간이 지난 soft delete 행을 옮겨 두는 테이블 (원본 테이블의 UNIQUE/FK 없이 archived_at만 추가)
+CREATE TABLE `USERS_ARCHIVE` (
+	`user_id`	        BINARY(16)	 NOT NULL    PRIMARY KEY,
+	`user_login_id`	    VARCHAR(50)	 NOT NULL,
+	`email`	            VARCHAR(255) NOT NULL,
+	`password`	        VARCHAR(255) NOT NULL,
+	`user_status`	    VARCHAR(20)	 NOT NULL,
+	`email_verified_at`	DATETIME	 NULL,
+	`language`	        VARCHAR(8)	 NOT NULL    DEFAULT 'ko',
+	`is_deleted`	    BOOLEAN	     NOT NULL,
+    `deleted_at`	    DATETIME	 NULL,
+	`created_at`	    DATETIME	 NOT NULL,
+	`updated_at`	    DATETIME	 NOT NULL,
+	`archived_at`	    DATETIME	 NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_archived_at (archived_at)
+) ENGINE=InnoDB COMMENT='탈퇴 사용자 보관';
+
+CREATE TABLE `GROUPS_ARCHIVE` (
+	`group_id`       BINARY(16)     NOT NULL    PRIMARY KEY,
+	`group_name`     VARCHAR(100)   NOT NULL,
+	`description`    TEXT           NULL,
+	`invite_code`    VARCHAR(20)    NOT NULL,
+	`max_members`    INT            NULL,
+	`member_count`   INT            NOT NULL,
+	`created_at`     DATETIME       NOT NULL,
+	`updated_at`     DATETIME       NOT NULL,
+	`is_deleted`     BOOLEAN        NOT NULL,
+    `deleted_at`	 DATETIME	    NULL,
+	`is_active`	     BOOLEAN        NOT NULL,
+	`archived_at`	 DATETIME	    NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_archived_at (archived_at)
+) ENGINE=InnoDB COMMENT='삭제된 그룹 보관';
+
+CREATE TABLE `GROUP_MEMBERS_ARCHIVE` (
+	`member_id`       BINARY(16)     NOT NULL    PRIMARY KEY,
+	`member_color`    VARCHAR(7)     NOT NULL,
+	`nickname`        VARCHAR(50)    NOT NULL,
+	`role`            VARCHAR(10)    NOT NULL,
+	`created_at`      DATETIME       NOT NULL,
+	`updated_at`      DATETIME       NOT NULL,
+	`is_deleted`      BOOLEAN        NOT NULL,
+    `deleted_at`	  DATETIME	     NULL,
+	`group_id`        BINARY(16)     NOT NULL,
+	`user_id`         BINARY(16)     NOT NULL,
+	`archived_at`	  DATETIME	     NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_user_id (user_id),
+	INDEX idx_group_id (group_id)
+) ENGINE=InnoDB COMMENT='탈퇴한 그룹 구성원 보관';
+
+CREATE TABLE `MEMBER_GOAL_HISTORY_ARCHIVE` (
+	`goal_id`         BINARY(16)  NOT NULL    PRIMARY KEY,
+	`workout_days`    TINYINT     NOT NULL,
+	`start_date`      DATE        NOT NULL,
+	`end_date`        DATE        NULL,
+	`created_at`      DATETIME    NOT NULL,
+	`updated_at`      DATETIME    NOT NULL,
+	`member_id`       BINARY(16)  NOT NULL,
+	`archived_at`	  DATETIME	  NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_member_id (member_id)
+) ENGINE=InnoDB COMMENT='탈퇴한 그룹 구성원의 목표 이력 보관';
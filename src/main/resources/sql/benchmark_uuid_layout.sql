@@ -0,0 +1,82 @@
+-- PK 레이아웃 비교 벤치마크 : VARCHAR(36) 랜덤 UUID vs BINARY(16) UUIDv7
+-- 사용법 : 빈 스키마에서 실행 후 각 CALL의 소요 시간과 마지막 SELECT의 인덱스 크기를 비교한다.
+-- GROUP_WORKOUT_LOGS와 동일한 형태(PK + FK 3개 + workout_date 인덱스)로 측정한다.
+-- UUID_V4() 함수를 사용하므로 MariaDB 11.7 이상에서 실행한다.
+
+DROP TABLE IF EXISTS `BENCH_LOGS_VARCHAR`;
+DROP TABLE IF EXISTS `BENCH_LOGS_BINARY`;
+DROP PROCEDURE IF EXISTS `bench_insert_varchar`;
+DROP PROCEDURE IF EXISTS `bench_insert_binary`;
+
+CREATE TABLE `BENCH_LOGS_VARCHAR` (
+	`log_id`          VARCHAR(36)    NOT NULL    PRIMARY KEY,
+	`record_id`       VARCHAR(36)    NOT NULL,
+	`workout_date`    DATE           NOT NULL,
+	`group_id`        VARCHAR(36)    NOT NULL,
+	`user_id`         VARCHAR(36)    NOT NULL,
+	INDEX idx_record_id (record_id),
+	INDEX idx_group_id (group_id),
+	INDEX idx_user_id (user_id),
+	INDEX idx_workout_date (workout_date)
+) ENGINE=InnoDB;
+
+CREATE TABLE `BENCH_LOGS_BINARY` (
+	`log_id`          BINARY(16)     NOT NULL    PRIMARY KEY,
+	`record_id`       BINARY(16)     NOT NULL,
+	`workout_date`    DATE           NOT NULL,
+	`group_id`        BINARY(16)     NOT NULL,
+	`user_id`         BINARY(16)     NOT NULL,
+	INDEX idx_record_id (record_id),
+	INDEX idx_group_id (group_id),
+	INDEX idx_user_id (user_id),
+	INDEX idx_workout_date (workout_date)
+) ENGINE=InnoDB;
+
+DELIMITER //
+
+CREATE PROCEDURE `bench_insert_varchar`(IN row_count INT)
+BEGIN
+    DECLARE i INT DEFAULT 0;
+    START TRANSACTION;
+    WHILE i < row_count DO
+        INSERT INTO `BENCH_LOGS_VARCHAR` VALUES (UUID_V4(), UUID_V4(), CURDATE() - INTERVAL (i MOD 365) DAY, UUID_V4(), UUID_V4());
+        SET i = i + 1;
+        IF i MOD 1000 = 0 THEN COMMIT; START TRANSACTION; END IF;
+    END WHILE;
+    COMMIT;
+END //
+
+-- UUIDv7 : 48비트 밀리초 타임스탬프 + 버전/변형 비트 + 랜덤 (증가하는 가상 시계 사용)
+CREATE PROCEDURE `bench_insert_binary`(IN row_count INT)
+BEGIN
+    DECLARE i INT DEFAULT 0;
+    DECLARE ts BIGINT DEFAULT FLOOR(UNIX_TIMESTAMP(NOW(3)) * 1000);
+    START TRANSACTION;
+    WHILE i < row_count DO
+        INSERT INTO `BENCH_LOGS_BINARY` VALUES (
+            UNHEX(CONCAT(LPAD(HEX(ts + i), 12, '0'), '7', SUBSTR(MD5(RAND()), 1, 3), '8', SUBSTR(MD5(RAND()), 1, 15))),
+            UNHEX(CONCAT(LPAD(HEX(ts + i), 12, '0'), '7', SUBSTR(MD5(RAND()), 1, 3), '8', SUBSTR(MD5(RAND()), 1, 15))),
+            CURDATE() - INTERVAL (i MOD 365) DAY,
+            UNHEX(REPLACE(UUID_V4(), '-', '')),
+            UNHEX(REPLACE(UUID_V4(), '-', '')));
+        SET i = i + 1;
+        IF i MOD 1000 = 0 THEN COMMIT; START TRANSACTION; END IF;
+    END WHILE;
+    COMMIT;
+END //
+
+DELIMITER ;
+
+-- 삽입 속도 : 두 CALL의 실행 시간을 비교 (rows/sec = row_count / 소요 시간)
+CALL bench_insert_varchar(500000);
+CALL bench_insert_binary(500000);
+
+-- 인덱스 크기 : 통계 갱신 후 PK(clustered)와 보조 인덱스 크기 비교
+ANALYZE TABLE `BENCH_LOGS_VARCHAR`, `BENCH_LOGS_BINARY`;
+
+SELECT table_name,
+       ROUND(data_length / 1024 / 1024, 2)  AS clustered_mb,
+       ROUND(index_length / 1024 / 1024, 2) AS secondary_index_mb
+FROM information_schema.tables
+WHERE table_schema = DATABASE()
+  AND table_name IN ('BENCH_LOGS_VARCHAR', 'BENCH_LOGS_BINARY');
@@ -0,0 +1,7 @@
+-- 이메일 인증 토큰 조회/갱신용 인덱스 추가
+-- uk_verification_token : 인증 링크 클릭 시 조건부 UPDATE가 토큰 한 건만 잠그도록
+-- idx_user_id_verification_type : 사용자별 인증 이력 조회 (user_id FK 인덱스 역할도 겸한다)
+
+ALTER TABLE `EMAIL_VERIFICATIONS`
+    ADD UNIQUE KEY uk_verification_token (verification_token),
+    ADD INDEX idx_user_id_verification_type (user_id, verification_type);
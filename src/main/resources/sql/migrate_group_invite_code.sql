@@ -0,0 +1,14 @@
+-- 초대 코드 가입
+-- uk_invite_code : 초대 링크 조회를 GROUPS 풀스캔 대신 유니크 인덱스 한 건 조회로
+-- member_count : 정원 확인을 COUNT(*) ... FOR UPDATE 대신 조건부 UPDATE 한 번으로
+-- idx_user_id_group_id : 중복 가입 확인 / 사용자별 그룹 조회
+
+ALTER TABLE `GROUPS`
+    ADD UNIQUE KEY uk_invite_code (invite_code),
+    ADD COLUMN `member_count` INT NOT NULL DEFAULT 0 COMMENT '현재 인원수 (조건부 UPDATE로 정원 확인)' AFTER `max_members`;
+
+UPDATE `GROUPS` g
+   SET g.member_count = (SELECT COUNT(*) FROM `GROUP_MEMBERS` m WHERE m.group_id = g.group_id AND m.is_deleted = FALSE);
+
+ALTER TABLE `GROUP_MEMBERS`
+    ADD INDEX idx_user_id_group_id (user_id, group_id);
@@ -0,0 +1,21 @@
+-- 그룹 가입 : 중복 가입 확인을 잠금 조회 대신 유니크 키로
+-- active_user_id : 탈퇴하지 않은 멤버만 user_id, 탈퇴하면 NULL (NULL은 유니크 검사에서 제외되므로 재가입 가능)
+-- uk_group_active_user : 그룹당 활성 멤버십 1개 (동시에 들어온 같은 사용자의 가입은 INSERT 시점에 duplicate key)
+-- group_id FK 제거 : FK 검사의 그룹 행 공유 잠금과 reserveSeat의 배타 잠금이 가입 트랜잭션끼리 교착을 만든다.
+
+-- 1. 이미 중복된 활성 멤버십이 있으면 유니크 키 추가가 실패하므로 먼저 확인해서 정리한다. (결과가 없어야 한다)
+SELECT group_id, user_id, COUNT(*)
+  FROM `GROUP_MEMBERS`
+ WHERE is_deleted = FALSE
+ GROUP BY group_id, user_id
+HAVING COUNT(*) > 1;
+
+-- 2. 활성 멤버십 유니크 키
+ALTER TABLE `GROUP_MEMBERS`
+    ADD COLUMN `active_user_id` BINARY(16) AS (IF(is_deleted, NULL, user_id)) PERSISTENT
+        COMMENT '탈퇴하지 않은 멤버만 user_id (그룹당 활성 멤버십 1개 보장용)' AFTER `user_id`,
+    ADD UNIQUE KEY uk_group_active_user (group_id, active_user_id);
+
+-- 3. group_id FK 제거 (이름은 SHOW CREATE TABLE GROUP_MEMBERS 로 확인, 이름 없이 만든 경우 기본값)
+ALTER TABLE `GROUP_MEMBERS`
+    DROP FOREIGN KEY `GROUP_MEMBERS_ibfk_1`;
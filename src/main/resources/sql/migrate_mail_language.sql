@@ -0,0 +1,12 @@
+-- 인증 메일을 가입 요청 언어(Accept-Language)로 보내기 위해 사용자/아웃박스에 언어를 저장한다.
+-- 기존 행은 지금까지 보내던 한국어로 채워진다.
+
+ALTER TABLE `USERS`
+    ADD COLUMN `language` VARCHAR(8) NOT NULL DEFAULT 'ko' COMMENT '메일 언어 (가입 요청의 Accept-Language)' AFTER `email_verified_at`;
+
+ALTER TABLE `EMAIL_OUTBOX`
+    ADD COLUMN `language` VARCHAR(8) NOT NULL DEFAULT 'ko' COMMENT '메일 언어' AFTER `verification_type`;
+
+-- 탈퇴 사용자 보관 테이블도 같은 컬럼을 유지한다. (SoftDeleteArchiveRepository.archiveUsers)
+ALTER TABLE `USERS_ARCHIVE`
+    ADD COLUMN `language` VARCHAR(8) NOT NULL DEFAULT 'ko' AFTER `email_verified_at`;
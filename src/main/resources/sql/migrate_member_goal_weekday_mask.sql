@@ -0,0 +1,34 @@
+-- MEMBER_GOAL_HISTORY.workout_days : JSON 요일 배열 -> 7비트 요일 마스크 (bit0=월 ... bit6=일)
+-- 영문(MONDAY/MON), 한글(월) 표기를 모두 처리한다.
+-- 변환 후 MEMBER_STREAKS는 애플리케이션의 MemberStreakService.rebuild(memberId)로 채운다.
+
+ALTER TABLE `MEMBER_GOAL_HISTORY` ADD COLUMN `workout_day_mask` TINYINT NOT NULL DEFAULT 0 AFTER `workout_days`;
+
+UPDATE `MEMBER_GOAL_HISTORY`
+   SET workout_day_mask =
+         IF(JSON_CONTAINS(workout_days, '"MONDAY"') OR JSON_CONTAINS(workout_days, '"MON"') OR JSON_CONTAINS(workout_days, '"월"'), 1, 0)
+       | IF(JSON_CONTAINS(workout_days, '"TUESDAY"') OR JSON_CONTAINS(workout_days, '"TUE"') OR JSON_CONTAINS(workout_days, '"화"'), 2, 0)
+       | IF(JSON_CONTAINS(workout_days, '"WEDNESDAY"') OR JSON_CONTAINS(workout_days, '"WED"') OR JSON_CONTAINS(workout_days, '"수"'), 4, 0)
+       | IF(JSON_CONTAINS(workout_days, '"THURSDAY"') OR JSON_CONTAINS(workout_days, '"THU"') OR JSON_CONTAINS(workout_days, '"목"'), 8, 0)
+       | IF(JSON_CONTAINS(workout_days, '"FRIDAY"') OR JSON_CONTAINS(workout_days, '"FRI"') OR JSON_CONTAINS(workout_days, '"금"'), 16, 0)
+       | IF(JSON_CONTAINS(workout_days, '"SATURDAY"') OR JSON_CONTAINS(workout_days, '"SAT"') OR JSON_CONTAINS(workout_days, '"토"'), 32, 0)
+       | IF(JSON_CONTAINS(workout_days, '"SUNDAY"') OR JSON_CONTAINS(workout_days, '"SUN"') OR JSON_CONTAINS(workout_days, '"일"'), 64, 0);
+
+ALTER TABLE `MEMBER_GOAL_HISTORY`
+    DROP COLUMN `workout_days`,
+    RENAME COLUMN `workout_day_mask` TO `workout_days`,
+    ADD INDEX idx_member_id_start_date (member_id, start_date);
+
+CREATE TABLE IF NOT EXISTS `MEMBER_STREAKS` (
+	`member_id`       BINARY(16)  NOT NULL    PRIMARY KEY,
+	`week_start`      DATE        NOT NULL,
+	`week_mask`       TINYINT     NOT NULL    DEFAULT 0,
+	`week_history`    BIGINT      NOT NULL    DEFAULT 0,
+	`current_streak`  INT         NOT NULL    DEFAULT 0,
+	`longest_streak`  INT         NOT NULL    DEFAULT 0,
+	`tracked_weeks`   INT         NOT NULL    DEFAULT 0,
+	`achieved_weeks`  INT         NOT NULL    DEFAULT 0,
+	`created_at`      DATETIME    NOT NULL,
+	`updated_at`      DATETIME    NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	FOREIGN KEY (member_id) REFERENCES GROUP_MEMBERS(member_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,81 @@
+-- soft delete 조회/보관
+-- idx_is_deleted : 카디널리티가 2인 단독 인덱스라 옵티마이저가 쓰지 않으므로 제거
+-- idx_group_id_is_deleted / idx_user_id_is_deleted_group_id : 실제 조회 키를 앞에 두고 is_deleted로 좁힌다. (idx_user_id_group_id 대체)
+-- idx_is_deleted_deleted_at : 보관 작업이 is_deleted = TRUE AND deleted_at < cutoff 범위만 읽도록
+-- FK가 쓰는 인덱스를 먼저 추가한 뒤 기존 인덱스를 제거한다.
+
+ALTER TABLE `USERS`
+    ADD INDEX idx_is_deleted_deleted_at (is_deleted, deleted_at),
+    DROP INDEX idx_is_deleted;
+
+ALTER TABLE `GROUPS`
+    ADD INDEX idx_is_deleted_deleted_at (is_deleted, deleted_at);
+
+ALTER TABLE `GROUP_MEMBERS`
+    ADD INDEX idx_group_id_is_deleted (group_id, is_deleted),
+    ADD INDEX idx_user_id_is_deleted_group_id (user_id, is_deleted, group_id),
+    ADD INDEX idx_is_deleted_deleted_at (is_deleted, deleted_at);
+
+ALTER TABLE `GROUP_MEMBERS`
+    DROP INDEX idx_is_deleted,
+    DROP INDEX idx_user_id_group_id;
+
+-- 보관 기간이 지난 soft delete 행을 옮겨 두는 테이블 (원본 테이블의 UNIQUE/FK 없이 archived_at만 추가)
+CREATE TABLE `USERS_ARCHIVE` (
+	`user_id`	        BINARY(16)	 NOT NULL    PRIMARY KEY,
+	`user_login_id`	    VARCHAR(50)	 NOT NULL,
+	`email`	            VARCHAR(255) NOT NULL,
+	`password`	        VARCHAR(255) NOT NULL,
+	`user_status`	    VARCHAR(20)	 NOT NULL,
+	`email_verified_at`	DATETIME	 NULL,
+	`is_deleted`	    BOOLEAN	     NOT NULL,
+    `deleted_at`	    DATETIME	 NULL,
+	`created_at`	    DATETIME	 NOT NULL,
+	`updated_at`	    DATETIME	 NOT NULL,
+	`archived_at`	    DATETIME	 NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_archived_at (archived_at)
+) ENGINE=InnoDB COMMENT='탈퇴 사용자 보관';
+
+CREATE TABLE `GROUPS_ARCHIVE` (
+	`group_id`       BINARY(16)     NOT NULL    PRIMARY KEY,
+	`group_name`     VARCHAR(100)   NOT NULL,
+	`description`    TEXT           NULL,
+	`invite_code`    VARCHAR(20)    NOT NULL,
+	`max_members`    INT            NULL,
+	`member_count`   INT            NOT NULL,
+	`created_at`     DATETIME       NOT NULL,
+	`updated_at`     DATETIME       NOT NULL,
+	`is_deleted`     BOOLEAN        NOT NULL,
+    `deleted_at`	 DATETIME	    NULL,
+	`is_active`	     BOOLEAN        NOT NULL,
+	`archived_at`	 DATETIME	    NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_archived_at (archived_at)
+) ENGINE=InnoDB COMMENT='삭제된 그룹 보관';
+
+CREATE TABLE `GROUP_MEMBERS_ARCHIVE` (
+	`member_id`       BINARY(16)     NOT NULL    PRIMARY KEY,
+	`member_color`    VARCHAR(7)     NOT NULL,
+	`nickname`        VARCHAR(50)    NOT NULL,
+	`role`            VARCHAR(10)    NOT NULL,
+	`created_at`      DATETIME       NOT NULL,
+	`updated_at`      DATETIME       NOT NULL,
+	`is_deleted`      BOOLEAN        NOT NULL,
+    `deleted_at`	  DATETIME	     NULL,
+	`group_id`        BINARY(16)     NOT NULL,
+	`user_id`         BINARY(16)     NOT NULL,
+	`archived_at`	  DATETIME	     NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_user_id (user_id),
+	INDEX idx_group_id (group_id)
+) ENGINE=InnoDB COMMENT='탈퇴한 그룹 구성원 보관';
+
+CREATE TABLE `MEMBER_GOAL_HISTORY_ARCHIVE` (
+	`goal_id`         BINARY(16)  NOT NULL    PRIMARY KEY,
+	`workout_days`    TINYINT     NOT NULL,
+	`start_date`      DATE        NOT NULL,
+	`end_date`        DATE        NULL,
+	`created_at`      DATETIME    NOT NULL,
+	`updated_at`      DATETIME    NOT NULL,
+	`member_id`       BINARY(16)  NOT NULL,
+	`archived_at`	  DATETIME	  NOT NULL    DEFAULT CURRENT_TIMESTAMP,
+	INDEX idx_member_id (member_id)
+) ENGINE=InnoDB COMMENT='탈퇴한 그룹 구성원의 목표 이력 보관';
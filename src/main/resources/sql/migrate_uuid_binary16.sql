@@ -0,0 +1,45 @@
+-- VARCHAR(36) UUID 문자열 PK/FK를 BINARY(16)으로 변환하는 마이그레이션
+-- 1. FK 제거 -> 2. VARBINARY로 바꿔 바이트 보존 -> 3. UNHEX로 16바이트 변환 -> 4. BINARY(16) 확정 -> 5. FK 재생성
+-- 기존 행은 v4(랜덤) 값을 그대로 유지하고, 이후 생성되는 행부터 UUIDv7(시간순)이 사용된다.
+-- FK 이름은 MariaDB 기본 규칙(<테이블>_ibfk_N) 기준이므로 SHOW CREATE TABLE로 먼저 확인할 것.
+
+ALTER TABLE `EMAIL_VERIFICATIONS`   DROP FOREIGN KEY `EMAIL_VERIFICATIONS_ibfk_1`;
+ALTER TABLE `WORKOUT_RECORDS`       DROP FOREIGN KEY `WORKOUT_RECORDS_ibfk_1`;
+ALTER TABLE `NOTIFICATION_SETTINGS` DROP FOREIGN KEY `NOTIFICATION_SETTINGS_ibfk_1`, DROP FOREIGN KEY `NOTIFICATION_SETTINGS_ibfk_2`;
+ALTER TABLE `GROUP_MEMBERS`         DROP FOREIGN KEY `GROUP_MEMBERS_ibfk_1`, DROP FOREIGN KEY `GROUP_MEMBERS_ibfk_2`;
+ALTER TABLE `GROUP_WORKOUT_LOGS`    DROP FOREIGN KEY `GROUP_WORKOUT_LOGS_ibfk_1`, DROP FOREIGN KEY `GROUP_WORKOUT_LOGS_ibfk_2`, DROP FOREIGN KEY `GROUP_WORKOUT_LOGS_ibfk_3`;
+ALTER TABLE `MEMBER_GOAL_HISTORY`   DROP FOREIGN KEY `MEMBER_GOAL_HISTORY_ibfk_1`;
+
+ALTER TABLE `USERS`                 MODIFY `user_id` VARBINARY(36) NOT NULL;
+ALTER TABLE `GROUPS`                MODIFY `group_id` VARBINARY(36) NOT NULL;
+ALTER TABLE `EMAIL_VERIFICATIONS`   MODIFY `verification_id` VARBINARY(36) NOT NULL, MODIFY `user_id` VARBINARY(36) NOT NULL;
+ALTER TABLE `WORKOUT_RECORDS`       MODIFY `record_id` VARBINARY(36) NOT NULL, MODIFY `user_id` VARBINARY(36) NOT NULL;
+ALTER TABLE `NOTIFICATION_SETTINGS` MODIFY `setting_id` VARBINARY(36) NOT NULL, MODIFY `group_id` VARBINARY(36) NOT NULL, MODIFY `user_id` VARBINARY(36) NOT NULL;
+ALTER TABLE `GROUP_MEMBERS`         MODIFY `member_id` VARBINARY(36) NOT NULL, MODIFY `group_id` VARBINARY(36) NOT NULL, MODIFY `user_id` VARBINARY(36) NOT NULL;
+ALTER TABLE `GROUP_WORKOUT_LOGS`    MODIFY `log_id` VARBINARY(36) NOT NULL, MODIFY `record_id` VARBINARY(36) NOT NULL, MODIFY `group_id` VARBINARY(36) NOT NULL, MODIFY `user_id` VARBINARY(36) NOT NULL;
+ALTER TABLE `MEMBER_GOAL_HISTORY`   MODIFY `goal_id` VARBINARY(36) NOT NULL, MODIFY `member_id` VARBINARY(36) NOT NULL;
+
+UPDATE `USERS`                 SET `user_id` = UNHEX(REPLACE(`user_id`, '-', ''));
+UPDATE `GROUPS`                SET `group_id` = UNHEX(REPLACE(`group_id`, '-', ''));
+UPDATE `EMAIL_VERIFICATIONS`   SET `verification_id` = UNHEX(REPLACE(`verification_id`, '-', '')), `user_id` = UNHEX(REPLACE(`user_id`, '-', ''));
+UPDATE `WORKOUT_RECORDS`       SET `record_id` = UNHEX(REPLACE(`record_id`, '-', '')), `user_id` = UNHEX(REPLACE(`user_id`, '-', ''));
+UPDATE `NOTIFICATION_SETTINGS` SET `setting_id` = UNHEX(REPLACE(`setting_id`, '-', '')), `group_id` = UNHEX(REPLACE(`group_id`, '-', '')), `user_id` = UNHEX(REPLACE(`user_id`, '-', ''));
+UPDATE `GROUP_MEMBERS`         SET `member_id` = UNHEX(REPLACE(`member_id`, '-', '')), `group_id` = UNHEX(REPLACE(`group_id`, '-', '')), `user_id` = UNHEX(REPLACE(`user_id`, '-', ''));
+UPDATE `GROUP_WORKOUT_LOGS`    SET `log_id` = UNHEX(REPLACE(`log_id`, '-', '')), `record_id` = UNHEX(REPLACE(`record_id`, '-', '')), `group_id` = UNHEX(REPLACE(`group_id`, '-', '')), `user_id` = UNHEX(REPLACE(`user_id`, '-', ''));
+UPDATE `MEMBER_GOAL_HISTORY`   SET `goal_id` = UNHEX(REPLACE(`goal_id`, '-', '')), `member_id` = UNHEX(REPLACE(`member_id`, '-', ''));
+
+ALTER TABLE `USERS`                 MODIFY `user_id` BINARY(16) NOT NULL;
+ALTER TABLE `GROUPS`                MODIFY `group_id` BINARY(16) NOT NULL;
+ALTER TABLE `EMAIL_VERIFICATIONS`   MODIFY `verification_id` BINARY(16) NOT NULL, MODIFY `user_id` BINARY(16) NOT NULL;
+ALTER TABLE `WORKOUT_RECORDS`       MODIFY `record_id` BINARY(16) NOT NULL, MODIFY `user_id` BINARY(16) NOT NULL;
+ALTER TABLE `NOTIFICATION_SETTINGS` MODIFY `setting_id` BINARY(16) NOT NULL, MODIFY `group_id` BINARY(16) NOT NULL, MODIFY `user_id` BINARY(16) NOT NULL;
+ALTER TABLE `GROUP_MEMBERS`         MODIFY `member_id` BINARY(16) NOT NULL, MODIFY `group_id` BINARY(16) NOT NULL, MODIFY `user_id` BINARY(16) NOT NULL;
+ALTER TABLE `GROUP_WORKOUT_LOGS`    MODIFY `log_id` BINARY(16) NOT NULL, MODIFY `record_id` BINARY(16) NOT NULL, MODIFY `group_id` BINARY(16) NOT NULL, MODIFY `user_id` BINARY(16) NOT NULL;
+ALTER TABLE `MEMBER_GOAL_HISTORY`   MODIFY `goal_id` BINARY(16) NOT NULL, MODIFY `member_id` BINARY(16) NOT NULL;
+
+ALTER TABLE `EMAIL_VERIFICATIONS`   ADD FOREIGN KEY (user_id) REFERENCES USERS(user_id);
+ALTER TABLE `WORKOUT_RECORDS`       ADD FOREIGN KEY (user_id) REFERENCES USERS(user_id);
+ALTER TABLE `NOTIFICATION_SETTINGS` ADD FOREIGN KEY (user_id) REFERENCES USERS(user_id), ADD FOREIGN KEY (group_id) REFERENCES GROUPS(group_id);
+ALTER TABLE `GROUP_MEMBERS`         ADD FOREIGN KEY (group_id) REFERENCES GROUPS(group_id), ADD FOREIGN KEY (user_id) REFERENCES USERS(user_id);
+ALTER TABLE `GROUP_WORKOUT_LOGS`    ADD FOREIGN KEY (group_id) REFERENCES GROUPS(group_id), ADD FOREIGN KEY (user_id) REFERENCES USERS(user_id), ADD FOREIGN KEY (record_id) REFERENCES WORKOUT_RECORDS(record_id);
+ALTER TABLE `MEMBER_GOAL_HISTORY`   ADD FOREIGN KEY (member_id) REFERENCES GROUP_MEMBERS(member_id);
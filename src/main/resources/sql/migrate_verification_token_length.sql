@@ -0,0 +1,8 @@
+-- 인증 토큰(JWT)에 kid 헤더가 붙으면서 255자를 넘을 수 있어 컬럼을 늘린다.
+-- utf8mb4 기준 512 * 4 = 2048 bytes 로 InnoDB(DYNAMIC) 인덱스 키 한도(3072 bytes) 안이다.
+
+ALTER TABLE `EMAIL_VERIFICATIONS`
+    MODIFY `verification_token` VARCHAR(512) NOT NULL COMMENT '인증 토큰 (JWT, kid 헤더 포함)';
+
+ALTER TABLE `EMAIL_OUTBOX`
+    MODIFY `verification_token` VARCHAR(512) NOT NULL COMMENT '인증 토큰 (JWT, kid 헤더 포함)';
@@ -0,0 +1,11 @@
+-- 주간 리포트 수신자별 발송 기록
+-- 재실행/재시도 시 이미 받은 수신자를 건너뛰어서 같은 주 리포트를 두 번 보내지 않는다.
+-- PK (week_start, group_id, user_id) : 수신자 제외 조회(NOT EXISTS)와 보관 기간 삭제(week_start 범위)를 함께 지원
+
+CREATE TABLE `WEEKLY_REPORT_DELIVERIES` (
+	`week_start`    DATE        NOT NULL                    COMMENT '리포트 주의 월요일',
+	`group_id`      BINARY(16)  NOT NULL,
+	`user_id`       BINARY(16)  NOT NULL,
+	`sent_at`       DATETIME    NOT NULL                    COMMENT '발송 완료 시간',
+	PRIMARY KEY (week_start, group_id, user_id)
+) ENGINE=InnoDB COMMENT='주간 리포트 발송 기록';
@@ -0,0 +1,9 @@
+-- 주간 리포트 조회용 인덱스
+-- idx_group_id_workout_date : 그룹 한 주치 로그를 인덱스 범위 스캔으로 스트리밍
+-- idx_group_id_weekly_report : 리포트 대상 그룹 키셋 조회 / 그룹별 수신자 조회
+
+ALTER TABLE `GROUP_WORKOUT_LOGS`
+    ADD INDEX idx_group_id_workout_date (group_id, workout_date);
+
+ALTER TABLE `NOTIFICATION_SETTINGS`
+    ADD INDEX idx_group_id_weekly_report (group_id, weekly_report);
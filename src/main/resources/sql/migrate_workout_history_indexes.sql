@@ -0,0 +1,10 @@
+-- 운동 기록/그룹 피드 키셋 페이지네이션 인덱스
+-- ORDER BY workout_date DESC, id DESC + (workout_date, id) < (?, ?) 조건을 인덱스 범위 스캔 한 번으로 처리한다.
+-- idx_group_id_workout_date_log_id 는 주간 리포트/캘린더 재집계용 (group_id, workout_date) 인덱스를 대체한다.
+
+ALTER TABLE `WORKOUT_RECORDS`
+    ADD INDEX idx_user_id_workout_date_record_id (user_id, workout_date, record_id);
+
+ALTER TABLE `GROUP_WORKOUT_LOGS`
+    ADD INDEX idx_group_id_workout_date_log_id (group_id, workout_date, log_id),
+    DROP INDEX idx_group_id_workout_date;
@@ -0,0 +1,100 @@
+package flobitt.oww;
+
+import flobitt.oww.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Driver;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fast-start 프로필 기동 시간 (./gradlew startupTest)
+ * SpringApplication.run 시작부터 첫 요청(GET /users/availability) 응답까지 걸린 시간이 기준 안인지 확인한다.
+ * 내장 MariaDB 기동과 스키마 생성은 측정 전에 끝내 둔다. (fast-start는 스키마를 검증하지 않으므로 테이블이 미리 있어야 한다)
+ * CDS/AOT 없이 클래스패스로 실행하므로 프로필 설정(스키마 검증 생략, Swagger 지연 생성 등)의 효과만 본다.
+ * 결과는 로그와 build/reports/startup/startup.txt 에 남긴다. 기준은 -Dstartup.maxMillis 로 조정한다.
+ */
+@Tag("startup")
+class StartupTimeTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeTest.class);
+
+    private static final long MAX_MILLIS = Long.getLong("startup.maxMillis", 15_000);
+    private static final Path REPORT = Path.of(System.getProperty("startup.reportDir", "build/reports/startup"), "startup.txt");
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        Map<String, String> datasource = EmbeddedMariaDb.properties();
+        createSchema(datasource);
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OwwApplication.class)
+                .profiles("fast-start")
+                .run(args(datasource))) {
+            long startedNanos = System.nanoTime() - start;
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                            + "/users/availability?userLoginId=startup&email=startup@oww.local")).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            long firstRequestNanos = System.nanoTime() - start;
+
+            String report = String.join(System.lineSeparator(),
+                    String.format("context started : %,d ms", TimeUnit.NANOSECONDS.toMillis(startedNanos)),
+                    String.format("first response  : %,d ms (limit %,d ms)", TimeUnit.NANOSECONDS.toMillis(firstRequestNanos), MAX_MILLIS));
+            log.info("\n{}", report);
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, report);
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(firstRequestNanos)).isLessThanOrEqualTo(MAX_MILLIS);
+        }
+    }
+
+    // 명령행 인자로 넘겨야 application.yml 의 값(관리 포트, 메일 서버 등)보다 우선한다.
+    private String[] args(Map<String, String> datasource) {
+        Map<String, String> properties = new LinkedHashMap<>(datasource);
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("spring.mail.host", "localhost");
+        properties.put("FRONTEND_URL", "http://localhost:3000");
+        properties.put("MAIL_USERNAME", "startup@oww.local");
+        properties.put("MAIL_PASSWORD", "test");
+        properties.put("jwt.verification-key", "startup-test-verification-key-0123456789abcdef");
+        properties.put("app.photo-storage.root-dir", "build/startup-test/photos");
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+        return args.toArray(String[]::new);
+    }
+
+    private void createSchema(Map<String, String> datasource) throws Exception {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(
+                (Driver) Class.forName(datasource.get("spring.datasource.driver-class-name")).getDeclaredConstructor().newInstance(),
+                datasource.get("spring.datasource.url"),
+                datasource.get("spring.datasource.username"),
+                datasource.get("spring.datasource.password"));
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("data.sql"));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(dataSource);
+    }
+}
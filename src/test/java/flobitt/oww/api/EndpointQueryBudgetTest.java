@@ -0,0 +1,374 @@
+package flobitt.oww.api;
+
+import flobitt.oww.domain.group.entity.Group;
+import flobitt.oww.domain.group.entity.GroupMember;
+import flobitt.oww.domain.group.entity.MemberRole;
+import flobitt.oww.domain.group.repository.GroupMemberRepository;
+import flobitt.oww.domain.group.repository.GroupRepository;
+import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.domain.user.entity.UserStatus;
+import flobitt.oww.domain.user.repository.UserRepository;
+import flobitt.oww.domain.workout.dto.req.CreateWorkoutRecordReq;
+import flobitt.oww.domain.workout.dto.req.CreateWorkoutRecordsReq;
+import flobitt.oww.domain.workout.service.WorkoutRecordService;
+import flobitt.oww.support.EmbeddedMariaDb;
+import flobitt.oww.support.QueryCounter;
+import flobitt.oww.support.QueryCountingConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문장 수 예산 (N+1 회귀 방지)
+ * 연관관계가 모두 LAZY라서 응답 DTO 변환 등에서 연관 엔티티를 건드리면 행 수만큼 쿼리가 늘어난다.
+ * 행이 여러 개인 데이터로 요청 하나를 실행하고, 요청 스레드에서 실행된 문장 수가 예산을 넘으면 실행된 SQL 목록과 함께 실패한다.
+ * 예산은 현재 쿼리 수 기준이며, 쿼리를 줄였다면 예산도 함께 낮춘다. (./gradlew queryBudgetTest)
+ * 엔드포인트별 실행 수 / 예산은 build/reports/query-budget/budgets.txt 에 남는다.
+ */
+@Tag("query-budget")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("query-budget")
+@Import(QueryCountingConfig.class)
+class EndpointQueryBudgetTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointQueryBudgetTest.class);
+    private static final Path REPORT = Path.of("build/reports/query-budget/budgets.txt");
+    private static final String PASSWORD = "Passw0rd!";
+    private static final int WORKOUT_POST_BUDGET = 10;
+
+    // 엔드포인트 -> "실행 / 예산", 모든 테스트가 끝나면 REPORT 로 저장
+    private static final Map<String, String> RESULTS = new ConcurrentSkipListMap<>();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.registerProperties(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private WorkoutRecordService workoutRecordService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // USERS INSERT(flush) + 커밋 시 EMAIL_VERIFICATIONS, EMAIL_OUTBOX INSERT
+    @Test
+    void signUp() throws Exception {
+        String suffix = suffix();
+        assertQueryBudget("POST /users", 3, () -> mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(signUpJson(suffix)))
+                .andExpect(status().isCreated()));
+    }
+
+    // 블룸 필터에 없으면 DB를 보지 않는다. (오탐이면 항목당 COUNT 한 번)
+    @Test
+    void checkAvailability() throws Exception {
+        String suffix = suffix();
+        assertQueryBudget("GET /users/availability", 2, () -> mockMvc.perform(get("/users/availability")
+                        .param("userLoginId", "qb" + suffix)
+                        .param("email", "qb" + suffix + "@oww.local"))
+                .andExpect(status().isOk()));
+    }
+
+    // 토큰 검증은 JWT 파싱, 인증 + 활성화는 조건부 UPDATE 한 번
+    @Test
+    void verifyEmail() throws Exception {
+        String suffix = suffix();
+        mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON).content(signUpJson(suffix)))
+                .andExpect(status().isCreated());
+        String token = jdbcTemplate.queryForObject("""
+                SELECT e.verification_token
+                  FROM EMAIL_VERIFICATIONS e
+                  JOIN USERS u ON u.user_id = e.user_id
+                 WHERE u.user_login_id = ?
+                """, String.class, "qb" + suffix);
+
+        assertQueryBudget("GET /email-verifications/{token}", 1, () -> mockMvc.perform(get("/email-verifications/" + token))
+                .andExpect(status().isOk()));
+    }
+
+    /**
+     * 기록 3건, 속한 그룹 수와 무관한 예산
+     * 사용자 확인, 멤버 조회, 캘린더 upsert(배치), 목표 이력 IN 조회, 연속 기록 존재 확인 + INSERT IGNORE(배치) + 잠금 조회,
+     * 커밋 시 기록/그룹 로그 INSERT 배치, 연속 기록 UPDATE 배치 (알림 수신자 조회는 커밋 후 notificationExecutor에서)
+     */
+    @ParameterizedTest(name = "groups={0}")
+    @ValueSource(ints = {1, 2, 6})
+    void createWorkoutRecords(int groupCount) throws Exception {
+        User user = createUser();
+        for (int i = 0; i < groupCount; i++) {
+            Group group = createGroup();
+            join(group, user);
+            join(group, createUser());
+        }
+
+        String body = """
+                {"records":[%s]}
+                """.formatted(List.of(0, 1, 2).stream()
+                .map(days -> "{\"workoutDate\":\"%s\",\"durationMinutes\":30}".formatted(LocalDate.now().minusDays(days)))
+                .collect(Collectors.joining(",")));
+
+        assertQueryBudget("POST /users/{userId}/workout-records (groups=" + groupCount + ")", WORKOUT_POST_BUDGET, () -> mockMvc.perform(
+                        post("/users/{userId}/workout-records", user.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                .andExpect(status().isCreated()));
+    }
+
+    @Test
+    void getWorkoutHistory() throws Exception {
+        User user = createUser();
+        createWorkoutRecords(user, 5);
+
+        assertQueryBudget("GET /users/{userId}/workout-records", 1, () -> mockMvc.perform(
+                        get("/users/{userId}/workout-records", user.getId()))
+                .andExpect(status().isOk()));
+    }
+
+    // 닉네임은 피드 쿼리에서 GROUP_MEMBERS와 조인해서 가져온다. (멤버 수와 무관)
+    @Test
+    void getGroupFeed() throws Exception {
+        Group group = createGroupWithWorkouts(3, 2);
+
+        assertQueryBudget("GET /groups/{groupId}/feed", 1, () -> mockMvc.perform(get("/groups/{groupId}/feed", group.getId()))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void getMonthlyCalendar() throws Exception {
+        Group group = createGroupWithWorkouts(3, 2);
+
+        assertQueryBudget("GET /groups/{groupId}/calendar", 1, () -> mockMvc.perform(
+                        get("/groups/{groupId}/calendar", group.getId()).param("month", YearMonth.now().toString()))
+                .andExpect(status().isOk()));
+    }
+
+    // 목표 이력 + 연속 기록
+    @Test
+    void getMemberGoalStatus() throws Exception {
+        User user = createUser();
+        GroupMember member = join(createGroup(), user);
+        createWorkoutRecords(user, 3);
+
+        assertQueryBudget("GET /groups/members/{memberId}/goal-status", 2, () -> mockMvc.perform(
+                        get("/groups/members/{memberId}/goal-status", member.getId()))
+                .andExpect(status().isOk()));
+    }
+
+    // 초대 코드 조회(캐시 미스), 사용자 확인, GROUP_MEMBERS INSERT(중복 가입은 유니크 키), 정원 조건부 UPDATE
+    @Test
+    void joinByInviteCode() throws Exception {
+        Group group = createGroup();
+        join(group, createUser());
+        User user = createUser();
+        String body = """
+                {"userId":"%s","nickname":"joiner","color":"#00FF00"}
+                """.formatted(user.getId());
+
+        assertQueryBudget("POST /groups/invites/{inviteCode}/members", 4, () -> mockMvc.perform(
+                        post("/groups/invites/{inviteCode}/members", group.getInviteCode())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                .andExpect(status().isCreated()));
+    }
+
+    // 파일은 저장소에, DB는 본인 기록 확인 + image_url UPDATE / 사진 조회는 DB를 보지 않는다.
+    @Test
+    void uploadAndGetPhoto() throws Exception {
+        User user = createUser();
+        UUID recordId = createWorkoutRecords(user, 1).get(0);
+        byte[] png = png();
+
+        String[] imageUrl = new String[1];
+        assertQueryBudget("PUT /users/{userId}/workout-records/{recordId}/photo", 2, () -> imageUrl[0] = mockMvc.perform(
+                        put("/users/{userId}/workout-records/{recordId}/photo", user.getId(), recordId)
+                                .contentType(MediaType.IMAGE_PNG)
+                                .content(png))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+
+        assertQueryBudget("GET /photos/{hash}", 0, () -> mockMvc.perform(get(imageUrl[0]))
+                .andExpect(status().isOk()));
+        // 썸네일이 아직 없으면 원본을 내려주고 생성은 taskExecutor에서
+        assertQueryBudget("GET /photos/{hash}/thumbnail", 0, () -> mockMvc.perform(get(imageUrl[0] + "/thumbnail"))
+                .andExpect(status().isOk()));
+    }
+
+    // 사용자 조회, 대기 중인 인증 만료 UPDATE, EMAIL_VERIFICATIONS/EMAIL_OUTBOX INSERT
+    @Test
+    void resendVerificationEmail() throws Exception {
+        String suffix = suffix();
+        mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON).content(signUpJson(suffix)))
+                .andExpect(status().isCreated());
+
+        assertQueryBudget("POST /email-verifications/resend", 4, () -> mockMvc.perform(post("/email-verifications/resend")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"qb%s@oww.local"}
+                                """.formatted(suffix)))
+                .andExpect(status().isAccepted()));
+    }
+
+    // 가입되지 않은 이메일도 같은 202 응답 (사용자 조회만)
+    @Test
+    void resendVerificationEmailToUnknownAddress() throws Exception {
+        assertQueryBudget("POST /email-verifications/resend (unknown)", 1, () -> mockMvc.perform(post("/email-verifications/resend")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"qb%s@oww.local"}
+                                """.formatted(suffix())))
+                .andExpect(status().isAccepted()));
+    }
+
+    @Test
+    void subscribeNotifications() throws Exception {
+        User user = createUser();
+
+        assertQueryBudget("GET /users/{userId}/notifications/stream", 0, () -> mockMvc.perform(
+                        get("/users/{userId}/notifications/stream", user.getId()).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted()));
+    }
+
+    @AfterAll
+    static void writeReport() throws IOException {
+        List<String> lines = new ArrayList<>(RESULTS.size());
+        RESULTS.forEach((endpoint, result) -> lines.add("%-65s %s".formatted(endpoint, result)));
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, lines);
+        log.info("쿼리 예산 리포트 : {}", REPORT.toAbsolutePath());
+    }
+
+    private void assertQueryBudget(String endpoint, int budget, QueryCounter.ThrowingRunnable request) throws Exception {
+        List<String> statements = QueryCounter.capture(request);
+        RESULTS.put(endpoint, "%3d / %3d".formatted(statements.size(), budget));
+        log.info("{} : 쿼리 {}개 (예산 {})", endpoint, statements.size(), budget);
+
+        assertThat(statements.size())
+                .withFailMessage(() -> "%s : 쿼리 %d개 실행 (예산 %d)%n%s".formatted(
+                        endpoint, statements.size(), budget, format(statements)))
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private String format(List<String> statements) {
+        List<String> lines = new ArrayList<>(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            lines.add("  %2d. %s".formatted(i + 1, statements.get(i).replaceAll("\\s+", " ").trim()));
+        }
+        return String.join(System.lineSeparator(), lines);
+    }
+
+    private Group createGroupWithWorkouts(int memberCount, int recordsPerMember) {
+        Group group = createGroup();
+        for (int i = 0; i < memberCount; i++) {
+            User user = createUser();
+            join(group, user);
+            createWorkoutRecords(user, recordsPerMember);
+        }
+        return group;
+    }
+
+    private List<UUID> createWorkoutRecords(User user, int count) {
+        List<CreateWorkoutRecordReq> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(CreateWorkoutRecordReq.builder()
+                    .workoutDate(LocalDate.now().minusDays(i))
+                    .durationMinutes(30)
+                    .build());
+        }
+        return workoutRecordService.createWorkoutRecords(user.getId(), CreateWorkoutRecordsReq.builder().records(records).build());
+    }
+
+    private User createUser() {
+        String suffix = suffix();
+        return userRepository.save(User.builder()
+                .userLoginId("qb" + suffix)
+                .email("qb" + suffix + "@oww.local")
+                .password("{noop}" + PASSWORD)
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+    }
+
+    private Group createGroup() {
+        return groupRepository.save(Group.builder()
+                .groupName("query-budget")
+                .inviteCode("QB" + suffix())
+                .isActive(true)
+                .build());
+    }
+
+    private GroupMember join(Group group, User user) {
+        return groupMemberRepository.save(GroupMember.builder()
+                .nickname("member-" + user.getUserLoginId())
+                .color("#FF0000")
+                .role(MemberRole.MEMBER)
+                .group(group)
+                .user(user)
+                .build());
+    }
+
+    private String signUpJson(String suffix) {
+        return """
+                {"userLoginId":"qb%s","email":"qb%s@oww.local","password":"%s"}
+                """.formatted(suffix, suffix, PASSWORD);
+    }
+
+    private String suffix() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+
+    private byte[] png() throws Exception {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,102 @@
+package flobitt.oww.domain.group.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.time.DayOfWeek.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GoalTimelineTest {
+
+    // 월요일
+    private static final LocalDate WEEK = LocalDate.of(2026, 10, 5);
+
+    private static final WeekdayMask MON_WED_FRI = WeekdayMask.of(MONDAY, WEDNESDAY, FRIDAY);
+    private static final WeekdayMask TUE = WeekdayMask.of(TUESDAY);
+
+    // 입력 순서와 무관하게 시작일 순으로 찾고, 종료일 당일까지 유효하다.
+    @Test
+    void maskAtFollowsStartAndEndDates() {
+        GoalTimeline goals = new GoalTimeline(List.of(
+                goal(TUE, WEEK.plusDays(3), null),
+                goal(MON_WED_FRI, WEEK, WEEK.plusDays(2))));
+
+        assertThat(goals.maskAt(WEEK.minusDays(1))).isEqualTo(WeekdayMask.NONE);
+        assertThat(goals.maskAt(WEEK)).isEqualTo(MON_WED_FRI);
+        assertThat(goals.maskAt(WEEK.plusDays(2))).isEqualTo(MON_WED_FRI);
+        assertThat(goals.maskAt(WEEK.plusDays(3))).isEqualTo(TUE);
+        assertThat(goals.maskAt(WEEK.plusYears(1))).isEqualTo(TUE);
+    }
+
+    // 목표 사이에 빈 기간이 있으면 그 기간은 목표 없음
+    @Test
+    void gapBetweenGoalsHasNoGoal() {
+        GoalTimeline goals = new GoalTimeline(List.of(
+                goal(MON_WED_FRI, WEEK, WEEK.plusDays(6)),
+                goal(TUE, WEEK.plusWeeks(2), null)));
+
+        assertThat(goals.maskForWeek(WEEK)).isEqualTo(MON_WED_FRI);
+        assertThat(goals.maskForWeek(WEEK.plusWeeks(1))).isEqualTo(WeekdayMask.NONE);
+        assertThat(goals.maskForWeek(WEEK.plusWeeks(2))).isEqualTo(TUE);
+    }
+
+    // 주 판정은 그 주 일요일에 유효한 목표
+    @Test
+    void maskForWeekUsesSunday() {
+        GoalTimeline goals = new GoalTimeline(List.of(
+                goal(MON_WED_FRI, WEEK.minusWeeks(1), WEEK.plusDays(5)),
+                goal(TUE, WEEK.plusDays(6), null)));
+
+        assertThat(goals.maskForWeek(WEEK)).isEqualTo(TUE);
+        assertThat(goals.maskForWeek(WEEK.minusWeeks(1))).isEqualTo(MON_WED_FRI);
+    }
+
+    @Test
+    void emptyTimelineHasNoGoal() {
+        assertThat(new GoalTimeline(List.of()).maskForWeek(WEEK)).isEqualTo(WeekdayMask.NONE);
+    }
+
+    @Test
+    void weekdayMaskBits() {
+        assertThat(WeekdayMask.bit(MONDAY)).isEqualTo(0b1);
+        assertThat(WeekdayMask.bit(SUNDAY)).isEqualTo(0b100_0000);
+        assertThat(MON_WED_FRI.bits()).isEqualTo(0b1_0101);
+        assertThat(MON_WED_FRI.size()).isEqualTo(3);
+        assertThat(MON_WED_FRI.contains(WEDNESDAY)).isTrue();
+        assertThat(MON_WED_FRI.contains(TUESDAY)).isFalse();
+        assertThat(MON_WED_FRI.days()).containsExactly(MONDAY, WEDNESDAY, FRIDAY);
+        assertThat(WeekdayMask.of(DayOfWeek.values())).isEqualTo(new WeekdayMask(WeekdayMask.ALL_DAYS));
+        assertThat(WeekdayMask.NONE.isEmpty()).isTrue();
+    }
+
+    @Test
+    void weekdayMaskCoverage() {
+        int monWed = WeekdayMask.of(MONDAY, WEDNESDAY).bits();
+        int everyDay = WeekdayMask.ALL_DAYS;
+
+        assertThat(MON_WED_FRI.isCoveredBy(monWed)).isFalse();
+        assertThat(MON_WED_FRI.matched(monWed)).isEqualTo(2);
+        assertThat(MON_WED_FRI.isCoveredBy(everyDay)).isTrue();
+        assertThat(MON_WED_FRI.matched(everyDay)).isEqualTo(3);
+        // 목표가 없으면 어떤 주든 포함한다. (판정 여부는 MemberStreak 에서 isEmpty로 거른다)
+        assertThat(WeekdayMask.NONE.isCoveredBy(0)).isTrue();
+    }
+
+    @Test
+    void weekdayMaskRejectsMoreThanSevenBits() {
+        assertThatThrownBy(() -> new WeekdayMask(0b1000_0000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new WeekdayMask(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MemberGoalHistory goal(WeekdayMask days, LocalDate startDate, LocalDate endDate) {
+        return MemberGoalHistory.builder()
+                .workoutDays(days)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
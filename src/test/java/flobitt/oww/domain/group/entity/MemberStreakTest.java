@@ -0,0 +1,237 @@
+package flobitt.oww.domain.group.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.time.DayOfWeek.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberStreakTest {
+
+    // 월요일
+    private static final LocalDate WEEK1 = LocalDate.of(2026, 10, 5);
+    private static final LocalDate WEEK2 = WEEK1.plusWeeks(1);
+    private static final LocalDate WEEK3 = WEEK1.plusWeeks(2);
+    private static final LocalDate WEEK4 = WEEK1.plusWeeks(3);
+    private static final LocalDate WEEK5 = WEEK1.plusWeeks(4);
+
+    private static final WeekdayMask MON_WED_FRI = WeekdayMask.of(MONDAY, WEDNESDAY, FRIDAY);
+
+    private final UUID memberId = UUID.randomUUID();
+
+    // 달성 -> 달성 -> 미달성 -> 달성
+    @Test
+    void streakResetsOnMissedWeekAndRestarts() {
+        GoalTimeline goals = timeline(goal(MON_WED_FRI, WEEK1.minusWeeks(1), null));
+        MemberStreak streak = MemberStreak.start(memberId, WEEK1);
+
+        recordAll(streak, goals, monWedFri(WEEK1));
+        recordAll(streak, goals, monWedFri(WEEK2));
+        recordAll(streak, goals, List.of(WEEK3, WEEK3.plusDays(2)));
+        recordAll(streak, goals, monWedFri(WEEK4));
+        streak.advanceTo(WEEK5, goals);
+
+        assertThat(streak.getWeekStart()).isEqualTo(WEEK5);
+        assertThat(streak.getWeekMask()).isZero();
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+        assertThat(streak.getLongestStreak()).isEqualTo(2);
+        assertThat(streak.getTrackedWeeks()).isEqualTo(4);
+        assertThat(streak.getAchievedWeeks()).isEqualTo(3);
+        // bit0 = 직전 주(WEEK4)
+        assertThat(streak.getWeekHistory()).isEqualTo(0b1101L);
+        assertThat(streak.recentAchievementRate(2)).isEqualTo(0.5);
+        assertThat(streak.recentAchievementRate(4)).isEqualTo(0.75);
+        assertThat(streak.recentAchievementRate(64)).isEqualTo(0.75);
+    }
+
+    // 주 중간에 목표가 바뀌면 그 주는 일요일에 유효한 목표로 판정한다.
+    @Test
+    void weekIsJudgedByGoalInEffectOnSunday() {
+        GoalTimeline goals = timeline(
+                goal(MON_WED_FRI, WEEK1.minusWeeks(1), WEEK1.plusDays(2)),
+                goal(WeekdayMask.of(TUESDAY), WEEK1.plusDays(3), null));
+        MemberStreak streak = MemberStreak.start(memberId, WEEK1);
+
+        // 바뀌기 전 목표(월/수/금)는 채웠지만 새 목표(화)는 못 채운 주
+        recordAll(streak, goals, monWedFri(WEEK1));
+        // 새 목표만 채운 주
+        recordAll(streak, goals, List.of(WEEK2.plusDays(1)));
+        streak.advanceTo(WEEK3, goals);
+
+        assertThat(streak.getWeekHistory()).isEqualTo(0b01L);
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+        assertThat(streak.getAchievedWeeks()).isEqualTo(1);
+    }
+
+    // 여러 주를 건너뛰면 빈 주는 모두 미달성으로 마감된다.
+    @Test
+    void advanceOverSeveralWeeksClosesEmptyWeeksAsMissed() {
+        GoalTimeline goals = timeline(goal(MON_WED_FRI, WEEK1, null));
+        MemberStreak streak = MemberStreak.start(memberId, WEEK1);
+        recordAll(streak, goals, monWedFri(WEEK1));
+
+        assertThat(streak.recordWorkout(WEEK4.plusDays(2), goals)).isTrue();
+
+        assertThat(streak.getWeekStart()).isEqualTo(WEEK4);
+        assertThat(streak.getWeekMask()).isEqualTo((byte) WeekdayMask.bit(WEDNESDAY));
+        assertThat(streak.getWeekHistory()).isEqualTo(0b100L);
+        assertThat(streak.getTrackedWeeks()).isEqualTo(3);
+        assertThat(streak.getCurrentStreak()).isZero();
+        assertThat(streak.getLongestStreak()).isEqualTo(1);
+    }
+
+    // 목표가 없는 주는 판정하지 않으므로 연속 기록이 끊기지 않는다.
+    @Test
+    void weeksWithoutGoalAreNotTracked() {
+        GoalTimeline goals = timeline(
+                goal(MON_WED_FRI, WEEK1, WEEK1.plusDays(6)),
+                goal(MON_WED_FRI, WEEK4, null));
+        MemberStreak streak = MemberStreak.start(memberId, WEEK1);
+        recordAll(streak, goals, monWedFri(WEEK1));
+        recordAll(streak, goals, monWedFri(WEEK4));
+        streak.advanceTo(WEEK5, goals);
+
+        assertThat(streak.getTrackedWeeks()).isEqualTo(2);
+        assertThat(streak.getCurrentStreak()).isEqualTo(2);
+        assertThat(streak.getWeekHistory()).isEqualTo(0b11L);
+    }
+
+    @Test
+    void recordingIntoClosedWeekAsksForRebuild() {
+        GoalTimeline goals = timeline(goal(MON_WED_FRI, WEEK1, null));
+        MemberStreak streak = MemberStreak.start(memberId, WEEK2);
+
+        assertThat(streak.recordWorkout(WEEK1.plusDays(4), goals)).isFalse();
+        assertThat(streak.getWeekStart()).isEqualTo(WEEK2);
+        assertThat(streak.getWeekMask()).isZero();
+    }
+
+    // 같은 날짜/목표라면 처음부터 다시 계산한 결과가 순서대로 반영한 결과와 같아야 한다.
+    @Test
+    void rebuildMatchesIncrementalResult() {
+        GoalTimeline goals = timeline(
+                goal(MON_WED_FRI, WEEK1.minusWeeks(1), WEEK2.plusDays(3)),
+                goal(WeekdayMask.of(TUESDAY, SATURDAY), WEEK2.plusDays(4), null));
+        List<LocalDate> dates = new ArrayList<>(monWedFri(WEEK1));
+        dates.addAll(List.of(WEEK2.plusDays(1), WEEK2.plusDays(5), WEEK2.plusDays(6)));
+        dates.addAll(List.of(WEEK3.plusDays(1)));
+        dates.addAll(List.of(WEEK5.plusDays(1), WEEK5.plusDays(5)));
+        LocalDate today = WEEK5.plusWeeks(1).plusDays(2);
+
+        MemberStreak incremental = MemberStreak.start(memberId, dates.getFirst());
+        recordAll(incremental, goals, dates);
+        incremental.advanceTo(today, goals);
+
+        MemberStreak rebuilt = MemberStreak.start(memberId, today);
+        rebuilt.rebuild(dates.reversed(), goals, today);
+
+        assertSameState(rebuilt, incremental);
+        assertThat(rebuilt.getTrackedWeeks()).isEqualTo(5);
+        assertThat(rebuilt.getWeekHistory()).isEqualTo(0b11001L);
+        assertThat(rebuilt.getCurrentStreak()).isEqualTo(1);
+        assertThat(rebuilt.getLongestStreak()).isEqualTo(2);
+    }
+
+    // 진행 중인 주의 기록은 rebuild 후에도 weekMask로 남는다.
+    @Test
+    void rebuildKeepsCurrentWeekOpen() {
+        GoalTimeline goals = timeline(goal(MON_WED_FRI, WEEK1, null));
+        List<LocalDate> dates = List.of(WEEK1, WEEK1.plusDays(2), WEEK1.plusDays(4), WEEK2.plusDays(2));
+
+        MemberStreak incremental = MemberStreak.start(memberId, WEEK1);
+        recordAll(incremental, goals, dates);
+
+        MemberStreak rebuilt = MemberStreak.start(memberId, WEEK2);
+        rebuilt.rebuild(dates, goals, WEEK2.plusDays(3));
+
+        assertSameState(rebuilt, incremental);
+        assertThat(rebuilt.getWeekStart()).isEqualTo(WEEK2);
+        assertThat(rebuilt.getWeekMask()).isEqualTo((byte) WeekdayMask.bit(WEDNESDAY));
+    }
+
+    @Test
+    void rebuildWithoutDatesResetsToToday() {
+        GoalTimeline goals = timeline(goal(MON_WED_FRI, WEEK1, null));
+        MemberStreak streak = MemberStreak.start(memberId, WEEK1);
+        recordAll(streak, goals, monWedFri(WEEK1));
+        streak.advanceTo(WEEK2, goals);
+
+        streak.rebuild(List.of(), goals, WEEK3.plusDays(4));
+
+        assertThat(streak.getWeekStart()).isEqualTo(WEEK3);
+        assertThat(streak.getWeekHistory()).isZero();
+        assertThat(streak.getCurrentStreak()).isZero();
+        assertThat(streak.getLongestStreak()).isZero();
+        assertThat(streak.getTrackedWeeks()).isZero();
+    }
+
+    // 조회용 복사본만 마감하고 원본은 그대로 둔다.
+    @Test
+    void projectedToDoesNotChangeOriginal() {
+        GoalTimeline goals = timeline(goal(MON_WED_FRI, WEEK1, null));
+        MemberStreak streak = MemberStreak.start(memberId, WEEK1);
+        recordAll(streak, goals, monWedFri(WEEK1));
+
+        MemberStreak projected = streak.projectedTo(WEEK3.plusDays(1), goals);
+
+        assertThat(projected.getWeekStart()).isEqualTo(WEEK3);
+        assertThat(projected.getWeekHistory()).isEqualTo(0b10L);
+        assertThat(projected.getLongestStreak()).isEqualTo(1);
+        assertThat(projected.getCurrentStreak()).isZero();
+        assertThat(streak.getWeekStart()).isEqualTo(WEEK1);
+        assertThat(streak.getWeekMask()).isEqualTo((byte) MON_WED_FRI.bits());
+        assertThat(streak.getTrackedWeeks()).isZero();
+    }
+
+    // 64주를 넘긴 기록은 비트에서 밀려나도 집계 값은 유지된다.
+    @Test
+    void historyKeepsLatestSixtyFourWeeks() {
+        GoalTimeline goals = timeline(goal(MON_WED_FRI, WEEK1, null));
+        MemberStreak streak = MemberStreak.start(memberId, WEEK1);
+        for (int week = 0; week < MemberStreak.HISTORY_WEEKS + 6; week++) {
+            recordAll(streak, goals, monWedFri(WEEK1.plusWeeks(week)));
+        }
+        streak.advanceTo(WEEK1.plusWeeks(MemberStreak.HISTORY_WEEKS + 6), goals);
+
+        assertThat(streak.getWeekHistory()).isEqualTo(-1L);
+        assertThat(streak.getTrackedWeeks()).isEqualTo(MemberStreak.HISTORY_WEEKS + 6);
+        assertThat(streak.getCurrentStreak()).isEqualTo(MemberStreak.HISTORY_WEEKS + 6);
+        assertThat(streak.recentAchievementRate(100)).isEqualTo(1.0);
+    }
+
+    private static void recordAll(MemberStreak streak, GoalTimeline goals, List<LocalDate> dates) {
+        for (LocalDate date : dates) {
+            assertThat(streak.recordWorkout(date, goals)).isTrue();
+        }
+    }
+
+    private static void assertSameState(MemberStreak actual, MemberStreak expected) {
+        assertThat(actual.getWeekStart()).isEqualTo(expected.getWeekStart());
+        assertThat(actual.getWeekMask()).isEqualTo(expected.getWeekMask());
+        assertThat(actual.getWeekHistory()).isEqualTo(expected.getWeekHistory());
+        assertThat(actual.getCurrentStreak()).isEqualTo(expected.getCurrentStreak());
+        assertThat(actual.getLongestStreak()).isEqualTo(expected.getLongestStreak());
+        assertThat(actual.getTrackedWeeks()).isEqualTo(expected.getTrackedWeeks());
+        assertThat(actual.getAchievedWeeks()).isEqualTo(expected.getAchievedWeeks());
+    }
+
+    private static List<LocalDate> monWedFri(LocalDate monday) {
+        return List.of(monday, monday.plusDays(2), monday.plusDays(4));
+    }
+
+    private static GoalTimeline timeline(MemberGoalHistory... histories) {
+        return new GoalTimeline(List.of(histories));
+    }
+
+    private static MemberGoalHistory goal(WeekdayMask days, LocalDate startDate, LocalDate endDate) {
+        return MemberGoalHistory.builder()
+                .workoutDays(days)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
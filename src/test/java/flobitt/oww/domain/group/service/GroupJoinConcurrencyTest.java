@@ -0,0 +1,178 @@
+package flobitt.oww.domain.group.service;
+
+import flobitt.oww.domain.group.dto.req.JoinGroupReq;
+import flobitt.oww.domain.group.entity.Group;
+import flobitt.oww.domain.group.repository.GroupRepository;
+import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.domain.user.entity.UserStatus;
+import flobitt.oww.domain.user.repository.UserRepository;
+import flobitt.oww.global.exception.AlreadyJoinedGroupException;
+import flobitt.oww.global.exception.GroupFullException;
+import flobitt.oww.global.id.UuidBytes;
+import flobitt.oww.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 초대 코드 동시 가입 (내장 MariaDB, ./gradlew queryBudgetTest 에서 함께 실행)
+ * 멤버 INSERT -> 정원 조건부 UPDATE 순서에서 정원을 넘기지 않고, 교착(deadlock) 없이 정원 초과/중복 가입만 실패하는지 확인한다.
+ */
+@Tag("query-budget")
+@SpringBootTest
+@ActiveProfiles("query-budget")
+class GroupJoinConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.registerProperties(registry);
+    }
+
+    @Autowired
+    private GroupMemberService groupMemberService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        Group group = createGroup(3);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) users.add(createUser());
+
+        Map<Class<?>, Integer> outcomes = joinConcurrently(group, i -> users.get(i).getId());
+
+        assertThat(outcomes).containsOnlyKeys(UUID.class, GroupFullException.class);
+        assertThat(outcomes.get(UUID.class)).isEqualTo(3);
+        assertThat(memberCount(group)).isEqualTo(3);
+        assertThat(activeMembers(group)).isEqualTo(3);
+    }
+
+    // 같은 사용자의 중복 제출 : 한 건만 가입되고 나머지는 409
+    @Test
+    void concurrentDuplicateJoinsCreateOneMembership() throws Exception {
+        Group group = createGroup(null);
+        User user = createUser();
+
+        Map<Class<?>, Integer> outcomes = joinConcurrently(group, i -> user.getId());
+
+        assertThat(outcomes).containsOnlyKeys(UUID.class, AlreadyJoinedGroupException.class);
+        assertThat(outcomes.get(UUID.class)).isEqualTo(1);
+        assertThat(memberCount(group)).isEqualTo(1);
+        assertThat(activeMembers(group)).isEqualTo(1);
+    }
+
+    // 탈퇴(soft delete)한 멤버십은 유니크 키에서 빠지므로 다시 가입할 수 있다.
+    @Test
+    void rejoinAfterLeaving() {
+        Group group = createGroup(null);
+        User user = createUser();
+        groupMemberService.joinByInviteCode(group.getInviteCode(), joinReq(user.getId()));
+        assertThatThrownBy(() -> groupMemberService.joinByInviteCode(group.getInviteCode(), joinReq(user.getId())))
+                .isInstanceOf(AlreadyJoinedGroupException.class);
+
+        jdbcTemplate.update("UPDATE GROUP_MEMBERS SET is_deleted = TRUE, deleted_at = NOW() WHERE group_id = ?",
+                (Object) UuidBytes.toBytes(group.getId()));
+        groupMemberService.joinByInviteCode(group.getInviteCode(), joinReq(user.getId()));
+
+        assertThat(activeMembers(group)).isEqualTo(1);
+    }
+
+    // 스레드 THREADS개가 동시에 가입하고, 결과(성공이면 UUID, 실패면 예외 타입)별 건수를 돌려준다.
+    private Map<Class<?>, Integer> joinConcurrently(Group group, Function<Integer, UUID> userIds) throws Exception {
+        Map<Class<?>, Integer> outcomes = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                JoinGroupReq req = joinReq(userIds.apply(i));
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Class<?> outcome;
+                    try {
+                        groupMemberService.joinByInviteCode(group.getInviteCode(), req);
+                        outcome = UUID.class;
+                    } catch (RuntimeException e) {
+                        outcome = e.getClass();
+                    }
+                    outcomes.merge(outcome, 1, Integer::sum);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    private int memberCount(Group group) {
+        return jdbcTemplate.queryForObject("SELECT member_count FROM GROUPS WHERE group_id = ?", Integer.class,
+                (Object) UuidBytes.toBytes(group.getId()));
+    }
+
+    private int activeMembers(Group group) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM GROUP_MEMBERS WHERE group_id = ? AND is_deleted = FALSE",
+                Integer.class, (Object) UuidBytes.toBytes(group.getId()));
+    }
+
+    private JoinGroupReq joinReq(UUID userId) {
+        return JoinGroupReq.builder()
+                .userId(userId)
+                .nickname("joiner")
+                .color("#00FF00")
+                .build();
+    }
+
+    private User createUser() {
+        String suffix = suffix();
+        return userRepository.save(User.builder()
+                .userLoginId("gj" + suffix)
+                .email("gj" + suffix + "@oww.local")
+                .password("{noop}Passw0rd!")
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+    }
+
+    private Group createGroup(Integer maxMembers) {
+        return groupRepository.save(Group.builder()
+                .groupName("join-concurrency")
+                .inviteCode("GJ" + suffix())
+                .maxMembers(maxMembers)
+                .isActive(true)
+                .build());
+    }
+
+    private String suffix() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+}
@@ -0,0 +1,78 @@
+package flobitt.oww.domain.notification.service;
+
+import flobitt.oww.domain.notification.dto.internal.GroupSubscriberDto;
+import flobitt.oww.domain.notification.repository.NotificationSettingRepository;
+import flobitt.oww.global.properties.NotificationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class GroupSubscriberCacheTest {
+
+    private final NotificationSettingRepository repository = mock(NotificationSettingRepository.class);
+    private final GroupSubscriberCache cache = new GroupSubscriberCache(repository, new NotificationProperties());
+
+    private final UUID groupA = UUID.randomUUID();
+    private final UUID groupB = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    void loadsMissingGroupsInOneQuery() {
+        when(repository.findGroupSubscribers(anyCollection())).thenReturn(List.of(
+                new GroupSubscriberDto(groupA, alice, "alice", true),
+                new GroupSubscriberDto(groupA, bob, "bob", false),
+                new GroupSubscriberDto(groupB, bob, "bobby", true)));
+
+        Map<UUID, GroupSubscriberCache.Subscribers> subscribers = cache.getAll(List.of(groupA, groupB));
+
+        verify(repository, times(1)).findGroupSubscribers(anyCollection());
+        assertThat(subscribers.get(groupA).nicknames()).containsOnlyKeys(alice, bob);
+        assertThat(subscribers.get(groupA).recipients()).containsExactly(alice);
+        assertThat(subscribers.get(groupB).nicknames()).containsEntry(bob, "bobby");
+        assertThat(subscribers.get(groupB).recipients()).containsExactly(bob);
+    }
+
+    @Test
+    void queriesOnlyGroupsNotCached() {
+        when(repository.findGroupSubscribers(anyCollection())).thenReturn(List.of());
+        cache.get(groupA);
+
+        cache.getAll(List.of(groupA, groupB));
+
+        verify(repository).findGroupSubscribers(argThat((Collection<UUID> ids) -> ids.equals(List.of(groupA))));
+        verify(repository).findGroupSubscribers(argThat((Collection<UUID> ids) -> ids.equals(List.of(groupB))));
+        verifyNoMoreInteractions(repository);
+    }
+
+    // 멤버가 없는 그룹도 캐시해서 다시 조회하지 않는다.
+    @Test
+    void cachesGroupsWithoutMembers() {
+        when(repository.findGroupSubscribers(anyCollection())).thenReturn(List.of());
+
+        assertThat(cache.get(groupA).recipients()).isEmpty();
+        cache.get(groupA);
+
+        verify(repository, times(1)).findGroupSubscribers(anyCollection());
+    }
+
+    @Test
+    void evictReloadsGroup() {
+        when(repository.findGroupSubscribers(anyCollection()))
+                .thenReturn(List.of(new GroupSubscriberDto(groupA, alice, "alice", true)))
+                .thenReturn(List.of(new GroupSubscriberDto(groupA, alice, "alice", false)));
+        assertThat(cache.get(groupA).recipients()).containsExactly(alice);
+
+        cache.evict(groupA);
+
+        assertThat(cache.get(groupA).recipients()).isEmpty();
+        verify(repository, times(2)).findGroupSubscribers(anyCollection());
+    }
+}
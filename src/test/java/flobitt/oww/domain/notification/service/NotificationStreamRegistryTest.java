@@ -0,0 +1,76 @@
+package flobitt.oww.domain.notification.service;
+
+import flobitt.oww.global.properties.NotificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationStreamRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationProperties properties = new NotificationProperties();
+
+    @Test
+    void keepsAtMostMaxConnectionsPerUser() {
+        properties.setMaxConnectionsPerUser(2);
+        NotificationStreamRegistry registry = new NotificationStreamRegistry(properties, Runnable::run, meterRegistry);
+        UUID userId = UUID.randomUUID();
+
+        for (int i = 0; i < 5; i++) registry.connect(userId);
+
+        assertThat(registry.isConnected(userId)).isTrue();
+        assertThat(connectionGauge()).isEqualTo(2);
+    }
+
+    // 같은 사용자의 연결이 동시에 들어와도 연결 수 게이지가 실제 연결 수와 어긋나지 않는다.
+    @Test
+    void concurrentConnectsKeepCountConsistent() throws Exception {
+        properties.setMaxConnectionsPerUser(3);
+        NotificationStreamRegistry registry = new NotificationStreamRegistry(properties, Runnable::run, meterRegistry);
+        List<UUID> users = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                UUID userId = users.get(t % users.size());
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) registry.connect(userId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(users).allMatch(registry::isConnected);
+        assertThat(connectionGauge()).isEqualTo(users.size() * 3);
+    }
+
+    @Test
+    void sendToUnknownUserIsIgnored() {
+        NotificationStreamRegistry registry = new NotificationStreamRegistry(properties, Runnable::run, meterRegistry);
+
+        registry.send(UUID.randomUUID(), "payload");
+
+        assertThat(meterRegistry.counter("notification.sse.dropped").count()).isZero();
+    }
+
+    private double connectionGauge() {
+        return meterRegistry.get("notification.sse.connections").gauge().value();
+    }
+}
@@ -0,0 +1,107 @@
+package flobitt.oww.domain.notification.service;
+
+import flobitt.oww.domain.notification.dto.internal.GroupWeeklyReportDto;
+import flobitt.oww.domain.notification.dto.internal.MemberWeeklySummaryDto;
+import flobitt.oww.domain.notification.dto.internal.WeeklyReportMailDto;
+import flobitt.oww.domain.notification.dto.internal.WeeklyReportRecipientDto;
+import flobitt.oww.domain.notification.repository.WeeklyReportQueryRepository;
+import flobitt.oww.global.mail.MailTemplateRegistry;
+import flobitt.oww.global.mail.PooledMailSender;
+import flobitt.oww.global.properties.MailProperties;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class WeeklyReportServiceTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 10, 5);
+
+    private final WeeklyReportQueryRepository repository = mock(WeeklyReportQueryRepository.class);
+    private final PooledMailSender mailSender = mock(PooledMailSender.class);
+    private final WeeklyReportService service;
+
+    private final UUID groupId = UUID.randomUUID();
+    private final UUID korean = UUID.randomUUID();
+    private final UUID english = UUID.randomUUID();
+
+    WeeklyReportServiceTest() {
+        MailProperties mailProperties = new MailProperties();
+        mailProperties.setUsername("noreply@oww.test");
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+        service = new WeeklyReportService(repository, mailSender, new MailTemplateRegistry(), mailProperties);
+    }
+
+    @Test
+    void rendersEachRecipientInTheirLanguage() throws Exception {
+        List<WeeklyReportMailDto> mails = service.createMessages(report(List.of(
+                new WeeklyReportRecipientDto(korean, "ko@oww.test", "ko"),
+                new WeeklyReportRecipientDto(english, "en@oww.test", "en"))));
+
+        assertThat(mails).extracting(WeeklyReportMailDto::getUserId).containsExactly(korean, english);
+        assertThat(mails.get(0).getMessage().getSubject()).contains("운동 리포트");
+        assertThat(mails.get(1).getMessage().getSubject()).contains("weekly");
+        assertThat(body(mails.get(0).getMessage())).contains("<td>alice</td><td>3</td>").doesNotContain("3일");
+        assertThat(body(mails.get(1).getMessage())).contains("<td>alice</td><td>3</td>");
+    }
+
+    @Test
+    void unknownLanguageFallsBackToKorean() throws Exception {
+        List<WeeklyReportMailDto> mails = service.createMessages(report(List.of(
+                new WeeklyReportRecipientDto(korean, "fr@oww.test", "fr"))));
+
+        assertThat(mails.get(0).getMessage().getSubject()).contains("운동 리포트");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void marksOnlySuccessfulMailsDelivered() {
+        List<WeeklyReportMailDto> mails = service.createMessages(report(List.of(
+                new WeeklyReportRecipientDto(korean, "ko@oww.test", "ko"),
+                new WeeklyReportRecipientDto(english, "en@oww.test", "en"))));
+        when(mailSender.send(anyList())).thenReturn(Map.of(mails.get(1).getMessage(), new IllegalStateException("smtp down")));
+
+        int failed = service.send(mails, WEEK_START);
+
+        ArgumentCaptor<Collection<WeeklyReportMailDto>> delivered = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).markDelivered(eq(WEEK_START), delivered.capture());
+        assertThat(failed).isEqualTo(1);
+        assertThat(delivered.getValue()).extracting(WeeklyReportMailDto::getUserId).containsExactly(korean);
+    }
+
+    @Test
+    void skipsLogScanWhenEveryoneAlreadyReceivedTheReport() {
+        when(repository.findRecipients(groupId, WEEK_START)).thenReturn(List.of());
+
+        GroupWeeklyReportDto report = service.aggregate(groupId, WEEK_START);
+
+        assertThat(report.getRecipients()).isEmpty();
+        assertThat(service.createMessages(report)).isEmpty();
+        verify(repository, never()).streamGroupLogs(any(), any(), any(), any());
+        verify(repository, never()).findMemberNicknames(any());
+    }
+
+    private GroupWeeklyReportDto report(List<WeeklyReportRecipientDto> recipients) {
+        return GroupWeeklyReportDto.builder()
+                .groupId(groupId)
+                .groupName("morning run")
+                .weekStart(WEEK_START)
+                .weekEnd(WEEK_START.plusDays(6))
+                .totalSessions(3)
+                .totalMinutes(90)
+                .members(List.of(new MemberWeeklySummaryDto("alice", 3, 3, 90)))
+                .recipients(recipients)
+                .build();
+    }
+
+    private String body(MimeMessage message) throws Exception {
+        return (String) message.getContent();
+    }
+}
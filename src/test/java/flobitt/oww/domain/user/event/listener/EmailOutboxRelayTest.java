@@ -0,0 +1,79 @@
+package flobitt.oww.domain.user.event.listener;
+
+import flobitt.oww.domain.user.entity.EmailOutbox;
+import flobitt.oww.domain.user.service.EmailOutboxService;
+import flobitt.oww.domain.user.service.EmailVerificationService;
+import flobitt.oww.global.properties.MailOutboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxRelayTest {
+
+    private final EmailOutboxService outboxService = mock(EmailOutboxService.class);
+    private final EmailVerificationService emailService = mock(EmailVerificationService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmailOutboxRelay relay;
+
+    private final List<EmailOutbox> batch = List.of(outbox("a"), outbox("b"), outbox("c"), outbox("d"));
+
+    EmailOutboxRelayTest() {
+        MailOutboxProperties properties = new MailOutboxProperties();
+        properties.setConcurrency(2);
+        relay = new EmailOutboxRelay(outboxService, emailService, Runnable::run, properties, meterRegistry);
+        when(outboxService.claimBatch(any())).thenReturn(batch, List.of());
+        when(outboxService.countBacklog()).thenReturn(2L);
+    }
+
+    // 한 조각이 예외로 끝나도 다른 조각의 발송 완료 기록은 남고, 예외 조각만 실패 처리된다.
+    @Test
+    @SuppressWarnings("unchecked")
+    void failingChunkDoesNotLoseDeliveredChunk() {
+        when(emailService.sendEmails(anyList()))
+                .thenThrow(new IllegalArgumentException("템플릿 변수 값이 없습니다: url"))
+                .thenReturn(Map.of());
+
+        relay.relay();
+
+        ArgumentCaptor<Collection<EmailOutbox>> sent = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxService).markSent(sent.capture(), any());
+        assertThat(sent.getValue()).containsExactlyInAnyOrder(batch.get(2), batch.get(3));
+        verify(outboxService).markFailed(eq(batch.get(0)), anyString(), any());
+        verify(outboxService).markFailed(eq(batch.get(1)), anyString(), any());
+        verify(outboxService, never()).markFailed(eq(batch.get(2)), anyString(), any());
+        assertThat(meterRegistry.get("mail.outbox.backlog").gauge().value()).isEqualTo(2);
+    }
+
+    // 실패 기록 중 DB 오류가 나도 발송된 건은 SENT로 기록된다.
+    @Test
+    @SuppressWarnings("unchecked")
+    void markFailedErrorStillMarksOthersSent() {
+        when(emailService.sendEmails(anyList()))
+                .thenReturn(Map.of(batch.get(0), new IllegalStateException("smtp down")))
+                .thenReturn(Map.of());
+        when(outboxService.markFailed(any(), anyString(), any())).thenThrow(new IllegalStateException("db down"));
+
+        relay.relay();
+
+        ArgumentCaptor<Collection<EmailOutbox>> sent = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxService).markSent(sent.capture(), any());
+        assertThat(sent.getValue()).containsExactlyInAnyOrder(batch.get(1), batch.get(2), batch.get(3));
+    }
+
+    private static EmailOutbox outbox(String name) {
+        return EmailOutbox.builder()
+                .id(UUID.randomUUID())
+                .email(name + "@oww.test")
+                .verificationToken("token-" + name)
+                .build();
+    }
+}
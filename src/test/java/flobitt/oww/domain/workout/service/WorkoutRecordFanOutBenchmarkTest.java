@@ -0,0 +1,113 @@
+package flobitt.oww.domain.workout.service;
+
+import flobitt.oww.domain.group.entity.Group;
+import flobitt.oww.domain.group.entity.GroupMember;
+import flobitt.oww.domain.group.entity.MemberRole;
+import flobitt.oww.domain.user.entity.User;
+import flobitt.oww.domain.workout.dto.req.CreateWorkoutRecordReq;
+import flobitt.oww.domain.workout.dto.req.CreateWorkoutRecordsReq;
+import flobitt.oww.support.EmbeddedMariaDb;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 50개 그룹에 속한 사용자의 운동 기록 fan-out 처리량 (./gradlew benchmarkTest, 테스트 종료 시 롤백)
+ * 내장 MariaDB에 data.sql 로 스키마를 만들고, 나머지 설정(JWT 키, 배치 작업 끄기 등)은 query-budget 프로필을 그대로 쓴다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.sql.init.mode=always")
+@ActiveProfiles("query-budget")
+@Transactional
+class WorkoutRecordFanOutBenchmarkTest {
+
+    private static final int GROUP_COUNT = 50;
+    private static final int REQUESTS = 200;
+    private static final int RECORDS_PER_REQUEST = 5;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.registerProperties(registry);
+    }
+
+    @Autowired
+    private WorkoutRecordService workoutRecordService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void fanOutToFiftyGroups() {
+        User user = createUserInGroups();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            workoutRecordService.createWorkoutRecords(user.getId(), request(i));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long rows = (long) REQUESTS * RECORDS_PER_REQUEST * (1 + GROUP_COUNT);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+        System.out.printf("requests/s : %,.0f%n", REQUESTS / seconds);
+        System.out.printf("rows/s     : %,.0f%n", rows / seconds);
+        System.out.printf("statements : %,d prepared for %,d rows%n", statistics.getPrepareStatementCount(), rows);
+    }
+
+    private User createUserInGroups() {
+        User user = User.builder()
+                .userLoginId("fanout_bench")
+                .email("fanout_bench@oww.test")
+                .password("$2a$10$benchmark")
+                .build();
+        entityManager.persist(user);
+
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            Group group = Group.builder()
+                    .groupName("bench-group-" + i)
+                    .inviteCode("BENCH" + i)
+                    .maxMembers(100)
+                    .isActive(true)
+                    .build();
+            entityManager.persist(group);
+            entityManager.persist(GroupMember.builder()
+                    .color("#FF0000")
+                    .nickname("bench")
+                    .role(MemberRole.MEMBER)
+                    .group(group)
+                    .user(user)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return user;
+    }
+
+    private CreateWorkoutRecordsReq request(int seed) {
+        List<CreateWorkoutRecordReq> records = new ArrayList<>(RECORDS_PER_REQUEST);
+        for (int i = 0; i < RECORDS_PER_REQUEST; i++) {
+            records.add(CreateWorkoutRecordReq.builder()
+                    .workoutDate(LocalDate.now().minusDays(seed * RECORDS_PER_REQUEST + i))
+                    .durationMinutes(60)
+                    .build());
+        }
+        return CreateWorkoutRecordsReq.builder().records(records).build();
+    }
+}
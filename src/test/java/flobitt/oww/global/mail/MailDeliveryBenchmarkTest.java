@@ -0,0 +1,87 @@
+package flobitt.oww.global.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import flobitt.oww.global.properties.MailOutboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메시지마다 연결하는 JavaMailSender.send() vs 연결 재사용 PooledMailSender 처리량 비교 (GreenMail 로컬 SMTP)
+ */
+@Tag("benchmark")
+class MailDeliveryBenchmarkTest {
+
+    private static final int MESSAGE_COUNT = 2_000;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MailTemplate template = new MailTemplateRegistry().get("verification", Locale.KOREAN);
+
+    @Test
+    void compareThroughput() throws Exception {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        MailOutboxProperties properties = new MailOutboxProperties();
+        properties.setConcurrency(1);
+        PooledMailSender pooledMailSender = new PooledMailSender(mailSender, properties, new SimpleMeterRegistry());
+
+        long perMessageNanos = measure(() -> {
+            for (MimeMessage message : createMessages(mailSender)) mailSender.send(message);
+        });
+        long pooledNanos = measure(() -> {
+            assertThat(pooledMailSender.send(createMessages(mailSender))).isEmpty();
+        });
+        pooledMailSender.destroy();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(MESSAGE_COUNT * 2);
+        System.out.printf("per-message send : %,.0f msg/s%n", throughput(perMessageNanos));
+        System.out.printf("pooled send      : %,.0f msg/s%n", throughput(pooledNanos));
+    }
+
+    private List<MimeMessage> createMessages(JavaMailSenderImpl mailSender) throws Exception {
+        List<MimeMessage> messages = new ArrayList<>(MESSAGE_COUNT);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+            helper.setFrom("noreply@oww.test");
+            helper.setTo("user" + i + "@oww.test");
+            helper.setSubject(template.getSubject());
+            helper.setText(template.render(Map.of(
+                    "verificationUrl", "http://localhost/email-verifications/token-" + i,
+                    "expiryHours", "24")), true);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private long measure(ThrowingRunnable runnable) throws Exception {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+
+    private double throughput(long nanos) {
+        return MESSAGE_COUNT / (nanos / 1_000_000_000.0);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,122 @@
+package flobitt.oww.global.ratelimit;
+
+import flobitt.oww.global.properties.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void allowsCapacityThenRejectsWithWaitTime() {
+        TokenBucketRateLimiter limiter = limiter(100, 1);
+        RateLimitRule rule = new RateLimitRule("test", 3, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 3; i++) assertThat(limiter.tryAcquire(rule, "a")).isZero();
+        long wait = limiter.tryAcquire(rule, "a");
+
+        assertThat(wait).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1).toNanos());
+        assertThat(meterRegistry.counter("ratelimit.rejected", "rule", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keysAndRulesHaveSeparateBuckets() {
+        TokenBucketRateLimiter limiter = limiter(100, 1);
+        RateLimitRule ip = new RateLimitRule("ip", 1, Duration.ofMinutes(1));
+        RateLimitRule email = new RateLimitRule("email", 1, Duration.ofMinutes(1));
+
+        assertThat(limiter.tryAcquire(ip, "a")).isZero();
+        assertThat(limiter.tryAcquire(ip, "b")).isZero();
+        assertThat(limiter.tryAcquire(email, "a")).isZero();
+        assertThat(limiter.tryAcquire(ip, "a")).isPositive();
+    }
+
+    @Test
+    void refillsAfterPeriod() throws Exception {
+        TokenBucketRateLimiter limiter = limiter(100, 1);
+        RateLimitRule rule = new RateLimitRule("test", 1, Duration.ofMillis(50));
+
+        assertThat(limiter.tryAcquire(rule, "a")).isZero();
+        assertThat(limiter.tryAcquire(rule, "a")).isPositive();
+        Thread.sleep(60);
+
+        assertThat(limiter.tryAcquire(rule, "a")).isZero();
+    }
+
+    // 스트라이프가 가득 차도 새 키는 거절하지 않고 가장 먼저 다시 차는 버킷을 내보낸다.
+    @Test
+    void evictsOldestBucketsInsteadOfRejectingNewKeys() {
+        TokenBucketRateLimiter limiter = limiter(8, 2);
+        RateLimitRule rule = new RateLimitRule("test", 1, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 100; i++) assertThat(limiter.tryAcquire(rule, "key-" + i)).isZero();
+
+        double buckets = meterRegistry.get("ratelimit.buckets").gauge().value();
+        assertThat(buckets).isLessThanOrEqualTo(8);
+        assertThat(meterRegistry.counter("ratelimit.evicted").count()).isEqualTo(100 - buckets);
+        assertThat(meterRegistry.find("ratelimit.rejected").counter()).isNull();
+        // 마지막에 들어온 키는 남아 있어서 제한이 유지된다.
+        assertThat(limiter.tryAcquire(rule, "key-99")).isPositive();
+    }
+
+    @Test
+    void sweepRemovesOnlyFullBuckets() throws Exception {
+        TokenBucketRateLimiter limiter = limiter(100, 1);
+        RateLimitRule shortRule = new RateLimitRule("short", 1, Duration.ofMillis(10));
+        RateLimitRule longRule = new RateLimitRule("long", 1, Duration.ofMinutes(1));
+        limiter.tryAcquire(shortRule, "a");
+        limiter.tryAcquire(longRule, "a");
+        Thread.sleep(20);
+
+        limiter.sweep();
+
+        assertThat(meterRegistry.get("ratelimit.buckets").gauge().value()).isEqualTo(1);
+        assertThat(limiter.tryAcquire(longRule, "a")).isPositive();
+    }
+
+    // 같은 키로 동시에 요청해도 capacity 만큼만 허용된다.
+    @Test
+    void concurrentRequestsNeverExceedCapacity() throws Exception {
+        TokenBucketRateLimiter limiter = limiter(100, 4);
+        RateLimitRule rule = new RateLimitRule("test", 50, Duration.ofMinutes(1));
+        AtomicInteger allowed = new AtomicInteger();
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire(rule, "shared") == 0) allowed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(allowed).hasValue(50);
+    }
+
+    private TokenBucketRateLimiter limiter(int maxEntries, int stripes) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxEntries(maxEntries);
+        properties.setStripes(stripes);
+        return new TokenBucketRateLimiter(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,143 @@
+package flobitt.oww.global.storage;
+
+import flobitt.oww.global.exception.FileTooLargeException;
+import flobitt.oww.global.properties.PhotoStorageProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentAddressedStoreTest {
+
+    @TempDir
+    private Path root;
+
+    @Test
+    void storesUnderContentHash() throws Exception {
+        ContentAddressedStore store = store(64);
+        byte[] body = bytes(1_000);
+
+        StoredFile stored = store.store(new ByteArrayInputStream(body), 10_000);
+
+        assertThat(stored.created()).isTrue();
+        assertThat(stored.size()).isEqualTo(body.length);
+        assertThat(stored.hash()).isEqualTo(sha256(body));
+        Path path = store.find(stored.hash()).orElseThrow();
+        assertThat(path).isEqualTo(root.resolve(stored.hash().substring(0, 2)).resolve(stored.hash().substring(2, 4)).resolve(stored.hash()));
+        assertThat(Files.readAllBytes(path)).isEqualTo(body);
+        assertThat(tmpFiles()).isZero();
+    }
+
+    // 같은 내용은 한 번만 저장하고, 두 번째 업로드의 임시 파일은 지운다.
+    @Test
+    void duplicateUploadIsNotStoredAgain() throws Exception {
+        ContentAddressedStore store = store(64);
+        byte[] body = bytes(500);
+
+        StoredFile first = store.store(new ByteArrayInputStream(body), 10_000);
+        StoredFile second = store.store(new ByteArrayInputStream(body), 10_000);
+
+        assertThat(second.created()).isFalse();
+        assertThat(second.hash()).isEqualTo(first.hash());
+        assertThat(second.size()).isEqualTo(first.size());
+        assertThat(tmpFiles()).isZero();
+    }
+
+    // 버퍼 여러 번에 걸쳐 넘으면 그 자리에서 멈추고 임시 파일을 지운다.
+    @Test
+    void oversizeBodyIsRejectedAndCleanedUp() throws Exception {
+        ContentAddressedStore store = store(64);
+
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(bytes(1_000)), 200))
+                .isInstanceOf(FileTooLargeException.class);
+
+        assertThat(tmpFiles()).isZero();
+        assertThat(storedFiles()).isZero();
+    }
+
+    // 정확히 최대 크기는 허용
+    @Test
+    void bodyOfExactlyMaxBytesIsAccepted() throws Exception {
+        ContentAddressedStore store = store(64);
+
+        StoredFile stored = store.store(new ByteArrayInputStream(bytes(256)), 256);
+
+        assertThat(stored.created()).isTrue();
+        assertThat(stored.size()).isEqualTo(256);
+    }
+
+    @Test
+    void emptyBodyIsStored() throws Exception {
+        ContentAddressedStore store = store(64);
+
+        StoredFile stored = store.store(new ByteArrayInputStream(new byte[0]), 100);
+
+        assertThat(stored.size()).isZero();
+        assertThat(stored.hash()).isEqualTo(sha256(new byte[0]));
+    }
+
+    @Test
+    void findRejectsInvalidHash() throws Exception {
+        ContentAddressedStore store = store(64);
+
+        assertThat(store.find("../../etc/passwd")).isEmpty();
+        assertThat(store.find("ABCDEF")).isEmpty();
+        assertThat(store.find(sha256("missing".getBytes(StandardCharsets.UTF_8)))).isEmpty();
+        assertThatThrownBy(() -> store.thumbnailPathOf("not-a-hash")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void writeThumbnailLeavesNoTemporaryFile() throws Exception {
+        ContentAddressedStore store = store(64);
+        String hash = store.store(new ByteArrayInputStream(bytes(100)), 1_000).hash();
+
+        store.writeThumbnail(hash, out -> out.write(new byte[]{1, 2, 3}));
+
+        assertThat(Files.readAllBytes(store.findThumbnail(hash).orElseThrow())).containsExactly(1, 2, 3);
+        assertThat(tmpFiles()).isZero();
+    }
+
+    private ContentAddressedStore store(int bufferBytes) {
+        PhotoStorageProperties properties = new PhotoStorageProperties();
+        properties.setRootDir(root.toString());
+        properties.setBufferSize(DataSize.ofBytes(bufferBytes));
+        return new ContentAddressedStore(properties);
+    }
+
+    private long tmpFiles() throws IOException {
+        try (Stream<Path> files = Files.list(root.resolve("tmp"))) {
+            return files.count();
+        }
+    }
+
+    // tmp/thumbnails 밖에 저장된 원본 파일
+    private long storedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(path -> !path.startsWith(root.resolve("tmp")) && !path.startsWith(root.resolve("thumbnails")))
+                    .count();
+        }
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) bytes[i] = (byte) (i * 31 + 7);
+        return bytes;
+    }
+
+    private static String sha256(byte[] body) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    }
+}
@@ -0,0 +1,187 @@
+package flobitt.oww.global.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoredFileResponderTest {
+
+    private static final String BODY = "0123456789";
+    private static final String ETAG = "abc123";
+    private static final String QUOTED_ETAG = "\"" + ETAG + "\"";
+
+    private final StoredFileResponder responder = new StoredFileResponder();
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void fullResponseWithoutRange() throws IOException {
+        MockHttpServletResponse response = write(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(response.getContentLengthLong()).isEqualTo(BODY.length());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(QUOTED_ETAG);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+    }
+
+    @Test
+    void closedRange() throws IOException {
+        MockHttpServletResponse response = write(range("bytes=2-5"));
+
+        assertPartial(response, "2345", "bytes 2-5/10");
+    }
+
+    // 끝이 파일 길이를 넘으면 마지막 바이트까지
+    @Test
+    void closedRangePastEndIsClamped() throws IOException {
+        MockHttpServletResponse response = write(range("bytes=7-100"));
+
+        assertPartial(response, "789", "bytes 7-9/10");
+    }
+
+    @Test
+    void openEndedRange() throws IOException {
+        MockHttpServletResponse response = write(range("bytes=6-"));
+
+        assertPartial(response, "6789", "bytes 6-9/10");
+    }
+
+    @Test
+    void suffixRange() throws IOException {
+        MockHttpServletResponse response = write(range("bytes=-3"));
+
+        assertPartial(response, "789", "bytes 7-9/10");
+    }
+
+    // 파일보다 긴 접미 구간은 전체
+    @Test
+    void suffixRangeLongerThanFile() throws IOException {
+        MockHttpServletResponse response = write(range("bytes=-50"));
+
+        assertPartial(response, BODY, "bytes 0-9/10");
+    }
+
+    @Test
+    void rangeStartingPastEndIsUnsatisfiable() throws IOException {
+        assertUnsatisfiable(write(range("bytes=10-")));
+    }
+
+    @Test
+    void reversedRangeIsUnsatisfiable() throws IOException {
+        assertUnsatisfiable(write(range("bytes=5-2")));
+    }
+
+    @Test
+    void emptySuffixRangeIsUnsatisfiable() throws IOException {
+        assertUnsatisfiable(write(range("bytes=-0")));
+    }
+
+    // 여러 구간 요청은 지원하지 않으므로 전체 응답
+    @Test
+    void multipleRangesGetFullResponse() throws IOException {
+        MockHttpServletResponse response = write(range("bytes=0-1,4-5"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void matchingIfRangeServesRange() throws IOException {
+        MockHttpServletRequest request = range("bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, QUOTED_ETAG);
+
+        assertPartial(write(request), "01", "bytes 0-1/10");
+    }
+
+    // If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 200으로
+    @Test
+    void mismatchedIfRangeServesFullBody() throws IOException {
+        MockHttpServletRequest request = range("bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, QUOTED_ETAG);
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void headSendsHeadersOnly() throws IOException {
+        MockHttpServletRequest request = range("bytes=2-5");
+        request.setMethod("HEAD");
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    // sendfile을 지원하면 본문 대신 파일 경로와 구간만 넘긴다. (end는 exclusive)
+    @Test
+    void sendfileHandsOffPathAndRange() throws IOException {
+        MockHttpServletRequest request = range("bytes=2-5");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        MockHttpServletResponse response = write(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNotNull();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(6L);
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws IOException {
+        Path file = dir.resolve("file");
+        Files.writeString(file, BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responder.write(request, response, file, ETAG, "image/jpeg", true);
+        return response;
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/photos/" + ETAG);
+    }
+
+    private static MockHttpServletRequest range(String range) {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, range);
+        return request;
+    }
+
+    private static void assertPartial(MockHttpServletResponse response, String body, String contentRange) throws IOException {
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo(contentRange);
+        assertThat(response.getContentLengthLong()).isEqualTo(body.length());
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    private static void assertUnsatisfiable(MockHttpServletResponse response) throws IOException {
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -0,0 +1,174 @@
+package flobitt.oww.load;
+
+import flobitt.oww.support.EmbeddedMariaDb;
+import flobitt.oww.support.FakeSmtpServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원가입 / 이메일 인증 부하 테스트 (./gradlew loadTest)
+ * 실제 포트로 애플리케이션을 띄우고(내장 MariaDB + 프로세스 내 SMTP) 가상 스레드 워커들이 쉬지 않고 요청을 보낸다. (closed loop)
+ *  1. 워밍업 회원가입 (JIT, 커넥션 풀, BCrypt 보정 이후 상태로 맞추기 위해, 기록하지 않음)
+ *  2. POST /users
+ *  3. GET /email-verifications/{token} (2에서 가입한 사용자의 토큰)
+ *  4. 아웃박스가 인증 메일을 모두 보낼 때까지 대기
+ * 단계별 처리량, p50/p99/p999, 히스토그램을 로그로 남기고 build/reports/load-test/auth.txt 에 저장한다.
+ * 실패한 요청이 하나라도 있거나, 모든 토큰이 200으로 인증되지 않았거나, 인증 메일이 모두 도착하지 않으면 실패한다.
+ * 값은 -Dload.* 시스템 프로퍼티로 조정한다. (예 : ./gradlew loadTest -Dload.concurrency=128 -Dload.signups=10000)
+ */
+@Tag("load-test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load-test")
+class AuthLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final int WARMUP = Integer.getInteger("load.warmup", 200);
+    private static final int SIGNUPS = Integer.getInteger("load.signups", 2_000);
+    private static final long MAIL_WAIT_SECONDS = Long.getLong("load.mailWaitSeconds", 60);
+    private static final Path REPORT = Path.of(System.getProperty("load.reportDir", "build/reports/load-test"), "auth.txt");
+
+    private static final String PASSWORD = "Passw0rd!";
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.registerProperties(registry);
+        FakeSmtpServer.registerProperties(registry);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void signUpAndVerifyEmail() throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 6);
+
+        run(new LatencyRecorder("warmup"), WARMUP, i -> signUp("lw" + run + i), 201);
+
+        LatencyRecorder signUps = new LatencyRecorder("POST /users");
+        long signUpNanos = run(signUps, SIGNUPS, i -> signUp("lt" + run + i), 201);
+
+        List<String> tokens = jdbcTemplate.queryForList("""
+                SELECT e.verification_token
+                  FROM EMAIL_VERIFICATIONS e
+                  JOIN USERS u ON u.user_id = e.user_id
+                 WHERE u.user_login_id LIKE ?
+                """, String.class, "lt" + run + "%");
+        LatencyRecorder verifications = new LatencyRecorder("GET /email-verifications/{token}");
+        long verifyNanos = run(verifications, tokens.size(), i -> HttpRequest.newBuilder(uri("/email-verifications/" + tokens.get(i))).GET().build(), 200);
+
+        // 워밍업 포함 이번 실행에서 만든 인증 메일 수
+        int expectedMails = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                  FROM EMAIL_VERIFICATIONS e
+                  JOIN USERS u ON u.user_id = e.user_id
+                 WHERE u.user_login_id LIKE ?
+                """, Integer.class, "l_" + run + "%");
+        long mailNanos = awaitMails(expectedMails);
+
+        String report = String.join(System.lineSeparator(),
+                "concurrency : " + CONCURRENCY + " virtual threads",
+                signUps.report(signUpNanos),
+                verifications.report(verifyNanos),
+                String.format("== mail outbox ==%ndelivered : %,d / %,d (%.2f s after last verification)%n",
+                        FakeSmtpServer.receivedCount(), expectedMails, mailNanos / 1e9));
+        log.info("\n{}", report);
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report);
+
+        assertThat(signUps.failures()).as("POST /users failures").isZero();
+        assertThat(tokens).hasSize(SIGNUPS);
+        assertThat(verifications.failures()).as("GET /email-verifications failures").isZero();
+        assertThat(verifications.succeeded()).isEqualTo(tokens.size());
+        assertThat(FakeSmtpServer.receivedCount()).as("delivered verification mails").isGreaterThanOrEqualTo(expectedMails);
+    }
+
+    /**
+     * 워커 CONCURRENCY개가 0 ~ total-1 번 요청을 나눠서 보낸다.
+     * @return 전체 소요 시간(ns)
+     */
+    private long run(LatencyRecorder recorder, int total, IntFunction<HttpRequest> requests, int expectedStatus) {
+        AtomicInteger next = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < CONCURRENCY; w++) {
+                LatencyRecorder.Buffer buffer = recorder.newBuffer();
+                workers.execute(() -> {
+                    for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                        HttpRequest request = requests.apply(i);
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == expectedStatus) buffer.record(System.nanoTime() - begin);
+                            else buffer.fail();
+                        } catch (IOException e) {
+                            buffer.fail();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long awaitMails(int expected) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(MAIL_WAIT_SECONDS);
+        while (FakeSmtpServer.receivedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private HttpRequest signUp(String loginId) {
+        String body = """
+                {"userLoginId":"%s","email":"%s@oww.local","password":"%s"}
+                """.formatted(loginId, loginId, PASSWORD);
+        return HttpRequest.newBuilder(uri("/users"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,115 @@
+package flobitt.oww.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 요청 지연 시간 기록 (부하 테스트용)
+ * 워커마다 자기 버퍼에만 쓰고(경합 없음), 리포트를 만들 때 모아서 정렬하므로 백분위수가 근사치가 아니라 정확한 값이다.
+ */
+class LatencyRecorder {
+
+    private static final double[] PERCENTILES = {0.50, 0.90, 0.99, 0.999};
+    private static final String[] LABELS = {"p50", "p90", "p99", "p999"};
+
+    private final String name;
+    private final ConcurrentLinkedQueue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    // 워커 스레드 하나가 쓰는 버퍼
+    Buffer newBuffer() {
+        Buffer buffer = new Buffer();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    /**
+     * 처리량, 백분위수, 로그 스케일(2배 간격) 히스토그램
+     * @param elapsedNanos 부하를 건 전체 시간
+     */
+    String report(long elapsedNanos) {
+        long[] latencies = merge();
+        long failures = failures();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "== %s ==%n", name));
+        out.append(String.format(Locale.ROOT, "requests   : %,d ok / %,d failed%n", latencies.length, failures));
+        out.append(String.format(Locale.ROOT, "elapsed    : %.2f s%n", elapsedNanos / 1e9));
+        out.append(String.format(Locale.ROOT, "throughput : %,.1f req/s%n", latencies.length / (elapsedNanos / 1e9)));
+        if (latencies.length == 0) return out.toString();
+
+        out.append(String.format(Locale.ROOT, "min        : %s%n", millis(latencies[0])));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            out.append(String.format(Locale.ROOT, "%-10s : %s%n", LABELS[i], millis(percentile(latencies, PERCENTILES[i]))));
+        }
+        out.append(String.format(Locale.ROOT, "max        : %s%n", millis(latencies[latencies.length - 1])));
+        appendHistogram(out, latencies);
+        return out.toString();
+    }
+
+    // 기대한 상태 코드로 응답한 요청 수
+    int succeeded() {
+        return buffers.stream().mapToInt(b -> b.size).sum();
+    }
+
+    // 다른 상태 코드로 응답했거나 I/O 오류가 난 요청 수
+    long failures() {
+        return buffers.stream().mapToLong(b -> b.failures).sum();
+    }
+
+    private long[] merge() {
+        long[] merged = new long[succeeded()];
+        int offset = 0;
+        for (Buffer buffer : buffers) {
+            System.arraycopy(buffer.latencies, 0, merged, offset, buffer.size);
+            offset += buffer.size;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    // 0.1ms부터 2배씩 늘어나는 구간별 요청 수
+    private void appendHistogram(StringBuilder out, long[] latencies) {
+        out.append("histogram  :\n");
+        long upper = 100_000L;
+        int from = 0;
+        while (from < latencies.length) {
+            int to = from;
+            while (to < latencies.length && latencies[to] < upper) to++;
+            if (to > from) {
+                int bar = (int) Math.ceil(50.0 * (to - from) / latencies.length);
+                out.append(String.format(Locale.ROOT, "  < %10s | %,9d | %s%n", millis(upper), to - from, "#".repeat(bar)));
+            }
+            from = to;
+            upper *= 2;
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f ms", nanos / 1e6);
+    }
+
+    static final class Buffer {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long failures;
+
+        void record(long nanos) {
+            if (size == latencies.length) latencies = Arrays.copyOf(latencies, size * 2);
+            latencies[size++] = nanos;
+        }
+
+        void fail() {
+            failures++;
+        }
+    }
+}
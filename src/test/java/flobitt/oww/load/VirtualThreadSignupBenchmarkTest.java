@@ -0,0 +1,150 @@
+package flobitt.oww.load;
+
+import flobitt.oww.OwwApplication;
+import flobitt.oww.support.EmbeddedMariaDb;
+import flobitt.oww.support.FakeSmtpServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 회원가입 처리량 : 플랫폼 스레드(Tomcat 워커 풀) vs 가상 스레드 (./gradlew benchmarkTest)
+ * 실제 애플리케이션을 spring.threads.virtual.enabled=false / true 로 한 번씩 띄우고(내장 MariaDB + 프로세스 내 SMTP, load-test 프로필)
+ * Tomcat 워커 수보다 많은 동시 사용자가 POST /users 를 쉬지 않고 보낸다. (closed loop)
+ * BCrypt, 커넥션 풀, 메일 아웃박스 모두 실제 구현이므로 결과는 이 머신에서 측정한 회원가입 처리량 그대로다.
+ * 단, 해싱 대기열(app.password-hashing.queue-capacity)은 동시 사용자 수만큼 늘린다. 운영 값(64)이면 넘친 요청이 503으로 바로 끝나서
+ * 스레드 모드가 아니라 부하 차단을 재게 된다.
+ * 리포트는 로그와 build/reports/benchmark/virtual-threads.txt 에 남긴다.
+ * 값은 -Dbench.* 시스템 프로퍼티로 조정한다. (예 : ./gradlew benchmarkTest -Dbench.concurrency=800 -Dbench.signups=5000)
+ */
+@Tag("benchmark")
+class VirtualThreadSignupBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadSignupBenchmarkTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 400);
+    private static final int PLATFORM_THREADS = Integer.getInteger("bench.platformThreads", 200);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 50);
+    private static final int SIGNUPS = Integer.getInteger("bench.signups", 500);
+    private static final Path REPORT = Path.of(System.getProperty("bench.reportDir", "build/reports/benchmark"), "virtual-threads.txt");
+
+    private static final String PASSWORD = "Passw0rd!";
+
+    @Test
+    void compareSignupThroughput() throws Exception {
+        LatencyRecorder platform = new LatencyRecorder("POST /users - platform threads (tomcat " + PLATFORM_THREADS + ")");
+        long platformNanos = measure(false, platform);
+        LatencyRecorder virtual = new LatencyRecorder("POST /users - virtual threads");
+        long virtualNanos = measure(true, virtual);
+
+        String report = String.join(System.lineSeparator(),
+                "concurrency : " + CONCURRENCY + " clients, " + SIGNUPS + " signups per mode",
+                platform.report(platformNanos),
+                virtual.report(virtualNanos));
+        log.info("\n{}", report);
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(platform.succeeded()).isEqualTo(SIGNUPS);
+        assertThat(virtual.succeeded()).isEqualTo(SIGNUPS);
+    }
+
+    /**
+     * 스레드 모드 하나로 애플리케이션을 띄워 워밍업 후 회원가입 SIGNUPS건을 보낸다.
+     * load-test 프로필은 기동할 때마다 data.sql 로 스키마를 다시 만들므로 두 모드가 같은 빈 DB에서 시작한다.
+     * @return 측정 구간 소요 시간(ns)
+     */
+    private long measure(boolean virtualThreads, LatencyRecorder recorder) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OwwApplication.class)
+                .profiles("load-test")
+                .run(args(virtualThreads));
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .build()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            String run = UUID.randomUUID().toString().substring(0, 6);
+
+            run(client, new LatencyRecorder("warmup"), WARMUP, i -> signUp(baseUrl, "bw" + run + i));
+            return run(client, recorder, SIGNUPS, i -> signUp(baseUrl, "bm" + run + i));
+        }
+    }
+
+    // 워커 CONCURRENCY개가 0 ~ total-1 번 요청을 나눠서 보낸다.
+    private long run(HttpClient client, LatencyRecorder recorder, int total, IntFunction<HttpRequest> requests) {
+        AtomicInteger next = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < CONCURRENCY; w++) {
+                LatencyRecorder.Buffer buffer = recorder.newBuffer();
+                workers.execute(() -> {
+                    for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                        HttpRequest request = requests.apply(i);
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 201) buffer.record(System.nanoTime() - begin);
+                            else buffer.fail();
+                        } catch (IOException e) {
+                            buffer.fail();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    // 명령행 인자로 넘겨야 application.yml 의 값(관리 포트 등)보다 우선한다.
+    private String[] args(boolean virtualThreads) {
+        Map<String, String> properties = new LinkedHashMap<>(EmbeddedMariaDb.properties());
+        properties.putAll(FakeSmtpServer.properties());
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        properties.put("server.tomcat.threads.max", String.valueOf(PLATFORM_THREADS));
+        properties.put("app.password-hashing.queue-capacity", String.valueOf(CONCURRENCY));
+        properties.put("app.password-hashing.timeout", "5m");
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+        return args.toArray(String[]::new);
+    }
+
+    private HttpRequest signUp(String baseUrl, String loginId) {
+        String body = """
+                {"userLoginId":"%s","email":"%s@oww.local","password":"%s"}
+                """.formatted(loginId, loginId, PASSWORD);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/users"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
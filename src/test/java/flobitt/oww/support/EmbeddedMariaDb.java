@@ -0,0 +1,68 @@
+package flobitt.oww.support;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 테스트용 내장 MariaDB (MariaDB4j)
+ * 운영과 같은 엔진이라 data.sql(JSON 함수, ON DUPLICATE KEY UPDATE 등)을 그대로 실행할 수 있다.
+ * JVM 당 한 번만 띄우고 여러 테스트 클래스가 함께 쓴다. (종료는 MariaDB4j의 shutdown hook)
+ */
+public final class EmbeddedMariaDb {
+
+    private static final String DATABASE = "oww";
+
+    private static DB db;
+
+    private EmbeddedMariaDb() {
+    }
+
+    public static synchronized void registerProperties(DynamicPropertyRegistry registry) {
+        properties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    // 테스트 컨텍스트 밖에서 직접 애플리케이션을 띄울 때 쓰는 접속 정보
+    public static synchronized Map<String, String> properties() {
+        int port = start().getConfiguration().getPort();
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:mariadb://localhost:" + port + "/" + DATABASE);
+        properties.put("spring.datasource.username", "root");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.mariadb.jdbc.Driver");
+        return properties;
+    }
+
+    private static DB start() {
+        if (db != null) return db;
+        try {
+            DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+            config.setPort(0); // 빈 포트 자동 선택
+            config.addArg("--character-set-server=utf8mb4");
+            config.addArg("--collation-server=utf8mb4_unicode_ci");
+            // CI 컨테이너처럼 root로 실행하면 mariadbd가 기동을 거부한다.
+            if ("root".equals(System.getProperty("user.name"))) config.addArg("--user=root");
+            db = DB.newEmbeddedDB(config.build());
+            db.start();
+            createDatabase(db.getConfiguration().getPort());
+            return db;
+        } catch (Exception e) {
+            throw new IllegalStateException("내장 MariaDB 기동 실패", e);
+        }
+    }
+
+    // DB.createDB는 mariadb CLI(libncurses 필요)를 실행하므로 JDBC로 만든다.
+    private static void createDatabase(int port) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:mariadb://localhost:" + port + "/", "root", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS `" + DATABASE + "`");
+        }
+    }
+}
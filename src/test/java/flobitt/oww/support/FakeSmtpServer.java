@@ -0,0 +1,47 @@
+package flobitt.oww.support;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 테스트용 프로세스 내 SMTP 서버 (GreenMail)
+ * 받은 메일은 메모리에만 쌓이고 밖으로 나가지 않는다. JVM 당 한 번만 띄운다.
+ */
+public final class FakeSmtpServer {
+
+    private static GreenMail greenMail;
+
+    private FakeSmtpServer() {
+    }
+
+    public static synchronized void registerProperties(DynamicPropertyRegistry registry) {
+        properties().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    // 테스트 컨텍스트 밖에서 직접 애플리케이션을 띄울 때 쓰는 접속 정보
+    public static synchronized Map<String, String> properties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.mail.host", "localhost");
+        properties.put("spring.mail.port", String.valueOf(start().getSmtp().getPort()));
+        return properties;
+    }
+
+    public static synchronized int receivedCount() {
+        return greenMail == null ? 0 : greenMail.getReceivedMessages().length;
+    }
+
+    private static GreenMail start() {
+        if (greenMail != null) return greenMail;
+        // 애플리케이션은 spring.mail.username/password 로 로그인하므로 인증을 끄지 않으면 535로 모두 거절된다.
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort())
+                .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+        greenMail.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(greenMail::stop));
+        return greenMail;
+    }
+}
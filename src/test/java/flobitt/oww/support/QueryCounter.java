@@ -0,0 +1,38 @@
+package flobitt.oww.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 SQL 기록
+ * MockMvc 요청은 테스트 스레드에서 그대로 실행되므로 (커밋 후 동기 리스너 포함) 요청 하나가 실행한 문장만 모인다.
+ * @Async, 스케줄러 등 다른 스레드의 쿼리는 세지 않는다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static List<String> capture(ThrowingRunnable task) throws Exception {
+        List<String> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            task.run();
+            return statements;
+        } finally {
+            RECORDING.remove();
+        }
+    }
+
+    static void record(String sql) {
+        List<String> statements = RECORDING.get();
+        if (statements != null) statements.add(sql);
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
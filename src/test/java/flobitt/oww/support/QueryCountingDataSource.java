@@ -0,0 +1,73 @@
+package flobitt.oww.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * execute* 호출마다 SQL을 QueryCounter에 기록하는 DataSource 래퍼
+ * Hibernate 통계와 달리 JdbcTemplate 쿼리도 센다. 배치는 executeBatch 한 번을 한 문장으로 본다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) return proxy == args[0];
+                    if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> wrap((Statement) result, CallableStatement.class, (String) args[0]);
+                        case "createStatement" -> wrap((Statement) result, Statement.class, null);
+                        default -> result;
+                    };
+                });
+    }
+
+    private Statement wrap(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String s ? s : "(batch)";
+                QueryCounter.record(method.getName().equals("executeBatch") ? "[batch] " + sql : sql);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}